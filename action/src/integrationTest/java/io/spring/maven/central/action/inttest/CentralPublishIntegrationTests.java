@@ -19,12 +19,24 @@ package io.spring.maven.central.action.inttest;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
 import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.Enumeration;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
@@ -39,7 +51,10 @@ import io.spring.maven.central.file.FileSet;
 import io.spring.maven.central.log.Logger;
 import io.spring.maven.central.sonatype.CentralPortalApi;
 import io.spring.maven.central.sonatype.Deployment;
+import io.spring.maven.central.sonatype.PollingStrategy;
+import io.spring.maven.central.sonatype.PollingStrategy.Backoff;
 import io.spring.maven.central.sonatype.PublishingType;
+import io.spring.maven.central.sonatype.UploadRetry;
 import org.assertj.core.api.Assertions;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
@@ -48,10 +63,15 @@ import org.junit.jupiter.api.io.TempDir;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClient;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 
 /**
  * Integration tests for {@link CentralPublish} that invoke its main method.
@@ -91,6 +111,51 @@ class CentralPublishIntegrationTests {
 		assertBundleContents(extracted);
 	}
 
+	@Test
+	void testWithoutWritingChecksumFiles(@TempDir Path tempDir, @LocalServerPort int port) throws IOException {
+		createFilesToDeploy(tempDir);
+		Action action = startAction(tempDir, port, "--centralportal.checksum.write-files=false");
+		Bundle bundle = this.sonatypePortal.awaitUpload();
+		this.sonatypePortal.setStatus(Deployment.Status.PUBLISHED);
+		action.await();
+		assertThat(tempDir.resolve("com/example/group/artifact/1.0.0/artifact-1.0.0.jar.md5")).doesNotExist();
+		assertThat(tempDir.resolve("com/example/group/artifact/1.0.0/artifact-1.0.0.jar.sha1")).doesNotExist();
+		Path extracted = tempDir.resolve("extracted-bundle");
+		extractBundle(bundle, extracted);
+		assertBundleContents(extracted);
+	}
+
+	@Test
+	void testWithStreamedBundle(@TempDir Path tempDir, @LocalServerPort int port) throws IOException {
+		createFilesToDeploy(tempDir);
+		Action action = startAction(tempDir, port, "--centralportal.bundle.stream=true");
+		Bundle bundle = this.sonatypePortal.awaitUpload();
+		this.sonatypePortal.assertCredentials(TOKEN_NAME, TOKEN);
+		this.sonatypePortal.setStatus(Deployment.Status.PUBLISHED);
+		action.await();
+		Path extracted = tempDir.resolve("extracted-bundle");
+		extractBundle(bundle, extracted);
+		assertBundleContents(extracted);
+	}
+
+	@Test
+	void testReportIfUploadFails(@TempDir Path tempDir, @LocalServerPort int port) throws IOException {
+		createFilesToDeploy(tempDir);
+		Path reportFile = tempDir.resolve("report.json");
+		this.sonatypePortal.failUploads(1, HttpStatus.INTERNAL_SERVER_ERROR);
+		try {
+			Action action = startAction(tempDir, port, "--centralportal.report-file=%s".formatted(reportFile));
+			assertThat(action.awaitFailure()).hasMessageContaining("got HTTP 500");
+		}
+		finally {
+			this.sonatypePortal.failUploads(0);
+		}
+		assertThat(reportFile).content()
+			.contains("\"status\" : \"FAILURE\"")
+			.contains("got HTTP 500")
+			.contains("\"SCAN\"");
+	}
+
 	@Test
 	void testUserManagedPublish(@TempDir Path tempDir, @LocalServerPort int port) throws Exception {
 		createFilesToDeploy(tempDir);
@@ -116,6 +181,246 @@ class CentralPublishIntegrationTests {
 		}
 	}
 
+	@Test
+	void testAsync(@TempDir Path tempDir, @LocalServerPort int port) throws Exception {
+		createFilesToDeploy(tempDir);
+		CentralPortalApi api = CentralPortalApi.create(Logger.noop(), URI.create("http://localhost:" + port),
+				TOKEN_NAME, TOKEN, RestClient.builder(), Clock.systemUTC(), Duration.ofSeconds(10),
+				Duration.ofMillis(100));
+		FileScanner scanner = FileScanner.create();
+		Bundler bundler = Bundler.create();
+		this.sonatypePortal.setStatus(Deployment.Status.PENDING);
+		try (Bundle bundle = bundler.createBundle(tempDir, scanner.scan(tempDir))) {
+			CompletableFuture<Deployment.Status> status = api
+				.uploadAsync(bundle, PublishingType.AUTOMATIC, "test-async")
+				.thenCompose(Deployment::awaitFinalStatusAsync);
+			this.sonatypePortal.awaitUpload();
+			assertThat(status).isNotDone();
+			this.sonatypePortal.setStatus(Deployment.Status.PUBLISHED);
+			assertThat(status.get(10, TimeUnit.SECONDS)).isEqualTo(Deployment.Status.PUBLISHED);
+		}
+	}
+
+	@Test
+	void testAdaptivePolling(@TempDir Path tempDir, @LocalServerPort int port) throws Exception {
+		createFilesToDeploy(tempDir);
+		Duration sleepBetweenRetries = Duration.ofSeconds(5);
+		Backoff backoff = new Backoff(Duration.ofMillis(50), sleepBetweenRetries, 2, 0.2);
+		PollingStrategy adaptive = PollingStrategy.adaptive(backoff);
+		List<Duration> delays = new CopyOnWriteArrayList<>();
+		PollingStrategy pollingStrategy = () -> {
+			PollingStrategy.Schedule schedule = adaptive.start();
+			return (status) -> {
+				Duration delay = schedule.next(status);
+				delays.add(delay);
+				return delay;
+			};
+		};
+		CentralPortalApi api = CentralPortalApi.create(Logger.noop(), URI.create("http://localhost:" + port),
+				TOKEN_NAME, TOKEN, RestClient.builder(), Clock.systemUTC(), Duration.ofSeconds(10),
+				CentralPortalApi.Options.defaults().withPollingStrategy(pollingStrategy));
+		FileScanner scanner = FileScanner.create();
+		Bundler bundler = Bundler.create();
+		this.sonatypePortal.setStatus(Deployment.Status.PENDING);
+		try (Bundle bundle = bundler.createBundle(tempDir, scanner.scan(tempDir))) {
+			this.sonatypePortal.advanceStatusOnPoll(Deployment.Status.VALIDATING, Deployment.Status.VALIDATED,
+					Deployment.Status.PUBLISHING, Deployment.Status.PUBLISHED);
+			Deployment deployment = api.upload(bundle, PublishingType.AUTOMATIC, "test-adaptive-polling");
+			deployment.awaitFinalStatus();
+			assertThat(deployment.getStatus()).isEqualTo(Deployment.Status.PUBLISHED);
+			assertThat(deployment.getPollCount()).isEqualTo(4);
+			assertThat(deployment.getStatusTransitions()).extracting(Deployment.StatusTransition::status)
+				.containsExactly(Deployment.Status.VALIDATING, Deployment.Status.VALIDATED,
+						Deployment.Status.PUBLISHING, Deployment.Status.PUBLISHED);
+			// Every poll observed a new status, so the backoff always started over
+			Duration maxInitialInterval = Duration.ofMillis(Math.round(backoff.initialInterval().toMillis() * 1.2));
+			assertThat(delays).hasSize(3)
+				.allSatisfy((delay) -> assertThat(delay).isLessThanOrEqualTo(maxInitialInterval));
+			// The final status is cached
+			deployment.awaitFinalStatus();
+			assertThat(deployment.awaitFinalStatusAsync()).succeedsWithin(Duration.ofSeconds(1))
+				.isEqualTo(Deployment.Status.PUBLISHED);
+			assertThat(deployment.getPollCount()).isEqualTo(4);
+		}
+	}
+
+	@Test
+	void testUploadRetry(@TempDir Path tempDir, @LocalServerPort int port) throws Exception {
+		createFilesToDeploy(tempDir);
+		CentralPortalApi api = createApiWithUploadRetry(port, 3);
+		FileScanner scanner = FileScanner.create();
+		Bundler bundler = Bundler.create();
+		this.sonatypePortal.setStatus(Deployment.Status.PENDING);
+		this.sonatypePortal.failUploads(2);
+		try (Bundle bundle = bundler.createBundle(tempDir, scanner.scan(tempDir))) {
+			Deployment deployment = api.upload(bundle, PublishingType.AUTOMATIC, "test-upload-retry");
+			assertThat(deployment.getId()).isEqualTo("1");
+			assertThat(this.sonatypePortal.getUploads()).isEqualTo(3);
+		}
+		finally {
+			this.sonatypePortal.failUploads(0);
+		}
+	}
+
+	@Test
+	void testUploadRetryExhausted(@TempDir Path tempDir, @LocalServerPort int port) throws Exception {
+		createFilesToDeploy(tempDir);
+		CentralPortalApi api = createApiWithUploadRetry(port, 2);
+		FileScanner scanner = FileScanner.create();
+		Bundler bundler = Bundler.create();
+		this.sonatypePortal.setStatus(Deployment.Status.PENDING);
+		this.sonatypePortal.failUploads(2);
+		try (Bundle bundle = bundler.createBundle(tempDir, scanner.scan(tempDir))) {
+			assertThatIllegalStateException()
+				.isThrownBy(() -> api.upload(bundle, PublishingType.AUTOMATIC, "test-upload-retry-exhausted"))
+				.withMessageContaining("got HTTP 503");
+			assertThat(this.sonatypePortal.getUploads()).isEqualTo(2);
+		}
+		finally {
+			this.sonatypePortal.failUploads(0);
+		}
+	}
+
+	@Test
+	void testUploadRetryOnGatewayTimeout(@TempDir Path tempDir, @LocalServerPort int port) throws Exception {
+		createFilesToDeploy(tempDir);
+		CentralPortalApi api = createApiWithUploadRetry(port, 3);
+		FileScanner scanner = FileScanner.create();
+		Bundler bundler = Bundler.create();
+		this.sonatypePortal.setStatus(Deployment.Status.PENDING);
+		this.sonatypePortal.failUploads(1, HttpStatus.GATEWAY_TIMEOUT);
+		try (Bundle bundle = bundler.createBundle(tempDir, scanner.scan(tempDir))) {
+			api.upload(bundle, PublishingType.AUTOMATIC, "test-upload-retry-gateway-timeout");
+			assertThat(this.sonatypePortal.getUploads()).isEqualTo(2);
+		}
+		finally {
+			this.sonatypePortal.failUploads(0);
+		}
+	}
+
+	@Test
+	void testUploadNotRetriedOnInternalServerError(@TempDir Path tempDir, @LocalServerPort int port) throws Exception {
+		createFilesToDeploy(tempDir);
+		CentralPortalApi api = createApiWithUploadRetry(port, 3);
+		FileScanner scanner = FileScanner.create();
+		Bundler bundler = Bundler.create();
+		this.sonatypePortal.setStatus(Deployment.Status.PENDING);
+		this.sonatypePortal.failUploads(1, HttpStatus.INTERNAL_SERVER_ERROR);
+		try (Bundle bundle = bundler.createBundle(tempDir, scanner.scan(tempDir))) {
+			assertThatIllegalStateException()
+				.isThrownBy(() -> api.upload(bundle, PublishingType.AUTOMATIC, "test-upload-internal-server-error"))
+				.withMessageContaining("got HTTP 500");
+			assertThat(this.sonatypePortal.getUploads()).isEqualTo(1);
+		}
+		finally {
+			this.sonatypePortal.failUploads(0);
+		}
+	}
+
+	@Test
+	void testUploadNotRetriedIfConnectionIsResetMidUpload(@TempDir Path tempDir) throws Exception {
+		createFilesToDeploy(tempDir);
+		FileScanner scanner = FileScanner.create();
+		Bundler bundler = Bundler.create();
+		AtomicInteger connections = new AtomicInteger();
+		ServerSocket server = new ServerSocket(0);
+		Thread resetter = Thread.ofPlatform().daemon().start(() -> resetConnectionsMidUpload(server, connections));
+		try {
+			CentralPortalApi api = createApiWithUploadRetry(server.getLocalPort(), 3);
+			try (Bundle bundle = bundler.createBundle(tempDir, scanner.scan(tempDir))) {
+				assertThatIllegalStateException()
+					.isThrownBy(() -> api.upload(bundle, PublishingType.AUTOMATIC, "test-upload-reset"))
+					.withMessageContaining("check whether a deployment named 'test-upload-reset' exists");
+			}
+		}
+		finally {
+			server.close();
+			resetter.join();
+		}
+		assertThat(connections).hasValue(1);
+	}
+
+	@Test
+	void testUploadRetryIfConnectionFails(@TempDir Path tempDir) throws Exception {
+		createFilesToDeploy(tempDir);
+		int port;
+		try (ServerSocket server = new ServerSocket(0)) {
+			port = server.getLocalPort();
+		}
+		List<String> messages = new CopyOnWriteArrayList<>();
+		CentralPortalApi api = CentralPortalApi.create(new RecordingLogger(messages),
+				URI.create("http://localhost:" + port), TOKEN_NAME, TOKEN, RestClient.builder(), Clock.systemUTC(),
+				Duration.ofSeconds(10),
+				CentralPortalApi.Options.defaults()
+					.withUploadRetry(
+							new UploadRetry(3, new Backoff(Duration.ofMillis(10), Duration.ofMillis(10), 1, 0))));
+		FileScanner scanner = FileScanner.create();
+		Bundler bundler = Bundler.create();
+		try (Bundle bundle = bundler.createBundle(tempDir, scanner.scan(tempDir))) {
+			assertThatExceptionOfType(ResourceAccessException.class)
+				.isThrownBy(() -> api.upload(bundle, PublishingType.AUTOMATIC, "test-upload-connect-failure"));
+		}
+		assertThat(messages).filteredOn((message) -> message.contains("retrying")).hasSize(2);
+	}
+
+	@Test
+	void testUploadRateLimit(@TempDir Path tempDir, @LocalServerPort int port) throws Exception {
+		createFilesToDeploy(tempDir);
+		// Random content doesn't compress, so the bundle is at least as large as the file
+		byte[] content = new byte[768 * 1024];
+		new Random(0).nextBytes(content);
+		Files.write(tempDir.resolve("com/example/group/artifact/1.0.0/artifact-1.0.0-large.jar"), content);
+		DataSize rateLimit = DataSize.ofKilobytes(256);
+		// Sleeping only advances the clock, so the throttling doesn't depend on how fast
+		// the upload runs
+		ManualClock clock = new ManualClock(Instant.parse("2026-01-01T00:00:00Z"));
+		List<Duration> sleeps = new CopyOnWriteArrayList<>();
+		CentralPortalApi api = CentralPortalApi.create(Logger.noop(), URI.create("http://localhost:" + port),
+				TOKEN_NAME, TOKEN, RestClient.builder(), clock, Duration.ofSeconds(10),
+				CentralPortalApi.Options.defaults()
+					.withPollingStrategy(PollingStrategy.fixed(Duration.ofMillis(100)))
+					.withUploadRateLimit(rateLimit)
+					.withSleeper((duration) -> {
+						sleeps.add(duration);
+						clock.advance(duration);
+					}));
+		FileScanner scanner = FileScanner.create();
+		Bundler bundler = Bundler.create();
+		this.sonatypePortal.setStatus(Deployment.Status.PENDING);
+		try (Bundle bundle = bundler.createBundle(tempDir, scanner.scan(tempDir))) {
+			api.upload(bundle, PublishingType.AUTOMATIC, "test-upload-rate-limit");
+			// The first second's worth of bytes is sent as a burst, the rest is limited
+			long limitedBytes = bundle.getSize().toBytes() - rateLimit.toBytes();
+			Duration expected = Duration.ofNanos(limitedBytes * 1_000_000_000L / rateLimit.toBytes());
+			Duration slept = sleeps.stream().reduce(Duration.ZERO, Duration::plus);
+			assertThat(slept).isBetween(expected.minusMillis(1), expected.plusMillis(1));
+		}
+	}
+
+	private static void resetConnectionsMidUpload(ServerSocket server, AtomicInteger connections) {
+		while (!server.isClosed()) {
+			try (Socket socket = server.accept()) {
+				connections.incrementAndGet();
+				// Read the request headers and the start of the body, then reset
+				socket.getInputStream().readNBytes(1024);
+				socket.setSoLinger(true, 0);
+			}
+			catch (IOException ex) {
+				// The server socket has been closed
+			}
+		}
+	}
+
+	private static CentralPortalApi createApiWithUploadRetry(int port, int maxAttempts) {
+		UploadRetry uploadRetry = new UploadRetry(maxAttempts,
+				new Backoff(Duration.ofMillis(10), Duration.ofMillis(10), 1, 0));
+		return CentralPortalApi.create(Logger.noop(), URI.create("http://localhost:" + port), TOKEN_NAME, TOKEN,
+				RestClient.builder(), Clock.systemUTC(), Duration.ofSeconds(10),
+				CentralPortalApi.Options.defaults()
+					.withPollingStrategy(PollingStrategy.fixed(Duration.ofMillis(100)))
+					.withUploadRetry(uploadRetry));
+	}
+
 	private static void assertBundleContents(Path extracted) {
 		assertThat(extracted.resolve("com/example/group/artifact/1.0.0/artifact-1.0.0-javadoc.jar"))
 			.hasContent("some javadoc jar content");
@@ -172,13 +477,15 @@ class CentralPublishIntegrationTests {
 		}
 	}
 
-	private Action startAction(Path tempDir, int port) {
-		Action action = new Action("--centralportal.base-uri=http://localhost:%d/".formatted(port),
+	private Action startAction(Path tempDir, int port, String... additionalArgs) {
+		List<String> args = new ArrayList<>(List.of("--centralportal.base-uri=http://localhost:%d/".formatted(port),
 				"--centralportal.deployment.publishing-type=automatic",
 				"--centralportal.token.name=%s".formatted(TOKEN_NAME),
 				"--centralportal.token.value=%s".formatted(TOKEN),
 				"--centralportal.directory=%s".formatted(tempDir.toAbsolutePath()),
-				"--centralportal.deployment.timeout=10s", "--centralportal.deployment.sleep-between-retries=250ms");
+				"--centralportal.deployment.timeout=10s", "--centralportal.deployment.sleep-between-retries=250ms"));
+		args.addAll(List.of(additionalArgs));
+		Action action = new Action(args.toArray(String[]::new));
 		action.start();
 		return action;
 	}
@@ -221,6 +528,60 @@ class CentralPublishIntegrationTests {
 			}
 		}
 
+		Throwable awaitFailure() {
+			Awaitility.await("action end").atMost(Duration.ofSeconds(30)).until(() -> !this.thread.isAlive());
+			Throwable exception = this.exception.get();
+			assertThat(exception).as("action failure").isNotNull();
+			return exception;
+		}
+
+	}
+
+	private record RecordingLogger(List<String> messages) implements Logger {
+
+		@Override
+		public void log(String message, Object... args) {
+			this.messages.add(message);
+		}
+
+		@Override
+		public void error(String message, Object... args) {
+			log(message, args);
+		}
+
+		@Override
+		public void debug(String message, Object... args) {
+		}
+
+	}
+
+	private static final class ManualClock extends Clock {
+
+		private final AtomicReference<Instant> instant;
+
+		ManualClock(Instant instant) {
+			this.instant = new AtomicReference<>(instant);
+		}
+
+		void advance(Duration duration) {
+			this.instant.updateAndGet((instant) -> instant.plus(duration));
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Instant instant() {
+			return this.instant.get();
+		}
+
 	}
 
 }
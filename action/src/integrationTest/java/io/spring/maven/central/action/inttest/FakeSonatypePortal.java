@@ -25,6 +25,9 @@ import java.time.Duration;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import io.spring.maven.central.bundle.Bundle;
@@ -34,6 +37,8 @@ import org.hamcrest.Matchers;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
@@ -57,21 +62,35 @@ class FakeSonatypePortal {
 
 	private final AtomicReference<Deployment.Status> status = new AtomicReference<>(Deployment.Status.PENDING);
 
+	private final Queue<Deployment.Status> statusesOnPoll = new ConcurrentLinkedQueue<>();
+
 	private final AtomicReference<Path> bundle = new AtomicReference<>();
 
 	private final AtomicReference<String> authorizationHeader = new AtomicReference<>();
 
+	private final AtomicInteger failingUploads = new AtomicInteger();
+
+	private final AtomicReference<HttpStatus> uploadFailureStatus = new AtomicReference<>(
+			HttpStatus.SERVICE_UNAVAILABLE);
+
+	private final AtomicInteger uploads = new AtomicInteger();
+
 	@PostMapping(path = "/api/v1/publisher/upload")
-	String upload(@RequestParam("name") String name, @RequestParam("publishingType") String publishingType,
-			@RequestParam("bundle") MultipartFile file, @RequestHeader("Authorization") String authorization)
-			throws IOException {
+	ResponseEntity<String> upload(@RequestParam("name") String name,
+			@RequestParam("publishingType") String publishingType, @RequestParam("bundle") MultipartFile file,
+			@RequestHeader("Authorization") String authorization) throws IOException {
 		LOGGER.info("Received upload request for name {} and publishingType {}, {} bytes", name, publishingType,
 				file.getSize());
+		this.uploads.incrementAndGet();
 		this.authorizationHeader.set(authorization);
+		if (this.failingUploads.getAndUpdate((count) -> Math.max(count - 1, 0)) > 0) {
+			LOGGER.info("Injecting failure for upload request for name {}", name);
+			return ResponseEntity.status(this.uploadFailureStatus.get()).body("Injected failure");
+		}
 		Path bundle = saveToFile(file);
 		LOGGER.debug("Saved bundle to {}", this.bundle);
 		this.bundle.set(bundle);
-		return DEPLOYMENT_ID;
+		return ResponseEntity.ok(DEPLOYMENT_ID);
 	}
 
 	Bundle awaitUpload() {
@@ -87,6 +106,10 @@ class FakeSonatypePortal {
 			throw new IllegalStateException(
 					"Expected status request for id '%s', got '%s'".formatted(DEPLOYMENT_ID, id));
 		}
+		Deployment.Status next = this.statusesOnPoll.poll();
+		if (next != null) {
+			this.status.set(next);
+		}
 		return new StatusResponse(DEPLOYMENT_ID, "dummy", this.status.get().name(), Collections.emptyList());
 	}
 
@@ -105,10 +128,34 @@ class FakeSonatypePortal {
 		this.status.set(Deployment.Status.PUBLISHING);
 	}
 
+	void failUploads(int count) {
+		failUploads(count, HttpStatus.SERVICE_UNAVAILABLE);
+	}
+
+	void failUploads(int count, HttpStatus status) {
+		this.uploadFailureStatus.set(status);
+		this.failingUploads.set(count);
+		this.uploads.set(0);
+	}
+
+	int getUploads() {
+		return this.uploads.get();
+	}
+
 	void setStatus(Deployment.Status status) {
+		this.statusesOnPoll.clear();
 		this.status.set(status);
 	}
 
+	/**
+	 * Advances the status of the deployment to the next of the given statuses whenever
+	 * the status is requested.
+	 * @param statuses the statuses to report, one per status request
+	 */
+	void advanceStatusOnPoll(Deployment.Status... statuses) {
+		this.statusesOnPoll.addAll(List.of(statuses));
+	}
+
 	void assertCredentials(String tokenName, String token) {
 		String authorization = this.authorizationHeader.get();
 		assertThat(authorization).isNotNull();
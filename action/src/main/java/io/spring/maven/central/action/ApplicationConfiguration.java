@@ -16,22 +16,45 @@
 
 package io.spring.maven.central.action;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
 import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 
+import io.spring.maven.central.bundle.BundleSplitter;
 import io.spring.maven.central.bundle.Bundler;
+import io.spring.maven.central.bundle.CompressionStrategy;
+import io.spring.maven.central.bundle.EntryMethodPolicy;
 import io.spring.maven.central.checksum.ChecksumCreator;
 import io.spring.maven.central.checksum.ChecksumPolicy;
 import io.spring.maven.central.deploy.ArtifactAwaiter;
+import io.spring.maven.central.deploy.ArtifactDiscovery;
+import io.spring.maven.central.deploy.ArtifactProbe;
 import io.spring.maven.central.deploy.Deployer;
 import io.spring.maven.central.file.FileScanner;
 import io.spring.maven.central.log.Logger;
 import io.spring.maven.central.sonatype.CentralPortalApi;
+import io.spring.maven.central.sonatype.Deployment;
+import io.spring.maven.central.sonatype.DeploymentHistory;
+import io.spring.maven.central.sonatype.PollingStrategy;
+import io.spring.maven.central.sonatype.PollingStrategy.Backoff;
 import io.spring.maven.central.sonatype.PublishingType;
+import io.spring.maven.central.sonatype.UploadRetry;
+import tools.jackson.databind.json.JsonMapper;
 
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.restclient.RestClientCustomizer;
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.util.StringUtils;
 import org.springframework.web.client.RestClient;
 
 /**
@@ -45,6 +68,12 @@ class ApplicationConfiguration {
 
 	private final CentralPublishProperties properties;
 
+	// Hashing and compressing are CPU-bound and always run on platform threads
+	private final ThreadFactory cpuThreadFactory = Thread.ofPlatform()
+		.name("central-publish-cpu-", 0)
+		.daemon()
+		.factory();
+
 	ApplicationConfiguration(CentralPublishProperties properties) {
 		this.properties = properties;
 	}
@@ -54,10 +83,23 @@ class ApplicationConfiguration {
 		return FileScanner.create();
 	}
 
+	@Bean
+	ThreadFactory threadFactory(Environment environment) {
+		if (Threading.VIRTUAL.isActive(environment)) {
+			return Thread.ofVirtual().name("central-publish-", 0).factory();
+		}
+		return Thread.ofPlatform().name("central-publish-", 0).daemon().factory();
+	}
+
 	@Bean
 	ChecksumCreator creator(Logger logger) {
-		return ChecksumCreator.create(logger, (this.properties.getChecksum().isFailOnExistingChecksums()
-				? ChecksumPolicy.FAIL_ON_EXISTING : ChecksumPolicy.OVERWRITE_EXISTING));
+		CentralPublishProperties.Checksum checksum = this.properties.getChecksum();
+		ChecksumCreator.Options options = ChecksumCreator.Options.defaults()
+			.withParallelism(checksum.getParallelism())
+			.withLargeFiles(checksum.getLargeFileThreshold(), checksum.getLargeFileBufferSize())
+			.withThreadFactory(this.cpuThreadFactory);
+		return ChecksumCreator.create(logger, (checksum.isFailOnExistingChecksums() ? ChecksumPolicy.FAIL_ON_EXISTING
+				: ChecksumPolicy.OVERWRITE_EXISTING), options);
 	}
 
 	@Bean
@@ -69,45 +111,102 @@ class ApplicationConfiguration {
 	Logger logger() {
 		if (runsOnGithubActions()) {
 			boolean debugEnabled = Boolean.parseBoolean(System.getenv("ACTIONS_STEP_DEBUG"));
-			return Logger.githubActions(debugEnabled);
+			String stepSummary = System.getenv("GITHUB_STEP_SUMMARY");
+			return Logger.githubActions(debugEnabled, StringUtils.hasLength(stepSummary) ? Path.of(stepSummary) : null);
 		}
 		return Logger.slf4j();
 	}
 
 	@Bean
-	RestClientCustomizer restClientCustomizer() {
-		return (builder) -> builder.defaultHeader("User-Agent", "central-publish-action");
+	RestClientCustomizer restClientCustomizer(HttpClient httpClient, ThreadFactory threadFactory) {
+		// All RestClients share the HttpClient and with it its pool of keep-alive
+		// connections
+		JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient,
+				Executors.newThreadPerTaskExecutor(threadFactory));
+		requestFactory.setReadTimeout(this.properties.getHttp().getReadTimeout());
+		return (builder) -> builder.defaultHeader("User-Agent", "central-publish-action")
+			.requestFactory(requestFactory);
+	}
+
+	@Bean
+	HttpClient httpClient(ThreadFactory threadFactory) {
+		CentralPublishProperties.Http http = this.properties.getHttp();
+		return HttpClient.newBuilder()
+			.version(http.isHttp2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+			.connectTimeout(http.getConnectTimeout())
+			.followRedirects(HttpClient.Redirect.NORMAL)
+			.executor(Executors.newThreadPerTaskExecutor(threadFactory))
+			.build();
 	}
 
 	@Bean
 	Bundler bundler() {
-		return Bundler.create();
+		CentralPublishProperties.Bundle bundle = this.properties.getBundle();
+		return Bundler.create(Bundler.Options.defaults()
+			.withParallelism(bundle.getParallelism())
+			.withEntryMethodPolicy(EntryMethodPolicy.contentAware())
+			.withCompressionLevel(bundle.getCompressionLevel())
+			.withCompressionStrategy(getCompressionStrategy(bundle))
+			.withThreadFactory(this.cpuThreadFactory));
+	}
+
+	@Bean
+	DeploymentReporter deploymentReporter(Logger logger, JsonMapper jsonMapper) {
+		String reportFile = this.properties.getReportFile();
+		String githubOutput = runsOnGithubActions() ? System.getenv("GITHUB_OUTPUT") : null;
+		return new DeploymentReporter(logger, jsonMapper,
+				StringUtils.hasLength(reportFile) ? Path.of(reportFile) : null,
+				StringUtils.hasLength(githubOutput) ? Path.of(githubOutput) : null);
 	}
 
 	@Bean
 	CentralPortalApi centralPortalApi(CentralPublishProperties properties, Logger logger,
-			RestClient.Builder restClientBuilder, Clock clock) {
+			RestClient.Builder restClientBuilder, Clock clock, ThreadFactory threadFactory) {
 		CentralPublishProperties.Token token = properties.getToken();
 		CentralPublishProperties.Deployment deployment = properties.getDeployment();
+		CentralPortalApi.Options options = CentralPortalApi.Options.defaults()
+			.withPollingStrategy(getPollingStrategy(deployment, logger))
+			.withThreadFactory(threadFactory)
+			.withUploadBufferSize(properties.getHttp().getUploadBufferSize())
+			.withUploadRetry(getUploadRetry(properties.getBundle(), logger))
+			.withUploadRateLimit(properties.getHttp().getUploadRateLimit());
 		return CentralPortalApi.create(logger, properties.getBaseUri(), token.getName(), token.getValue(),
-				restClientBuilder, clock, deployment.getTimeout(), deployment.getSleepBetweenRetries());
+				restClientBuilder, clock, deployment.getTimeout(), options);
 	}
 
 	@Bean
 	Deployer deployer(CentralPublishProperties properties, Logger logger, FileScanner fileScanner,
 			ChecksumCreator checksumCreator, Bundler bundler, CentralPortalApi centralPortalApi,
-			ArtifactAwaiter artifactAwaiter) {
+			ArtifactAwaiter artifactAwaiter, ThreadFactory threadFactory) {
 		CentralPublishProperties.Deployment deployment = properties.getDeployment();
+		CentralPublishProperties.Bundle bundle = properties.getBundle();
+		BundleSplitter bundleSplitter = (bundle.isSplit()) ? BundleSplitter.create(bundle.getMaxSize())
+				: BundleSplitter.none();
+		Deployer.Options options = Deployer.Options.defaults()
+			.withWriteChecksumFiles(properties.getChecksum().isWriteFiles())
+			.withStreamBundle(bundle.isStream())
+			.withBundleSplitter(bundleSplitter)
+			.withUploadParallelism(bundle.getUploadParallelism())
+			.withThreadFactory(threadFactory)
+			.withAwaitArtifactWhilePublishing(deployment.isAwaitArtifactWhilePublishing())
+			.withArtifactDiscovery(getArtifactDiscovery(deployment));
 		return Deployer.create(logger, getPublishingType(deployment), fileScanner, checksumCreator, bundler,
-				centralPortalApi, artifactAwaiter);
+				centralPortalApi, artifactAwaiter, options);
 	}
 
 	@Bean
 	ArtifactAwaiter artifactAwaiter(CentralPublishProperties properties, Logger logger,
-			RestClient.Builder restClientBuilder) {
+			RestClient.Builder restClientBuilder, ThreadFactory threadFactory) {
+		List<URI> baseUris = new ArrayList<>();
+		baseUris.add(properties.getMavenCentralBaseUri());
+		baseUris.addAll(properties.getMavenCentralMirrors());
+		Integer quorum = properties.getMavenCentralQuorum();
+		ArtifactAwaiter.Options options = ArtifactAwaiter.Options.defaults()
+			.withQuorum((quorum != null) ? quorum : baseUris.size())
+			.withThreadFactory(threadFactory)
+			.withProbe(getArtifactProbe(properties.getDeployment()));
 		return ArtifactAwaiter.create(logger, properties.getDeployment().getTimeout(),
-				properties.getDeployment().getSleepBetweenRetries(), properties.getMavenCentralBaseUri(),
-				restClientBuilder);
+				properties.getDeployment().getSleepBetweenRetries(), baseUris, restClientBuilder, options);
 	}
 
 	private PublishingType getPublishingType(CentralPublishProperties.Deployment properties) {
@@ -117,6 +216,63 @@ class ApplicationConfiguration {
 		};
 	}
 
+	private UploadRetry getUploadRetry(CentralPublishProperties.Bundle properties, Logger logger) {
+		if (properties.isStream() && properties.getUploadAttempts() > 1) {
+			logger.log(
+					"Streamed bundles can't be sent again, uploads won't be retried although {} attempts are configured",
+					properties.getUploadAttempts());
+			return UploadRetry.none();
+		}
+		Backoff backoff = new Backoff(properties.getUploadRetryInitialInterval(),
+				properties.getUploadRetryMaxInterval(), 2, 0.2);
+		return new UploadRetry(properties.getUploadAttempts(), backoff);
+	}
+
+	private ArtifactDiscovery getArtifactDiscovery(CentralPublishProperties.Deployment properties) {
+		boolean requireJar = getArtifactProbe(properties) == ArtifactProbe.JAR;
+		return switch (properties.getArtifactDiscovery()) {
+			case NONE -> ArtifactDiscovery.none();
+			case ALL -> ArtifactDiscovery.all(requireJar);
+			case SAMPLE -> ArtifactDiscovery.sample(properties.getArtifactDiscoverySampleSize(), requireJar);
+		};
+	}
+
+	private ArtifactProbe getArtifactProbe(CentralPublishProperties.Deployment properties) {
+		return switch (properties.getArtifactProbe()) {
+			case JAR -> ArtifactProbe.JAR;
+			case POM -> ArtifactProbe.POM;
+			case METADATA -> ArtifactProbe.METADATA;
+		};
+	}
+
+	private CompressionStrategy getCompressionStrategy(CentralPublishProperties.Bundle properties) {
+		return switch (properties.getCompressionStrategy()) {
+			case DEFAULT -> CompressionStrategy.DEFAULT;
+			case FILTERED -> CompressionStrategy.FILTERED;
+			case HUFFMAN_ONLY -> CompressionStrategy.HUFFMAN_ONLY;
+		};
+	}
+
+	private PollingStrategy getPollingStrategy(CentralPublishProperties.Deployment properties, Logger logger) {
+		CentralPublishProperties.Polling polling = properties.getPolling();
+		PollingStrategy pollingStrategy = switch (polling.getStrategy()) {
+			case FIXED -> PollingStrategy.fixed(properties.getSleepBetweenRetries());
+			case ADAPTIVE -> {
+				Backoff backoff = new Backoff(polling.getInitialInterval(), polling.getMaxInterval(),
+						polling.getMultiplier(), polling.getJitter());
+				Backoff publishingBackoff = new Backoff(polling.getPublishingInitialInterval(),
+						polling.getMaxInterval(), polling.getMultiplier(), polling.getJitter());
+				yield PollingStrategy.adaptive(backoff, Map.of(Deployment.Status.PUBLISHING, publishingBackoff));
+			}
+		};
+		String historyFile = polling.getHistoryFile();
+		if (StringUtils.hasLength(historyFile)) {
+			DeploymentHistory history = DeploymentHistory.file(logger, Path.of(historyFile));
+			return PollingStrategy.history(history, pollingStrategy);
+		}
+		return pollingStrategy;
+	}
+
 	private boolean runsOnGithubActions() {
 		return Boolean.parseBoolean(System.getenv("GITHUB_ACTIONS"));
 	}
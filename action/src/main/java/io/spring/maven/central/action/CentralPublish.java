@@ -16,9 +16,12 @@
 
 package io.spring.maven.central.action;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import io.spring.maven.central.deploy.Coordinates;
 import io.spring.maven.central.deploy.Deployer;
-import org.jspecify.annotations.Nullable;
+import io.spring.maven.central.deploy.DeploymentMetrics;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
@@ -38,10 +41,20 @@ public class CentralPublish {
 		try (ConfigurableApplicationContext app = SpringApplication.run(CentralPublish.class, args)) {
 			CentralPublishProperties properties = app.getBean(CentralPublishProperties.class);
 			Deployer deployer = app.getBean(Deployer.class);
+			DeploymentReporter reporter = app.getBean(DeploymentReporter.class);
 			CentralPublishProperties.Deployment deployment = properties.getDeployment();
-			result = deployer.deploy(properties.getDirectoryAsPath(), deployment.isDropOnFailure(),
-					deployment.isIgnoreAlreadyExistsError(), getAwaitArtifact(deployment.getAwaitArtifact()),
-					deployment.getName());
+			DeploymentMetrics metrics = new DeploymentMetrics();
+			try {
+				result = deployer.deploy(properties.getDirectoryAsPath(), deployment.isDropOnFailure(),
+						deployment.isIgnoreAlreadyExistsError(), getAwaitArtifacts(deployment.getAwaitArtifact()),
+						deployment.getName(), metrics);
+			}
+			catch (RuntimeException ex) {
+				// Failed uploads, timeouts and missing artifacts are reported as well
+				reporter.reportFailure(ex, metrics);
+				throw ex;
+			}
+			reporter.report(result);
 		}
 		int status = switch (result.status()) {
 			case SUCCESS -> 0;
@@ -50,11 +63,14 @@ public class CentralPublish {
 		System.exit(status);
 	}
 
-	private static @Nullable Coordinates getAwaitArtifact(@Nullable String coordinates) {
-		if (!StringUtils.hasLength(coordinates)) {
-			return null;
+	private static List<Coordinates> getAwaitArtifacts(List<String> coordinates) {
+		List<Coordinates> result = new ArrayList<>();
+		for (String entry : coordinates) {
+			if (StringUtils.hasText(entry)) {
+				result.add(Coordinates.parse(entry.trim()));
+			}
 		}
-		return Coordinates.parse(coordinates);
+		return result;
 	}
 
 }
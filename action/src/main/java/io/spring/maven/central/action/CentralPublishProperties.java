@@ -19,13 +19,19 @@ package io.spring.maven.central.action;
 import java.net.URI;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 import org.springframework.validation.annotation.Validated;
 
 /**
@@ -43,18 +49,30 @@ public class CentralPublishProperties {
 	@NotNull
 	private URI mavenCentralBaseUri = URI.create("https://repo.maven.apache.org/maven2/");
 
+	private List<URI> mavenCentralMirrors = new ArrayList<>();
+
+	private @Nullable Integer mavenCentralQuorum;
+
 	@Valid
 	private final Token token = new Token();
 
 	@Valid
 	private final Checksum checksum = new Checksum();
 
+	@Valid
+	private final Bundle bundle = new Bundle();
+
 	@Valid
 	private final Deployment deployment = new Deployment();
 
+	@Valid
+	private final Http http = new Http();
+
 	@NotBlank
 	private String directory = "nexus";
 
+	private @Nullable String reportFile;
+
 	public URI getBaseUri() {
 		return this.baseUri;
 	}
@@ -71,6 +89,22 @@ public class CentralPublishProperties {
 		this.mavenCentralBaseUri = mavenCentralBaseUri;
 	}
 
+	public List<URI> getMavenCentralMirrors() {
+		return this.mavenCentralMirrors;
+	}
+
+	public void setMavenCentralMirrors(List<URI> mavenCentralMirrors) {
+		this.mavenCentralMirrors = mavenCentralMirrors;
+	}
+
+	public @Nullable Integer getMavenCentralQuorum() {
+		return this.mavenCentralQuorum;
+	}
+
+	public void setMavenCentralQuorum(@Nullable Integer mavenCentralQuorum) {
+		this.mavenCentralQuorum = mavenCentralQuorum;
+	}
+
 	public Token getToken() {
 		return this.token;
 	}
@@ -87,14 +121,30 @@ public class CentralPublishProperties {
 		this.directory = directory;
 	}
 
+	public @Nullable String getReportFile() {
+		return this.reportFile;
+	}
+
+	public void setReportFile(@Nullable String reportFile) {
+		this.reportFile = reportFile;
+	}
+
 	public Checksum getChecksum() {
 		return this.checksum;
 	}
 
+	public Bundle getBundle() {
+		return this.bundle;
+	}
+
 	public Deployment getDeployment() {
 		return this.deployment;
 	}
 
+	public Http getHttp() {
+		return this.http;
+	}
+
 	@Validated
 	public static class Token {
 
@@ -127,6 +177,17 @@ public class CentralPublishProperties {
 
 		private boolean failOnExistingChecksums = true;
 
+		private boolean writeFiles = true;
+
+		@Min(1)
+		private int parallelism = 1;
+
+		@NotNull
+		private DataSize largeFileThreshold = DataSize.ofMegabytes(1);
+
+		@NotNull
+		private DataSize largeFileBufferSize = DataSize.ofMegabytes(1);
+
 		public boolean isFailOnExistingChecksums() {
 			return this.failOnExistingChecksums;
 		}
@@ -135,6 +196,160 @@ public class CentralPublishProperties {
 			this.failOnExistingChecksums = failOnExistingChecksums;
 		}
 
+		public boolean isWriteFiles() {
+			return this.writeFiles;
+		}
+
+		public void setWriteFiles(boolean writeFiles) {
+			this.writeFiles = writeFiles;
+		}
+
+		public int getParallelism() {
+			return this.parallelism;
+		}
+
+		public void setParallelism(int parallelism) {
+			this.parallelism = parallelism;
+		}
+
+		public DataSize getLargeFileThreshold() {
+			return this.largeFileThreshold;
+		}
+
+		public void setLargeFileThreshold(DataSize largeFileThreshold) {
+			this.largeFileThreshold = largeFileThreshold;
+		}
+
+		public DataSize getLargeFileBufferSize() {
+			return this.largeFileBufferSize;
+		}
+
+		public void setLargeFileBufferSize(DataSize largeFileBufferSize) {
+			this.largeFileBufferSize = largeFileBufferSize;
+		}
+
+	}
+
+	@Validated
+	public static class Bundle {
+
+		private static final DataSize MAX_BUNDLE_SIZE = DataSize.ofGigabytes(1);
+
+		@Min(1)
+		private int parallelism = 1;
+
+		@Min(0)
+		@Max(9)
+		private int compressionLevel = 6;
+
+		@NotNull
+		private CompressionStrategy compressionStrategy = CompressionStrategy.DEFAULT;
+
+		private boolean stream;
+
+		private boolean split;
+
+		@NotNull
+		private DataSize maxSize = DataSize.ofGigabytes(1);
+
+		@Min(1)
+		private int uploadParallelism = 4;
+
+		@Min(1)
+		private int uploadAttempts = 3;
+
+		@NotNull
+		private Duration uploadRetryInitialInterval = Duration.ofSeconds(5);
+
+		@NotNull
+		private Duration uploadRetryMaxInterval = Duration.ofMinutes(1);
+
+		public int getParallelism() {
+			return this.parallelism;
+		}
+
+		public void setParallelism(int parallelism) {
+			this.parallelism = parallelism;
+		}
+
+		public int getCompressionLevel() {
+			return this.compressionLevel;
+		}
+
+		public void setCompressionLevel(int compressionLevel) {
+			this.compressionLevel = compressionLevel;
+		}
+
+		public CompressionStrategy getCompressionStrategy() {
+			return this.compressionStrategy;
+		}
+
+		public void setCompressionStrategy(CompressionStrategy compressionStrategy) {
+			this.compressionStrategy = compressionStrategy;
+		}
+
+		public boolean isStream() {
+			return this.stream;
+		}
+
+		public void setStream(boolean stream) {
+			this.stream = stream;
+		}
+
+		public boolean isSplit() {
+			return this.split;
+		}
+
+		public void setSplit(boolean split) {
+			this.split = split;
+		}
+
+		public DataSize getMaxSize() {
+			return this.maxSize;
+		}
+
+		public void setMaxSize(DataSize maxSize) {
+			this.maxSize = maxSize;
+		}
+
+		public int getUploadParallelism() {
+			return this.uploadParallelism;
+		}
+
+		public void setUploadParallelism(int uploadParallelism) {
+			this.uploadParallelism = uploadParallelism;
+		}
+
+		public int getUploadAttempts() {
+			return this.uploadAttempts;
+		}
+
+		public void setUploadAttempts(int uploadAttempts) {
+			this.uploadAttempts = uploadAttempts;
+		}
+
+		public Duration getUploadRetryInitialInterval() {
+			return this.uploadRetryInitialInterval;
+		}
+
+		public void setUploadRetryInitialInterval(Duration uploadRetryInitialInterval) {
+			this.uploadRetryInitialInterval = uploadRetryInitialInterval;
+		}
+
+		public Duration getUploadRetryMaxInterval() {
+			return this.uploadRetryMaxInterval;
+		}
+
+		public void setUploadRetryMaxInterval(Duration uploadRetryMaxInterval) {
+			this.uploadRetryMaxInterval = uploadRetryMaxInterval;
+		}
+
+		@AssertTrue(message = "must be greater than 0B and at most 1GB, the maximum bundle size of the Central Portal")
+		boolean isMaxSizeValid() {
+			return this.maxSize == null
+					|| (this.maxSize.toBytes() > 0 && this.maxSize.toBytes() <= MAX_BUNDLE_SIZE.toBytes());
+		}
+
 	}
 
 	@Validated
@@ -153,7 +368,19 @@ public class CentralPublishProperties {
 
 		private @Nullable String name;
 
-		private @Nullable String awaitArtifact;
+		private List<String> awaitArtifact = new ArrayList<>();
+
+		private boolean awaitArtifactWhilePublishing;
+
+		private ArtifactProbe artifactProbe = ArtifactProbe.JAR;
+
+		private ArtifactDiscovery artifactDiscovery = ArtifactDiscovery.NONE;
+
+		@Min(1)
+		private int artifactDiscoverySampleSize = 10;
+
+		@Valid
+		private final Polling polling = new Polling();
 
 		public PublishingType getPublishingType() {
 			return this.publishingType;
@@ -187,14 +414,46 @@ public class CentralPublishProperties {
 			this.sleepBetweenRetries = sleepBetweenRetries;
 		}
 
-		public @Nullable String getAwaitArtifact() {
+		public List<String> getAwaitArtifact() {
 			return this.awaitArtifact;
 		}
 
-		public void setAwaitArtifact(@Nullable String awaitArtifact) {
+		public void setAwaitArtifact(List<String> awaitArtifact) {
 			this.awaitArtifact = awaitArtifact;
 		}
 
+		public boolean isAwaitArtifactWhilePublishing() {
+			return this.awaitArtifactWhilePublishing;
+		}
+
+		public void setAwaitArtifactWhilePublishing(boolean awaitArtifactWhilePublishing) {
+			this.awaitArtifactWhilePublishing = awaitArtifactWhilePublishing;
+		}
+
+		public ArtifactProbe getArtifactProbe() {
+			return this.artifactProbe;
+		}
+
+		public void setArtifactProbe(ArtifactProbe artifactProbe) {
+			this.artifactProbe = artifactProbe;
+		}
+
+		public ArtifactDiscovery getArtifactDiscovery() {
+			return this.artifactDiscovery;
+		}
+
+		public void setArtifactDiscovery(ArtifactDiscovery artifactDiscovery) {
+			this.artifactDiscovery = artifactDiscovery;
+		}
+
+		public int getArtifactDiscoverySampleSize() {
+			return this.artifactDiscoverySampleSize;
+		}
+
+		public void setArtifactDiscoverySampleSize(int artifactDiscoverySampleSize) {
+			this.artifactDiscoverySampleSize = artifactDiscoverySampleSize;
+		}
+
 		public boolean isIgnoreAlreadyExistsError() {
 			return this.ignoreAlreadyExistsError;
 		}
@@ -211,6 +470,150 @@ public class CentralPublishProperties {
 			this.name = name;
 		}
 
+		public Polling getPolling() {
+			return this.polling;
+		}
+
+	}
+
+	@Validated
+	public static class Polling {
+
+		@NotNull
+		private PollingStrategy strategy = PollingStrategy.FIXED;
+
+		@NotNull
+		private Duration initialInterval = Duration.ofSeconds(1);
+
+		@NotNull
+		private Duration maxInterval = Duration.ofMinutes(1);
+
+		@NotNull
+		private Duration publishingInitialInterval = Duration.ofSeconds(30);
+
+		@Min(1)
+		private double multiplier = 2;
+
+		@Min(0)
+		@Max(1)
+		private double jitter = 0.2;
+
+		private @Nullable String historyFile;
+
+		public PollingStrategy getStrategy() {
+			return this.strategy;
+		}
+
+		public void setStrategy(PollingStrategy strategy) {
+			this.strategy = strategy;
+		}
+
+		public Duration getInitialInterval() {
+			return this.initialInterval;
+		}
+
+		public void setInitialInterval(Duration initialInterval) {
+			this.initialInterval = initialInterval;
+		}
+
+		public Duration getMaxInterval() {
+			return this.maxInterval;
+		}
+
+		public void setMaxInterval(Duration maxInterval) {
+			this.maxInterval = maxInterval;
+		}
+
+		public Duration getPublishingInitialInterval() {
+			return this.publishingInitialInterval;
+		}
+
+		public void setPublishingInitialInterval(Duration publishingInitialInterval) {
+			this.publishingInitialInterval = publishingInitialInterval;
+		}
+
+		public double getMultiplier() {
+			return this.multiplier;
+		}
+
+		public void setMultiplier(double multiplier) {
+			this.multiplier = multiplier;
+		}
+
+		public double getJitter() {
+			return this.jitter;
+		}
+
+		public void setJitter(double jitter) {
+			this.jitter = jitter;
+		}
+
+		public @Nullable String getHistoryFile() {
+			return this.historyFile;
+		}
+
+		public void setHistoryFile(@Nullable String historyFile) {
+			this.historyFile = historyFile;
+		}
+
+	}
+
+	@Validated
+	public static class Http {
+
+		@NotNull
+		private Duration connectTimeout = Duration.ofSeconds(10);
+
+		@NotNull
+		private Duration readTimeout = Duration.ofMinutes(30);
+
+		private boolean http2 = true;
+
+		@NotNull
+		private DataSize uploadBufferSize = DataSize.ofKilobytes(64);
+
+		private @Nullable DataSize uploadRateLimit;
+
+		public Duration getConnectTimeout() {
+			return this.connectTimeout;
+		}
+
+		public void setConnectTimeout(Duration connectTimeout) {
+			this.connectTimeout = connectTimeout;
+		}
+
+		public Duration getReadTimeout() {
+			return this.readTimeout;
+		}
+
+		public void setReadTimeout(Duration readTimeout) {
+			this.readTimeout = readTimeout;
+		}
+
+		public boolean isHttp2() {
+			return this.http2;
+		}
+
+		public void setHttp2(boolean http2) {
+			this.http2 = http2;
+		}
+
+		public DataSize getUploadBufferSize() {
+			return this.uploadBufferSize;
+		}
+
+		public void setUploadBufferSize(DataSize uploadBufferSize) {
+			this.uploadBufferSize = uploadBufferSize;
+		}
+
+		public @Nullable DataSize getUploadRateLimit() {
+			return this.uploadRateLimit;
+		}
+
+		public void setUploadRateLimit(@Nullable DataSize uploadRateLimit) {
+			this.uploadRateLimit = uploadRateLimit;
+		}
+
 	}
 
 	public enum PublishingType {
@@ -227,4 +630,76 @@ public class CentralPublishProperties {
 
 	}
 
+	public enum CompressionStrategy {
+
+		/**
+		 * The default strategy.
+		 */
+		DEFAULT,
+
+		/**
+		 * Strategy for data consisting mostly of small values.
+		 */
+		FILTERED,
+
+		/**
+		 * Huffman coding only.
+		 */
+		HUFFMAN_ONLY
+
+	}
+
+	public enum PollingStrategy {
+
+		/**
+		 * Waits for the same interval between every status poll.
+		 */
+		FIXED,
+
+		/**
+		 * Polls fast at first and then backs off exponentially.
+		 */
+		ADAPTIVE
+
+	}
+
+	public enum ArtifactProbe {
+
+		/**
+		 * Checks whether the JAR file of the artifact exists.
+		 */
+		JAR,
+
+		/**
+		 * Checks whether the POM file of the artifact exists.
+		 */
+		POM,
+
+		/**
+		 * Checks whether the Maven metadata of the artifact lists the version, falling
+		 * back to checking whether the POM file exists.
+		 */
+		METADATA
+
+	}
+
+	public enum ArtifactDiscovery {
+
+		/**
+		 * Doesn't discover any artifacts.
+		 */
+		NONE,
+
+		/**
+		 * Discovers every artifact in the directory.
+		 */
+		ALL,
+
+		/**
+		 * Discovers a sample of the artifacts in the directory.
+		 */
+		SAMPLE
+
+	}
+
 }
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.action;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import io.spring.maven.central.deploy.Deployer;
+import io.spring.maven.central.deploy.DeploymentMetrics;
+import io.spring.maven.central.deploy.DeploymentMetrics.Phase;
+import io.spring.maven.central.deploy.DeploymentMetrics.PhaseMetrics;
+import io.spring.maven.central.log.Logger;
+import io.spring.maven.central.sonatype.Deployment;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Writes a JSON report of a deployment and exposes its key fields as outputs of the
+ * GitHub action.
+ *
+ * @author Moritz Halbritter
+ */
+class DeploymentReporter {
+
+	private final Logger logger;
+
+	private final JsonMapper jsonMapper;
+
+	private final @Nullable Path reportFile;
+
+	private final @Nullable Path githubOutput;
+
+	DeploymentReporter(Logger logger, JsonMapper jsonMapper, @Nullable Path reportFile, @Nullable Path githubOutput) {
+		this.logger = logger;
+		this.jsonMapper = jsonMapper;
+		this.reportFile = reportFile;
+		this.githubOutput = githubOutput;
+	}
+
+	/**
+	 * Writes the report of the given deployment result. Failures are logged, they don't
+	 * fail the deployment.
+	 * @param result the deployment result
+	 */
+	void report(Deployer.Result result) {
+		write(createReport(result));
+	}
+
+	/**
+	 * Writes the report of a deployment which failed with the given exception, e.g. a
+	 * failed upload or a timeout. The deployments which have been created until then are
+	 * included, so that they can be dropped. Failures are logged, they don't hide the
+	 * original exception.
+	 * @param ex the exception which failed the deployment
+	 * @param metrics the metrics which have been collected until the deployment failed
+	 */
+	void reportFailure(Exception ex, DeploymentMetrics metrics) {
+		write(createReport(Deployer.Result.Status.FAILURE, metrics.getDeployments(), metrics, getMessage(ex)));
+	}
+
+	private void write(Report report) {
+		if (this.reportFile != null) {
+			writeReport(report, this.reportFile);
+		}
+		if (this.githubOutput != null) {
+			writeOutputs(report, this.githubOutput);
+		}
+	}
+
+	private void writeReport(Report report, Path reportFile) {
+		try {
+			Path parent = reportFile.toAbsolutePath().getParent();
+			if (parent != null) {
+				Files.createDirectories(parent);
+			}
+			Files.writeString(reportFile, this.jsonMapper.writerWithDefaultPrettyPrinter().writeValueAsString(report),
+					StandardCharsets.UTF_8);
+			this.logger.log("Wrote deployment report to '{}'", reportFile);
+		}
+		catch (IOException | JacksonException ex) {
+			this.logger.error("Failed to write deployment report to '{}': {}", reportFile, ex.getMessage());
+		}
+	}
+
+	private void writeOutputs(Report report, Path githubOutput) {
+		Map<String, Object> outputs = new LinkedHashMap<>();
+		outputs.put("status", report.status());
+		outputs.put("deployment-ids",
+				report.deployments().stream().map(DeploymentReport::id).collect(Collectors.joining(",")));
+		outputs.put("bytes-uploaded", report.bytesUploaded());
+		outputs.put("duration-ms", report.durationMillis());
+		if (report.error() != null) {
+			// Outputs are line based, so the message has to fit on one line
+			outputs.put("error", report.error().replaceAll("\\R+", " "));
+		}
+		if (this.reportFile != null) {
+			outputs.put("report-file", this.reportFile.toAbsolutePath());
+		}
+		StringBuilder content = new StringBuilder();
+		outputs.forEach((name, value) -> content.append(name).append('=').append(value).append('\n'));
+		try {
+			Files.writeString(githubOutput, content, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+					StandardOpenOption.APPEND);
+		}
+		catch (IOException ex) {
+			this.logger.error("Failed to write outputs to '{}': {}", githubOutput, ex.getMessage());
+		}
+	}
+
+	static Report createReport(Deployer.Result result) {
+		return createReport(result.status(), result.deployments(), result.metrics(), null);
+	}
+
+	private static Report createReport(Deployer.Result.Status status, List<Deployment> deployments,
+			DeploymentMetrics metrics, @Nullable String error) {
+		List<DeploymentReport> deploymentReports = new ArrayList<>();
+		for (Deployment deployment : deployments) {
+			List<StatusTransitionReport> transitions = deployment.getStatusTransitions()
+				.stream()
+				.map((transition) -> new StatusTransitionReport(transition.status(), transition.timestamp().toString()))
+				.toList();
+			deploymentReports.add(new DeploymentReport(deployment.getId(), deployment.getPolledStatus(),
+					deployment.getPollCount(), transitions));
+		}
+		Map<Phase, PhaseReport> phases = new EnumMap<>(Phase.class);
+		metrics.getPhases().forEach((phase, phaseMetrics) -> phases.put(phase, PhaseReport.of(phaseMetrics)));
+		PhaseMetrics upload = metrics.get(Phase.UPLOAD);
+		PhaseMetrics checksum = metrics.get(Phase.CHECKSUM);
+		return new Report(status, metrics.getTotal().toMillis(), deploymentReports,
+				(upload != null) ? upload.bytes() : 0, metrics.getUncompressedBundleSize(),
+				metrics.getCompressionRatio(), (checksum != null) ? checksum.megabytesPerSecond() : null, phases,
+				error);
+	}
+
+	private static String getMessage(Exception ex) {
+		return (ex.getMessage() != null) ? ex.getMessage() : ex.getClass().getName();
+	}
+
+	/**
+	 * Report of a deployment.
+	 *
+	 * @param status the status of the deployment
+	 * @param durationMillis the wall clock time of the deployment
+	 * @param deployments the deployments, one for every uploaded bundle
+	 * @param bytesUploaded the size of all uploaded bundles
+	 * @param bytesUncompressed the size of all bundle entries before compression
+	 * @param compressionRatio the ratio of the bundle size to the uncompressed size
+	 * @param checksumMegabytesPerSecond the throughput of the checksum creation
+	 * @param phases the metrics of the phases
+	 * @param error the message of the exception which failed the deployment, or
+	 * {@code null}
+	 */
+	record Report(Deployer.Result.Status status, long durationMillis, List<DeploymentReport> deployments,
+			long bytesUploaded, long bytesUncompressed, @Nullable Double compressionRatio,
+			@Nullable Double checksumMegabytesPerSecond, Map<Phase, PhaseReport> phases, @Nullable String error) {
+
+	}
+
+	/**
+	 * Report of a single deployment on the Central Portal.
+	 *
+	 * @param id the id of the deployment
+	 * @param status the last polled status
+	 * @param pollCount how often the status has been polled
+	 * @param statusTransitions the changes of the polled status
+	 */
+	record DeploymentReport(String id, Deployment.@Nullable Status status, int pollCount,
+			List<StatusTransitionReport> statusTransitions) {
+
+	}
+
+	/**
+	 * Report of a change of the polled status.
+	 *
+	 * @param status the new status
+	 * @param timestamp when the new status has been observed, in ISO-8601 format
+	 */
+	record StatusTransitionReport(Deployment.Status status, String timestamp) {
+
+	}
+
+	/**
+	 * Report of a phase of the deployment.
+	 *
+	 * @param durationMillis the duration of the phase
+	 * @param bytes the number of processed bytes
+	 * @param files the number of processed files
+	 * @param megabytesPerSecond the throughput of the phase
+	 */
+	record PhaseReport(long durationMillis, long bytes, int files, double megabytesPerSecond) {
+
+		static PhaseReport of(PhaseMetrics metrics) {
+			return new PhaseReport(metrics.duration().toMillis(), metrics.bytes(), metrics.files(),
+					metrics.megabytesPerSecond());
+		}
+
+	}
+
+}
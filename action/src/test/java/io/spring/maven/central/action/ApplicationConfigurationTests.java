@@ -0,0 +1,168 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.action;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link ApplicationConfiguration}.
+ *
+ * @author Moritz Halbritter
+ */
+class ApplicationConfigurationTests {
+
+	private final ApplicationConfiguration configuration = new ApplicationConfiguration(new CentralPublishProperties());
+
+	@Test
+	void threadFactoryShouldCreateVirtualThreadsIfEnabled() {
+		MockEnvironment environment = new MockEnvironment().withProperty("spring.threads.virtual.enabled", "true");
+		Thread thread = newThread(this.configuration.threadFactory(environment));
+		assertThat(thread.isVirtual()).isTrue();
+		assertThat(thread.getName()).startsWith("central-publish-");
+	}
+
+	@Test
+	void threadFactoryShouldFallBackToPlatformThreadsIfVirtualThreadsAreDisabled() {
+		MockEnvironment environment = new MockEnvironment().withProperty("spring.threads.virtual.enabled", "false");
+		Thread thread = newThread(this.configuration.threadFactory(environment));
+		assertThat(thread.isVirtual()).isFalse();
+		assertThat(thread.isDaemon()).isTrue();
+		assertThat(thread.getName()).startsWith("central-publish-");
+	}
+
+	@Test
+	void threadFactoryShouldCreatePlatformThreadsByDefault() {
+		Thread thread = newThread(this.configuration.threadFactory(new MockEnvironment()));
+		assertThat(thread.isVirtual()).isFalse();
+	}
+
+	@Test
+	void httpClientShouldUseHttpProperties() {
+		CentralPublishProperties properties = new CentralPublishProperties();
+		properties.getHttp().setConnectTimeout(Duration.ofSeconds(3));
+		properties.getHttp().setHttp2(false);
+		HttpClient httpClient = new ApplicationConfiguration(properties).httpClient(Executors.defaultThreadFactory());
+		assertThat(httpClient.version()).isEqualTo(HttpClient.Version.HTTP_1_1);
+		assertThat(httpClient.connectTimeout()).contains(Duration.ofSeconds(3));
+		assertThat(httpClient.followRedirects()).isEqualTo(HttpClient.Redirect.NORMAL);
+	}
+
+	@Test
+	void restClientCustomizerShouldShareHttpClientBetweenRestClients() throws IOException {
+		Queue<String> requests = new ConcurrentLinkedQueue<>();
+		HttpServer server = startServer((exchange) -> {
+			requests.add(exchange.getRequestHeaders().getFirst("User-Agent") + " from port "
+					+ exchange.getRemoteAddress().getPort());
+			respond(exchange);
+		});
+		try {
+			CentralPublishProperties properties = new CentralPublishProperties();
+			properties.getHttp().setHttp2(false);
+			ApplicationConfiguration configuration = new ApplicationConfiguration(properties);
+			ThreadFactory threadFactory = Executors.defaultThreadFactory();
+			HttpClient httpClient = configuration.httpClient(threadFactory);
+			for (int i = 0; i < 2; i++) {
+				RestClient.Builder builder = RestClient.builder().baseUrl(uri(server));
+				configuration.restClientCustomizer(httpClient, threadFactory).customize(builder);
+				builder.build().get().uri("/").retrieve().toBodilessEntity();
+			}
+			// Both RestClients use the same keep-alive connection
+			assertThat(requests).hasSize(2)
+				.allMatch((request) -> request.startsWith("central-publish-action from port"));
+			assertThat(Set.copyOf(requests)).hasSize(1);
+		}
+		finally {
+			server.stop(0);
+		}
+	}
+
+	@Test
+	void restClientCustomizerShouldApplyReadTimeout() throws IOException {
+		HttpServer server = startServer((exchange) -> {
+			try {
+				Thread.sleep(5_000);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			respond(exchange);
+		});
+		try {
+			CentralPublishProperties properties = new CentralPublishProperties();
+			properties.getHttp().setReadTimeout(Duration.ofMillis(100));
+			ApplicationConfiguration configuration = new ApplicationConfiguration(properties);
+			ThreadFactory threadFactory = Executors.defaultThreadFactory();
+			RestClient.Builder builder = RestClient.builder().baseUrl(uri(server));
+			configuration.restClientCustomizer(configuration.httpClient(threadFactory), threadFactory)
+				.customize(builder);
+			RestClient restClient = builder.build();
+			assertThatExceptionOfType(ResourceAccessException.class)
+				.isThrownBy(() -> restClient.get().uri("/").retrieve().toBodilessEntity());
+		}
+		finally {
+			server.stop(0);
+		}
+	}
+
+	@Test
+	void readTimeoutShouldBeFiniteByDefault() {
+		assertThat(new CentralPublishProperties().getHttp().getReadTimeout()).isEqualTo(Duration.ofMinutes(30));
+	}
+
+	private HttpServer startServer(HttpHandler handler) throws IOException {
+		HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+		server.createContext("/", handler);
+		server.start();
+		return server;
+	}
+
+	private String uri(HttpServer server) {
+		return "http://localhost:%d".formatted(server.getAddress().getPort());
+	}
+
+	private static void respond(HttpExchange exchange) throws IOException {
+		exchange.sendResponseHeaders(200, -1);
+		exchange.close();
+	}
+
+	private Thread newThread(ThreadFactory threadFactory) {
+		return threadFactory.newThread(() -> {
+		});
+	}
+
+}
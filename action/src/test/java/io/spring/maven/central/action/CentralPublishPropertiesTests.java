@@ -0,0 +1,71 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.action;
+
+import java.util.Set;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.util.unit.DataSize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CentralPublishProperties}.
+ *
+ * @author Moritz Halbritter
+ */
+class CentralPublishPropertiesTests {
+
+	private final ValidatorFactory validatorFactory = Validation.buildDefaultValidatorFactory();
+
+	private final Validator validator = this.validatorFactory.getValidator();
+
+	@AfterEach
+	void tearDown() {
+		this.validatorFactory.close();
+	}
+
+	@Test
+	void shouldAcceptMaxBundleSizeOfOneGigabyte() {
+		CentralPublishProperties.Bundle bundle = new CentralPublishProperties.Bundle();
+		bundle.setMaxSize(DataSize.ofGigabytes(1));
+		assertThat(this.validator.validate(bundle)).isEmpty();
+	}
+
+	@Test
+	void shouldRejectMaxBundleSizeAboveOneGigabyte() {
+		CentralPublishProperties.Bundle bundle = new CentralPublishProperties.Bundle();
+		bundle.setMaxSize(DataSize.ofBytes(DataSize.ofGigabytes(1).toBytes() + 1));
+		Set<ConstraintViolation<CentralPublishProperties.Bundle>> violations = this.validator.validate(bundle);
+		assertThat(violations).singleElement()
+			.satisfies((violation) -> assertThat(violation.getPropertyPath()).hasToString("maxSizeValid"));
+	}
+
+	@Test
+	void shouldRejectEmptyMaxBundleSize() {
+		CentralPublishProperties.Bundle bundle = new CentralPublishProperties.Bundle();
+		bundle.setMaxSize(DataSize.ofBytes(0));
+		assertThat(this.validator.validate(bundle)).hasSize(1);
+	}
+
+}
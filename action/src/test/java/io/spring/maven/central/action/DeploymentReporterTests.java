@@ -0,0 +1,206 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.action;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import io.spring.maven.central.bundle.BundleStatistics;
+import io.spring.maven.central.deploy.Deployer;
+import io.spring.maven.central.deploy.DeploymentMetrics;
+import io.spring.maven.central.deploy.DeploymentMetrics.Phase;
+import io.spring.maven.central.log.Logger;
+import io.spring.maven.central.sonatype.Deployment;
+import io.spring.maven.central.sonatype.Errors;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import org.springframework.util.unit.DataSize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link DeploymentReporter}.
+ *
+ * @author Moritz Halbritter
+ */
+class DeploymentReporterTests {
+
+	private static final long MEGABYTE = 1024 * 1024;
+
+	private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+	@TempDir
+	private Path tempDir;
+
+	@Test
+	void shouldWriteReport() {
+		Path reportFile = this.tempDir.resolve("reports/report.json");
+		new DeploymentReporter(Logger.noop(), this.jsonMapper, reportFile, null).report(createResult());
+		JsonNode report = this.jsonMapper.readTree(reportFile.toFile());
+		assertThat(report.get("status").asString()).isEqualTo("SUCCESS");
+		assertThat(report.get("durationMillis").asLong()).isEqualTo(10000);
+		assertThat(report.get("bytesUploaded").asLong()).isEqualTo(2 * MEGABYTE);
+		assertThat(report.get("bytesUncompressed").asLong()).isEqualTo(4 * MEGABYTE);
+		assertThat(report.get("compressionRatio").asDouble()).isEqualTo(0.5);
+		assertThat(report.get("checksumMegabytesPerSecond").asDouble()).isEqualTo(8.0);
+		assertThat(report.get("phases").get("UPLOAD").get("durationMillis").asLong()).isEqualTo(2000);
+		JsonNode deployment = report.get("deployments").get(0);
+		assertThat(deployment.get("id").asString()).isEqualTo("deployment-1");
+		assertThat(deployment.get("status").asString()).isEqualTo("PUBLISHED");
+		assertThat(deployment.get("pollCount").asInt()).isEqualTo(5);
+		assertThat(deployment.get("statusTransitions").get(1).get("status").asString()).isEqualTo("PUBLISHED");
+		assertThat(deployment.get("statusTransitions").get(1).get("timestamp").asString())
+			.isEqualTo("2026-01-01T00:01:00Z");
+	}
+
+	@Test
+	void shouldAppendOutputs() throws IOException {
+		Path githubOutput = this.tempDir.resolve("output");
+		Files.writeString(githubOutput, "existing=value\n");
+		Path reportFile = this.tempDir.resolve("report.json");
+		new DeploymentReporter(Logger.noop(), this.jsonMapper, reportFile, githubOutput).report(createResult());
+		assertThat(githubOutput).hasContent("""
+				existing=value
+				status=SUCCESS
+				deployment-ids=deployment-1
+				bytes-uploaded=2097152
+				duration-ms=10000
+				report-file=%s""".formatted(reportFile.toAbsolutePath()));
+	}
+
+	@Test
+	void shouldReportFailure() throws IOException {
+		Path githubOutput = this.tempDir.resolve("output");
+		Path reportFile = this.tempDir.resolve("report.json");
+		DeploymentMetrics metrics = new DeploymentMetrics();
+		metrics.record(Phase.UPLOAD, Duration.ofSeconds(2), MEGABYTE, 16);
+		metrics.recordTotal(Duration.ofSeconds(3));
+		new DeploymentReporter(Logger.noop(), this.jsonMapper, reportFile, githubOutput)
+			.reportFailure(new IllegalStateException("Upload failed\nwith HTTP 500"), metrics);
+		JsonNode report = this.jsonMapper.readTree(reportFile.toFile());
+		assertThat(report.get("status").asString()).isEqualTo("FAILURE");
+		assertThat(report.get("error").asString()).isEqualTo("Upload failed\nwith HTTP 500");
+		assertThat(report.get("durationMillis").asLong()).isEqualTo(3000);
+		assertThat(report.get("bytesUploaded").asLong()).isEqualTo(MEGABYTE);
+		assertThat(report.get("deployments")).isEmpty();
+		assertThat(githubOutput).hasContent("""
+				status=FAILURE
+				deployment-ids=
+				bytes-uploaded=1048576
+				duration-ms=3000
+				error=Upload failed with HTTP 500
+				report-file=%s""".formatted(reportFile.toAbsolutePath()));
+	}
+
+	@Test
+	void shouldReportDeploymentsCreatedBeforeFailure() throws IOException {
+		Path githubOutput = this.tempDir.resolve("output");
+		Path reportFile = this.tempDir.resolve("report.json");
+		DeploymentMetrics metrics = new DeploymentMetrics();
+		metrics.recordDeployment(new ReportedDeployment());
+		metrics.recordTotal(Duration.ofSeconds(3));
+		new DeploymentReporter(Logger.noop(), this.jsonMapper, reportFile, githubOutput)
+			.reportFailure(new IllegalStateException("Timed out"), metrics);
+		JsonNode report = this.jsonMapper.readTree(reportFile.toFile());
+		assertThat(report.get("status").asString()).isEqualTo("FAILURE");
+		assertThat(report.get("deployments").get(0).get("id").asString()).isEqualTo("deployment-1");
+		assertThat(githubOutput).content().contains("deployment-ids=deployment-1\n");
+	}
+
+	@Test
+	void shouldNotWriteReportIfNoFileIsConfigured() throws IOException {
+		new DeploymentReporter(Logger.noop(), this.jsonMapper, null, null).report(createResult());
+		try (var files = Files.list(this.tempDir)) {
+			assertThat(files).isEmpty();
+		}
+	}
+
+	private static Deployer.Result createResult() {
+		DeploymentMetrics metrics = new DeploymentMetrics();
+		metrics.record(Phase.CHECKSUM, Duration.ofMillis(500), 4 * MEGABYTE, 8);
+		metrics.record(Phase.BUNDLE, Duration.ofSeconds(1), 4 * MEGABYTE, 16);
+		metrics.record(Phase.UPLOAD, Duration.ofSeconds(2), 2 * MEGABYTE, 16);
+		metrics.recordBundle(
+				new BundleStatistics(8, 8, DataSize.ofMegabytes(4), DataSize.ofMegabytes(2), Duration.ofSeconds(1)));
+		metrics.recordTotal(Duration.ofSeconds(10));
+		return Deployer.Result.success(new ReportedDeployment()).withMetrics(metrics);
+	}
+
+	private static final class ReportedDeployment implements Deployment {
+
+		@Override
+		public String getId() {
+			return "deployment-1";
+		}
+
+		@Override
+		public Status getStatus() {
+			return Status.PUBLISHED;
+		}
+
+		@Override
+		public Errors getErrors() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void awaitFinalStatus() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public @Nullable Duration pollStatus() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public @Nullable Status getPolledStatus() {
+			return Status.PUBLISHED;
+		}
+
+		@Override
+		public List<StatusTransition> getStatusTransitions() {
+			return List.of(new StatusTransition(Status.PENDING, Instant.parse("2026-01-01T00:00:00Z")),
+					new StatusTransition(Status.PUBLISHED, Instant.parse("2026-01-01T00:01:00Z")));
+		}
+
+		@Override
+		public int getPollCount() {
+			return 5;
+		}
+
+		@Override
+		public void drop() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void publish() {
+			throw new UnsupportedOperationException();
+		}
+
+	}
+
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import io.spring.maven.central.bundle.Bundle;
+import io.spring.maven.central.bundle.Bundler;
+import io.spring.maven.central.bundle.EntryMethodPolicy;
+import io.spring.maven.central.file.FileSet;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * Benchmarks for {@link Bundler}, mapping the compression level, the entry method policy
+ * and the parallelism to bundle creation time. The size of the created bundle is reported
+ * as the secondary {@code bundleBytes} result.
+ *
+ * @author Moritz Halbritter
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BundlerBenchmark {
+
+	private static final int MODULES = 20;
+
+	@Param({ "0", "1", "6", "9" })
+	private int compressionLevel;
+
+	@Param({ "contentAware", "deflateAll" })
+	private String entryMethodPolicy;
+
+	@Param({ "1", "4" })
+	private int parallelism;
+
+	private Path directory;
+
+	private FileSet files;
+
+	private Bundler bundler;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		this.directory = Files.createTempDirectory("bundler-benchmark");
+		this.files = createArtifactTree(this.directory);
+		EntryMethodPolicy policy = ("deflateAll".equals(this.entryMethodPolicy)) ? EntryMethodPolicy.deflateAll()
+				: EntryMethodPolicy.contentAware();
+		this.bundler = Bundler.create(Bundler.Options.defaults()
+			.withParallelism(this.parallelism)
+			.withEntryMethodPolicy(policy)
+			.withCompressionLevel(this.compressionLevel));
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		FileSystemUtils.deleteRecursively(this.directory);
+	}
+
+	@Benchmark
+	public long createBundle(BundleSize bundleSize) {
+		try (Bundle bundle = this.bundler.createBundle(this.directory, this.files)) {
+			long size = bundle.getSize().toBytes();
+			bundleSize.record(size);
+			return size;
+		}
+	}
+
+	private FileSet createArtifactTree(Path root) throws IOException {
+		Random random = new Random(42);
+		List<Path> files = new ArrayList<>();
+		for (int i = 0; i < MODULES; i++) {
+			String artifact = "module-" + i;
+			Path directory = root.resolve("com/example/" + artifact + "/1.0.0");
+			Files.createDirectories(directory);
+			String prefix = artifact + "-1.0.0";
+			files.add(writeJar(directory.resolve(prefix + ".jar"), random, 200, ".class"));
+			files.add(writeJar(directory.resolve(prefix + "-sources.jar"), random, 200, ".java"));
+			files.add(writeJar(directory.resolve(prefix + "-javadoc.jar"), random, 400, ".html"));
+			files.add(writeText(directory.resolve(prefix + ".pom"), pom(artifact)));
+			files.add(writeText(directory.resolve(prefix + ".module"), module(artifact)));
+		}
+		for (Path file : List.copyOf(files)) {
+			files.add(writeText(Path.of(file + ".asc"), signature(random)));
+		}
+		return FileSet.of(files);
+	}
+
+	private Path writeJar(Path file, Random random, int entries, String extension) throws IOException {
+		try (JarOutputStream jar = new JarOutputStream(Files.newOutputStream(file))) {
+			for (int i = 0; i < entries; i++) {
+				jar.putNextEntry(new JarEntry("com/example/Type" + i + extension));
+				writeSourceLikeContent(jar, random);
+				jar.closeEntry();
+			}
+		}
+		return file;
+	}
+
+	private void writeSourceLikeContent(OutputStream outputStream, Random random) throws IOException {
+		String[] words = { "public", "class", "void", "return", "final", "private", "static", "String", "int", "this",
+				"new", "if", "else", "for", "import", "package" };
+		StringBuilder content = new StringBuilder();
+		for (int i = 0; i < 2000; i++) {
+			content.append(words[random.nextInt(words.length)]).append((i % 12 == 11) ? '\n' : ' ');
+		}
+		outputStream.write(content.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	private Path writeText(Path file, String content) throws IOException {
+		Files.writeString(file, content);
+		return file;
+	}
+
+	private String pom(String artifact) {
+		StringBuilder dependencies = new StringBuilder();
+		for (int i = 0; i < 20; i++) {
+			dependencies.append("""
+					<dependency>
+						<groupId>com.example</groupId>
+						<artifactId>dependency-%d</artifactId>
+						<version>1.0.0</version>
+					</dependency>
+					""".formatted(i));
+		}
+		return """
+				<project>
+					<groupId>com.example</groupId>
+					<artifactId>%s</artifactId>
+					<version>1.0.0</version>
+					<dependencies>
+				%s
+					</dependencies>
+				</project>
+				""".formatted(artifact, dependencies);
+	}
+
+	private String module(String artifact) {
+		return """
+				{
+					"formatVersion": "1.1",
+					"component": { "group": "com.example", "module": "%s", "version": "1.0.0" },
+					"variants": [ { "name": "apiElements" }, { "name": "runtimeElements" } ]
+				}
+				""".formatted(artifact);
+	}
+
+	private String signature(Random random) {
+		byte[] signature = new byte[512];
+		random.nextBytes(signature);
+		return "-----BEGIN PGP SIGNATURE-----\n" + Base64.getMimeEncoder().encodeToString(signature)
+				+ "\n-----END PGP SIGNATURE-----\n";
+	}
+
+	/**
+	 * Reports the size of the last created bundle.
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class BundleSize {
+
+		/**
+		 * Size of the last created bundle in bytes, divided by the number of measurement
+		 * iterations. JMH sums event counters over all iterations, so the result is the
+		 * size of a single bundle.
+		 */
+		public double bundleBytes;
+
+		private int iterations;
+
+		@Setup(Level.Trial)
+		public void setUp(BenchmarkParams params) {
+			this.iterations = params.getMeasurement().getCount();
+		}
+
+		void record(long size) {
+			this.bundleBytes = (double) size / this.iterations;
+		}
+
+	}
+
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import io.spring.maven.central.bundle.Bundle;
+import io.spring.maven.central.bundle.Bundler;
+import io.spring.maven.central.file.FileSet;
+import io.spring.maven.central.log.Logger;
+import io.spring.maven.central.sonatype.CentralPortalApi;
+import io.spring.maven.central.sonatype.Deployment;
+import io.spring.maven.central.sonatype.PollingStrategy;
+import io.spring.maven.central.sonatype.PublishingType;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.client.RestClient;
+
+/**
+ * Benchmarks for {@link CentralPortalApi} against a running portal mock, mapping the HTTP
+ * transport to the latency of a single status poll and to the upload throughput. The
+ * uploaded bytes per second are reported as the secondary {@code uploadedBytes} result.
+ * The mock has to be started with a long
+ * {@code portalmock.deployment.delay-between-steps}, so that the polled deployment
+ * doesn't reach its final status during the benchmark, and without a limit for the size
+ * of multipart requests.
+ *
+ * @author Moritz Halbritter
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CentralPortalApiBenchmark {
+
+	@Param("http://localhost:8080")
+	private String portalUri;
+
+	@Param("token-name")
+	private String tokenName;
+
+	@Param("token-value")
+	private String token;
+
+	@Param({ "simple", "jdk-http1", "jdk-http2" })
+	private String transport;
+
+	@Param({ "1MB", "32MB" })
+	private String bundleSize;
+
+	private Path directory;
+
+	private Bundle bundle;
+
+	private CentralPortalApi api;
+
+	private Deployment deployment;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		this.directory = Files.createTempDirectory("central-portal-api-benchmark");
+		this.bundle = createBundle(this.directory, DataSize.parse(this.bundleSize));
+		RestClient.Builder restClientBuilder = RestClient.builder().requestFactory(createRequestFactory());
+		this.api = CentralPortalApi.create(Logger.noop(), URI.create(this.portalUri), this.tokenName, this.token,
+				restClientBuilder, Clock.systemUTC(), Duration.ofHours(1),
+				CentralPortalApi.Options.defaults().withPollingStrategy(PollingStrategy.fixed(Duration.ZERO)));
+		this.deployment = this.api.upload(this.bundle, PublishingType.USER_MANAGED, "benchmark-poll");
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		this.bundle.close();
+		FileSystemUtils.deleteRecursively(this.directory);
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SampleTime)
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public Duration pollStatus() {
+		Duration delay = this.deployment.pollStatus();
+		if (delay == null) {
+			throw new IllegalStateException("Deployment reached its final status, increase the delay between steps");
+		}
+		return delay;
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.SECONDS)
+	public Deployment upload(UploadedBytes uploadedBytes) {
+		uploadedBytes.uploadedBytes += this.bundle.getSize().toBytes();
+		return this.api.upload(this.bundle, PublishingType.USER_MANAGED, "benchmark-upload");
+	}
+
+	private ClientHttpRequestFactory createRequestFactory() {
+		return switch (this.transport) {
+			case "simple" -> new SimpleClientHttpRequestFactory();
+			case "jdk-http1" -> new JdkClientHttpRequestFactory(createHttpClient(HttpClient.Version.HTTP_1_1));
+			case "jdk-http2" -> new JdkClientHttpRequestFactory(createHttpClient(HttpClient.Version.HTTP_2));
+			default -> throw new IllegalStateException("Unknown transport '%s'".formatted(this.transport));
+		};
+	}
+
+	private HttpClient createHttpClient(HttpClient.Version version) {
+		return HttpClient.newBuilder().version(version).connectTimeout(Duration.ofSeconds(10)).build();
+	}
+
+	private Bundle createBundle(Path root, DataSize size) throws IOException {
+		// Random content doesn't compress, so the bundle has roughly the requested size
+		Random random = new Random(42);
+		Path directory = root.resolve("com/example/benchmark/1.0.0");
+		Files.createDirectories(directory);
+		List<Path> files = new ArrayList<>();
+		byte[] jar = new byte[Math.toIntExact(size.toBytes())];
+		random.nextBytes(jar);
+		files.add(Files.write(directory.resolve("benchmark-1.0.0.jar"), jar));
+		files.add(Files.writeString(directory.resolve("benchmark-1.0.0.pom"), """
+				<project>
+					<groupId>com.example</groupId>
+					<artifactId>benchmark</artifactId>
+					<version>1.0.0</version>
+				</project>
+				"""));
+		return Bundler.create().createBundle(root, FileSet.of(files));
+	}
+
+	/**
+	 * Reports the upload throughput.
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	public static class UploadedBytes {
+
+		/**
+		 * Number of uploaded bytes, reported per second.
+		 */
+		public long uploadedBytes;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			this.uploadedBytes = 0;
+		}
+
+	}
+
+}
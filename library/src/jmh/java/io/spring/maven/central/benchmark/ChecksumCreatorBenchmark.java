@@ -0,0 +1,111 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import io.spring.maven.central.checksum.ChecksumAlgorithm;
+import io.spring.maven.central.checksum.ChecksumCreator;
+import io.spring.maven.central.checksum.ChecksumPolicy;
+import io.spring.maven.central.log.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Benchmarks for {@link ChecksumCreator}, comparing the stream-based hashing path with
+ * the {@link java.nio.channels.FileChannel}-based one.
+ *
+ * @author Moritz Halbritter
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ChecksumCreatorBenchmark {
+
+	@Param({ "1MB", "64MB", "512MB" })
+	private String fileSize;
+
+	@Param({ "stream", "channel" })
+	private String readMode;
+
+	@Param({ "64KB", "1MB", "8MB" })
+	private String bufferSize;
+
+	private Path directory;
+
+	private Path file;
+
+	private ChecksumCreator checksumCreator;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		this.directory = Files.createTempDirectory("checksum-benchmark");
+		this.file = this.directory.resolve("artifact.jar");
+		writeRandomFile(this.file, DataSize.parse(this.fileSize));
+		DataSize threshold = ("channel".equals(this.readMode)) ? DataSize.ofBytes(0) : DataSize.ofBytes(Long.MAX_VALUE);
+		this.checksumCreator = ChecksumCreator.create(Logger.noop(), ChecksumPolicy.OVERWRITE_EXISTING,
+				ChecksumCreator.Options.defaults().withLargeFiles(threshold, DataSize.parse(this.bufferSize)));
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		FileSystemUtils.deleteRecursively(this.directory);
+	}
+
+	@Benchmark
+	public Map<ChecksumAlgorithm, String> calculateChecksums() {
+		return this.checksumCreator.calculateChecksums(this.file);
+	}
+
+	private void writeRandomFile(Path file, DataSize size) throws IOException {
+		Random random = new Random(42);
+		byte[] chunk = new byte[(int) Math.min(size.toBytes(), DataSize.ofMegabytes(1).toBytes())];
+		try (OutputStream outputStream = Files.newOutputStream(file)) {
+			long remaining = size.toBytes();
+			while (remaining > 0) {
+				random.nextBytes(chunk);
+				int length = (int) Math.min(chunk.length, remaining);
+				outputStream.write(chunk, 0, length);
+				remaining -= length;
+			}
+		}
+	}
+
+}
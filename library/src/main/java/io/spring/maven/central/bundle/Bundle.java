@@ -32,8 +32,11 @@ public final class Bundle implements AutoCloseable {
 
 	private final Path file;
 
-	private Bundle(Path file) {
+	private final BundleStatistics statistics;
+
+	private Bundle(Path file, BundleStatistics statistics) {
 		this.file = file;
+		this.statistics = statistics;
 	}
 
 	/**
@@ -57,13 +60,31 @@ public final class Bundle implements AutoCloseable {
 		}
 	}
 
+	/**
+	 * Returns the statistics about the creation of the bundle.
+	 * @return the statistics
+	 */
+	public BundleStatistics getStatistics() {
+		return this.statistics;
+	}
+
 	/**
 	 * Creates a new bundle for the given file.
 	 * @param file the file
 	 * @return the bundle
 	 */
 	public static Bundle of(Path file) {
-		return new Bundle(file);
+		return new Bundle(file, BundleStatistics.NONE);
+	}
+
+	/**
+	 * Creates a new bundle for the given file.
+	 * @param file the file
+	 * @param statistics the statistics about the creation of the bundle
+	 * @return the bundle
+	 */
+	public static Bundle of(Path file, BundleStatistics statistics) {
+		return new Bundle(file, statistics);
 	}
 
 	@Override
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.bundle;
+
+import java.util.List;
+
+import io.spring.maven.central.file.FileSet;
+
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Splits files into multiple bundles.
+ *
+ * @author Moritz Halbritter
+ */
+public interface BundleSplitter {
+
+	/**
+	 * Splits the given files into the contents of one or more bundles.
+	 * @param files the files
+	 * @param checksummedFiles the files for which checksums are added to the bundle
+	 * @return the contents of the bundles
+	 */
+	List<FileSet> split(FileSet files, FileSet checksummedFiles);
+
+	/**
+	 * Creates a new {@link BundleSplitter} which splits files into bundles which are
+	 * smaller than the given maximum bundle size. The files of a single artifact version,
+	 * like its pom, jars, signatures and checksums, are never split across bundles.
+	 * @param maxBundleSize the maximum bundle size
+	 * @return the {@link BundleSplitter}
+	 */
+	static BundleSplitter create(DataSize maxBundleSize) {
+		return new BundleSplitterImpl(maxBundleSize);
+	}
+
+	/**
+	 * Creates a {@link BundleSplitter} which puts all files into a single bundle.
+	 * @return the {@link BundleSplitter}
+	 */
+	static BundleSplitter none() {
+		return (files, checksummedFiles) -> List.of(files);
+	}
+
+}
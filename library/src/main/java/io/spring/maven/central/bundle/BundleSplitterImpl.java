@@ -0,0 +1,161 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.bundle;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import io.spring.maven.central.checksum.ChecksumAlgorithm;
+import io.spring.maven.central.file.FileSet;
+
+import org.springframework.util.Assert;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Default implementation for {@link BundleSplitter}. Files are grouped by their
+ * directory, which in a Maven repository layout contains all files of one artifact
+ * version. The groups are then bin-packed using first-fit decreasing. The size of a group
+ * is estimated from the worst-case deflated size of its files plus the local and central
+ * directory headers of every entry, which never underestimates the size of the bundle,
+ * even if the files don't compress at all.
+ *
+ * @author Moritz Halbritter
+ */
+class BundleSplitterImpl implements BundleSplitter {
+
+	private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+
+	private static final int LOCAL_FILE_HEADER_SIZE = 30;
+
+	private static final int CENTRAL_DIRECTORY_HEADER_SIZE = 46;
+
+	private static final int CHECKSUM_SIZE = 40;
+
+	private final long maxBundleSize;
+
+	BundleSplitterImpl(DataSize maxBundleSize) {
+		Assert.isTrue(maxBundleSize.toBytes() > END_OF_CENTRAL_DIRECTORY_SIZE,
+				"'maxBundleSize' must be greater than %d bytes".formatted(END_OF_CENTRAL_DIRECTORY_SIZE));
+		this.maxBundleSize = maxBundleSize.toBytes();
+	}
+
+	@Override
+	public List<FileSet> split(FileSet files, FileSet checksummedFiles) {
+		List<Group> groups = getGroups(files, checksummedFiles);
+		groups.sort(Comparator.comparingLong(Group::size).reversed().thenComparing(Group::directory));
+		List<Bin> bins = new ArrayList<>();
+		for (Group group : groups) {
+			if (group.size() > this.maxBundleSize - END_OF_CENTRAL_DIRECTORY_SIZE) {
+				throw new IllegalStateException(
+						"Files in '%s' need up to %s, which exceeds the maximum bundle size of %s".formatted(
+								group.directory(), DataSize.ofBytes(group.size()),
+								DataSize.ofBytes(this.maxBundleSize)));
+			}
+			getBin(bins, group.size()).add(group);
+		}
+		return bins.stream().map(Bin::toFileSet).toList();
+	}
+
+	private List<Group> getGroups(FileSet files, FileSet checksummedFiles) {
+		Map<Path, List<Path>> filesByDirectory = new TreeMap<>();
+		for (Path file : files) {
+			filesByDirectory.computeIfAbsent(file.getParent(), (directory) -> new ArrayList<>()).add(file);
+		}
+		List<Group> groups = new ArrayList<>();
+		filesByDirectory.forEach((directory, groupFiles) -> {
+			long size = 0;
+			for (Path file : groupFiles) {
+				size += getEstimatedSize(file, checksummedFiles.contains(file));
+			}
+			groups.add(new Group(directory, groupFiles, size));
+		});
+		return groups;
+	}
+
+	private long getEstimatedSize(Path file, boolean checksummed) {
+		// The absolute path is longer than the entry name, which is relative to the root
+		int nameSize = file.toString().getBytes(StandardCharsets.UTF_8).length;
+		long size = getEntrySize(nameSize, getFileSize(file));
+		if (checksummed) {
+			for (ChecksumAlgorithm algorithm : ChecksumAlgorithm.values()) {
+				size += getEntrySize(nameSize + algorithm.getFileExtension().length() + 1, CHECKSUM_SIZE);
+			}
+		}
+		return size;
+	}
+
+	private static long getEntrySize(int nameSize, long size) {
+		// The name is written to both the local and the central directory header
+		return LOCAL_FILE_HEADER_SIZE + CENTRAL_DIRECTORY_HEADER_SIZE + 2L * nameSize + getMaxDeflatedSize(size);
+	}
+
+	private static long getMaxDeflatedSize(long size) {
+		// Same bound as zlib's deflateBound(): deflate falls back to stored blocks for
+		// incompressible data, each of which adds a few bytes of overhead
+		return size + (size >> 12) + (size >> 14) + (size >> 25) + 13;
+	}
+
+	private long getFileSize(Path file) {
+		try {
+			return Files.size(file);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to get file size of '%s'".formatted(file), ex);
+		}
+	}
+
+	private Bin getBin(List<Bin> bins, long size) {
+		for (Bin bin : bins) {
+			if (bin.size + size <= this.maxBundleSize) {
+				return bin;
+			}
+		}
+		Bin bin = new Bin();
+		bins.add(bin);
+		return bin;
+	}
+
+	private record Group(Path directory, List<Path> files, long size) {
+
+	}
+
+	private static final class Bin {
+
+		private final List<Path> files = new ArrayList<>();
+
+		private long size = END_OF_CENTRAL_DIRECTORY_SIZE;
+
+		void add(Group group) {
+			this.files.addAll(group.files());
+			this.size += group.size();
+		}
+
+		FileSet toFileSet() {
+			return FileSet.of(this.files);
+		}
+
+	}
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.bundle;
+
+import java.time.Duration;
+
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Statistics about the creation of a {@link Bundle}.
+ *
+ * @param storedEntries the number of entries which have been stored without compression
+ * @param deflatedEntries the number of entries which have been deflated
+ * @param uncompressedSize the total size of all entries before compression
+ * @param size the size of the bundle
+ * @param cpuTime the CPU time spent creating the bundle
+ * @author Moritz Halbritter
+ */
+public record BundleStatistics(int storedEntries, int deflatedEntries, DataSize uncompressedSize, DataSize size,
+		Duration cpuTime) {
+
+	/**
+	 * Statistics for a bundle which has not been created by a {@link Bundler}.
+	 */
+	public static final BundleStatistics NONE = new BundleStatistics(0, 0, DataSize.ofBytes(0), DataSize.ofBytes(0),
+			Duration.ZERO);
+
+	/**
+	 * Returns the total number of entries.
+	 * @return the total number of entries
+	 */
+	public int entries() {
+		return this.storedEntries + this.deflatedEntries;
+	}
+
+}
@@ -16,7 +16,11 @@
 
 package io.spring.maven.central.bundle;
 
+import java.io.OutputStream;
 import java.nio.file.Path;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.zip.Deflater;
 
 import io.spring.maven.central.file.FileSet;
 
@@ -35,6 +39,34 @@ public interface Bundler {
 	 */
 	Bundle createBundle(Path root, FileSet files);
 
+	/**
+	 * Creates a bundle from the given files in the given root directory. Checksums for
+	 * the checksummed files are calculated while the files are written to the bundle and
+	 * are added as entries to the bundle. Checksum files are not written to the root
+	 * directory, and existing checksum files of checksummed files are replaced in the
+	 * bundle.
+	 * @param root the root directory
+	 * @param files the files
+	 * @param checksummedFiles the files to add checksums for
+	 * @return the created bundle
+	 */
+	Bundle createBundle(Path root, FileSet files, FileSet checksummedFiles);
+
+	/**
+	 * Writes a bundle from the given files in the given root directory to the given
+	 * output stream, without creating a bundle file. Checksums for the checksummed files
+	 * are added as in {@link #createBundle(Path, FileSet, FileSet)}. The output stream is
+	 * not closed. Entries are streamed into the output stream, only entries which are
+	 * compressed ahead of the writer with a parallelism greater than 1 are buffered, and
+	 * may spill to temporary files.
+	 * @param root the root directory
+	 * @param files the files
+	 * @param checksummedFiles the files to add checksums for
+	 * @param outputStream the output stream to write the bundle to
+	 * @return the statistics about the written bundle
+	 */
+	BundleStatistics writeBundle(Path root, FileSet files, FileSet checksummedFiles, OutputStream outputStream);
+
 	/**
 	 * Creates a new {@link Bundler}.
 	 * @return the {@link Bundler}
@@ -43,4 +75,94 @@ public interface Bundler {
 		return new BundlerImpl();
 	}
 
+	/**
+	 * Creates a new {@link Bundler} with the given options.
+	 * @param options the options
+	 * @return the {@link Bundler}
+	 */
+	static Bundler create(Options options) {
+		return new BundlerImpl(options);
+	}
+
+	/**
+	 * Options for a {@link Bundler}.
+	 *
+	 * @param parallelism the maximum number of files to compress concurrently, capped at
+	 * the number of available processors
+	 * @param entryMethodPolicy the policy which decides the compression method of the
+	 * entries
+	 * @param compressionLevel the compression level, from {@code 0} (no compression) to
+	 * {@code 9} (best compression), or {@code -1} for the default level
+	 * @param compressionStrategy the compression strategy
+	 * @param threadFactory the factory for the threads which compress the files. As
+	 * compressing is CPU-bound, this should create platform threads
+	 */
+	record Options(int parallelism, EntryMethodPolicy entryMethodPolicy, int compressionLevel,
+			CompressionStrategy compressionStrategy, ThreadFactory threadFactory) {
+
+		/**
+		 * Returns the default options: a single thread, the
+		 * {@link EntryMethodPolicy#contentAware() content aware} entry method policy and
+		 * the default compression level and strategy.
+		 * @return the default options
+		 */
+		public static Options defaults() {
+			return new Options(1, EntryMethodPolicy.contentAware(), Deflater.DEFAULT_COMPRESSION,
+					CompressionStrategy.DEFAULT, Executors.defaultThreadFactory());
+		}
+
+		/**
+		 * Returns a copy of these options with the given parallelism.
+		 * @param parallelism the maximum number of files to compress concurrently
+		 * @return the new options
+		 */
+		public Options withParallelism(int parallelism) {
+			return new Options(parallelism, this.entryMethodPolicy, this.compressionLevel, this.compressionStrategy,
+					this.threadFactory);
+		}
+
+		/**
+		 * Returns a copy of these options with the given entry method policy.
+		 * @param entryMethodPolicy the policy which decides the compression method of the
+		 * entries
+		 * @return the new options
+		 */
+		public Options withEntryMethodPolicy(EntryMethodPolicy entryMethodPolicy) {
+			return new Options(this.parallelism, entryMethodPolicy, this.compressionLevel, this.compressionStrategy,
+					this.threadFactory);
+		}
+
+		/**
+		 * Returns a copy of these options with the given compression level.
+		 * @param compressionLevel the compression level, from {@code 0} (no compression)
+		 * to {@code 9} (best compression), or {@code -1} for the default level
+		 * @return the new options
+		 */
+		public Options withCompressionLevel(int compressionLevel) {
+			return new Options(this.parallelism, this.entryMethodPolicy, compressionLevel, this.compressionStrategy,
+					this.threadFactory);
+		}
+
+		/**
+		 * Returns a copy of these options with the given compression strategy.
+		 * @param compressionStrategy the compression strategy
+		 * @return the new options
+		 */
+		public Options withCompressionStrategy(CompressionStrategy compressionStrategy) {
+			return new Options(this.parallelism, this.entryMethodPolicy, this.compressionLevel, compressionStrategy,
+					this.threadFactory);
+		}
+
+		/**
+		 * Returns a copy of these options with the given thread factory.
+		 * @param threadFactory the factory for the threads which compress the files
+		 * @return the new options
+		 */
+		public Options withThreadFactory(ThreadFactory threadFactory) {
+			return new Options(this.parallelism, this.entryMethodPolicy, this.compressionLevel,
+					this.compressionStrategy, threadFactory);
+		}
+
+	}
+
 }
@@ -16,54 +16,495 @@
 
 package io.spring.maven.central.bundle;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
 import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
 
+import io.spring.maven.central.bundle.ZipWriter.UncompressedContent;
+import io.spring.maven.central.checksum.ChecksumAlgorithm;
+import io.spring.maven.central.checksum.MultiDigest;
 import io.spring.maven.central.file.FileSet;
+import io.spring.maven.central.util.Concurrency;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.unit.DataSize;
 
 /**
- * Default implementation for {@link Bundler}. Creates compressed zip bundles.
+ * Default implementation for {@link Bundler}. Creates compressed zip bundles. Every entry
+ * is compressed into an independent deflate stream, so that entries can be compressed
+ * ahead of the writer on multiple threads and then stitched together into a zip file in
+ * their original order. The entry at the head of the queue is streamed straight into the
+ * zip file by the writer, only entries which have been compressed ahead are buffered. To
+ * bound memory usage, only a limited number of entries are compressed ahead of the
+ * writer, and large entries are spilled to temporary files. Entries which the
+ * {@link EntryMethodPolicy} decides to store are never compressed ahead. Every file is
+ * read exactly once, so that the CRC-32 always matches the written data, even if the file
+ * changes while the bundle is created.
  *
  * @author Moritz Halbritter
  */
 class BundlerImpl implements Bundler {
 
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private static final int MEMORY_THRESHOLD = 1024 * 1024;
+
+	private final int parallelism;
+
+	private final EntryMethodPolicy entryMethodPolicy;
+
+	private final int compressionLevel;
+
+	private final CompressionStrategy compressionStrategy;
+
+	private final ThreadFactory threadFactory;
+
+	BundlerImpl() {
+		this(Options.defaults());
+	}
+
+	BundlerImpl(Options options) {
+		int parallelism = options.parallelism();
+		int compressionLevel = options.compressionLevel();
+		EntryMethodPolicy entryMethodPolicy = options.entryMethodPolicy();
+		Assert.isTrue(parallelism > 0, "'parallelism' must be greater than 0");
+		Assert.isTrue(compressionLevel == Deflater.DEFAULT_COMPRESSION
+				|| (compressionLevel >= Deflater.NO_COMPRESSION && compressionLevel <= Deflater.BEST_COMPRESSION),
+				"'compressionLevel' must be -1 or between 0 and 9");
+		// Deflating is CPU-bound, more threads than processors only add contention
+		this.parallelism = Math.min(parallelism, Runtime.getRuntime().availableProcessors());
+		// Deflating with level 0 only wraps the data in uncompressed blocks, storing the
+		// entries is cheaper and results in the same size
+		this.entryMethodPolicy = (compressionLevel != Deflater.NO_COMPRESSION) ? entryMethodPolicy
+				: (name) -> EntryMethodPolicy.Method.STORED;
+		this.compressionLevel = compressionLevel;
+		this.compressionStrategy = options.compressionStrategy();
+		this.threadFactory = options.threadFactory();
+	}
+
 	@Override
 	public Bundle createBundle(Path root, FileSet files) {
+		return createBundle(root, files, FileSet.empty());
+	}
+
+	@Override
+	public Bundle createBundle(Path root, FileSet files, FileSet checksummedFiles) {
+		Path bundle = createTempFile();
 		try {
-			Path bundle = Files.createTempFile("bundle", ".zip");
-			try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(bundle), StandardCharsets.UTF_8)) {
-				zip.setMethod(ZipOutputStream.DEFLATED);
-				for (Path file : files) {
-					ZipEntry entry = createZipEntry(root, file);
-					zip.putNextEntry(entry);
-					copyFileContents(file, zip);
-					zip.closeEntry();
-				}
+			ZipWriter zip = new ZipWriter(FileChannel.open(bundle, StandardOpenOption.WRITE), LocalDateTime.now());
+			BundleStatistics statistics = write(root, files, checksummedFiles, zip);
+			return Bundle.of(bundle, statistics);
+		}
+		catch (IOException ex) {
+			deleteBundle(bundle);
+			throw new UncheckedIOException("Failed to create bundle", ex);
+		}
+		catch (RuntimeException ex) {
+			deleteBundle(bundle);
+			throw ex;
+		}
+	}
+
+	@Override
+	public BundleStatistics writeBundle(Path root, FileSet files, FileSet checksummedFiles, OutputStream outputStream) {
+		try {
+			ZipWriter zip = new ZipWriter(StreamUtils.nonClosing(outputStream), LocalDateTime.now());
+			return write(root, files, checksummedFiles, zip);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to write bundle", ex);
+		}
+	}
+
+	private BundleStatistics write(Path root, FileSet files, FileSet checksummedFiles, ZipWriter zip)
+			throws IOException {
+		Set<Path> replacedChecksumFiles = getChecksumFiles(checksummedFiles);
+		List<PendingFile> pendingFiles = new ArrayList<>();
+		for (Path file : files) {
+			if (!replacedChecksumFiles.contains(file)) {
+				String name = root.relativize(file).toString().replace('\\', '/');
+				int method = switch (this.entryMethodPolicy.getMethod(name)) {
+					case STORED -> ZipEntry.STORED;
+					case DEFLATED -> ZipEntry.DEFLATED;
+				};
+				pendingFiles.add(new PendingFile(file, name, method, checksummedFiles.contains(file)));
 			}
-			return Bundle.of(bundle);
+		}
+		Statistics statistics = new Statistics();
+		// Closing without finishing only releases the output, so that a failed bundle
+		// never looks like a complete zip file
+		try (zip) {
+			long size = statistics.callMeasured(() -> {
+				writeBundle(pendingFiles, zip, statistics);
+				zip.finish();
+				return zip.getSize();
+			});
+			return statistics.toBundleStatistics(size);
+		}
+	}
+
+	private Path createTempFile() {
+		try {
+			return Files.createTempFile("bundle", ".zip");
 		}
 		catch (IOException ex) {
 			throw new UncheckedIOException("Failed to create bundle", ex);
 		}
 	}
 
-	private void copyFileContents(Path file, OutputStream outputStream) throws IOException {
-		try (InputStream inputStream = Files.newInputStream(file)) {
-			inputStream.transferTo(outputStream);
+	private void writeBundle(List<PendingFile> files, ZipWriter zip, Statistics statistics) throws IOException {
+		Deque<PendingFile> pending = new ArrayDeque<>();
+		// The writer compresses the entry at the head of the queue itself, so only the
+		// remaining threads compress ahead
+		try (ExecutorService executor = (this.parallelism > 1)
+				? Executors.newFixedThreadPool(this.parallelism - 1, this.threadFactory) : null) {
+			try {
+				for (PendingFile file : files) {
+					if (pending.size() >= this.parallelism * 2) {
+						writeEntries(zip, pending.removeFirst(), statistics);
+					}
+					// Storing only copies the data, buffering it ahead saves nothing
+					if (executor != null && file.method() == ZipEntry.DEFLATED) {
+						file.prepareAhead(executor,
+								() -> statistics.callMeasured(() -> prepareEntries(file, statistics)));
+					}
+					pending.add(file);
+				}
+				while (!pending.isEmpty()) {
+					writeEntries(zip, pending.removeFirst(), statistics);
+				}
+			}
+			catch (IOException | RuntimeException ex) {
+				if (executor != null) {
+					executor.shutdownNow();
+				}
+				throw ex;
+			}
+		}
+		finally {
+			// Closing the executor waits for running tasks, so that the buffers of all
+			// entries which haven't been written can be released
+			releaseEntries(pending);
+		}
+	}
+
+	private void writeEntries(ZipWriter zip, PendingFile file, Statistics statistics) throws IOException {
+		if (file.claim()) {
+			addEntries(file, zip::writeEntry, statistics);
+			return;
+		}
+		List<PreparedEntry> entries = getEntries(file.getPrepared());
+		try {
+			for (PreparedEntry entry : entries) {
+				zip.writeEntry(entry.name(), entry.method(), entry.crc(), entry.size(), entry.buffer().getSize(),
+						entry.buffer()::writeTo);
+			}
+		}
+		finally {
+			release(entries);
+		}
+	}
+
+	private List<PreparedEntry> getEntries(Future<List<PreparedEntry>> future) throws IOException {
+		try {
+			return future.get();
+		}
+		catch (ExecutionException ex) {
+			throw Concurrency.rethrow(ex.getCause(), IOException.class, "Failed to create bundle");
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Got interrupted while creating bundle", ex);
+		}
+	}
+
+	private void releaseEntries(Deque<PendingFile> pending) throws IOException {
+		for (PendingFile file : pending) {
+			Future<List<PreparedEntry>> prepared = file.prepared();
+			if (prepared != null && prepared.state() == Future.State.SUCCESS) {
+				release(prepared.resultNow());
+			}
 		}
 	}
 
-	private ZipEntry createZipEntry(Path root, Path file) throws IOException {
-		String name = root.relativize(file).toString().replace('\\', '/');
-		return new ZipEntry(name);
+	private void release(List<PreparedEntry> entries) throws IOException {
+		for (PreparedEntry entry : entries) {
+			entry.buffer().release();
+		}
+	}
+
+	private List<PreparedEntry> prepareEntries(PendingFile file, Statistics statistics) throws IOException {
+		if (!file.claim()) {
+			// The writer has caught up and streams the entries itself
+			return List.of();
+		}
+		List<PreparedEntry> entries = new ArrayList<>();
+		boolean prepared = false;
+		try {
+			addEntries(file, (name, method, content) -> entries.add(prepareEntry(name, method, content)), statistics);
+			prepared = true;
+			return entries;
+		}
+		finally {
+			if (!prepared) {
+				release(entries);
+			}
+		}
+	}
+
+	private PreparedEntry prepareEntry(String name, int method, ZipWriter.StreamingContent content) throws IOException {
+		EntryBuffer data = new EntryBuffer(MEMORY_THRESHOLD);
+		boolean prepared = false;
+		try {
+			UncompressedContent uncompressed;
+			try (data) {
+				uncompressed = content.writeTo(data);
+			}
+			PreparedEntry entry = new PreparedEntry(name, method, uncompressed.crc(), uncompressed.size(), data);
+			prepared = true;
+			return entry;
+		}
+		finally {
+			// Runtime exceptions must release the buffer, too, it may have spilled to a
+			// temporary file
+			if (!prepared) {
+				data.release();
+			}
+		}
+	}
+
+	private void addEntries(PendingFile file, EntryConsumer consumer, Statistics statistics) throws IOException {
+		MultiDigest digest = file.checksummed() ? MultiDigest.create() : null;
+		consumer.accept(file.name(), file.method(), (outputStream) -> {
+			try (InputStream inputStream = Files.newInputStream(file.path())) {
+				return write(inputStream, file.method(), digest, outputStream, statistics);
+			}
+		});
+		if (digest != null) {
+			for (Map.Entry<ChecksumAlgorithm, String> checksum : digest.finish().entrySet()) {
+				String checksumName = file.name() + "." + checksum.getKey().getFileExtension();
+				byte[] content = checksum.getValue().getBytes(StandardCharsets.UTF_8);
+				consumer.accept(checksumName, ZipEntry.DEFLATED,
+						(outputStream) -> write(new ByteArrayInputStream(content), ZipEntry.DEFLATED, null,
+								outputStream, statistics));
+			}
+		}
+	}
+
+	private UncompressedContent write(InputStream inputStream, int method, @Nullable MultiDigest digest,
+			OutputStream outputStream, Statistics statistics) throws IOException {
+		if (method == ZipEntry.STORED) {
+			UncompressedContent content = copy(inputStream, digest, outputStream);
+			statistics.addStoredEntry(content.size());
+			return content;
+		}
+		Deflater deflater = new Deflater(this.compressionLevel, true);
+		deflater.setStrategy(this.compressionStrategy.getValue());
+		try {
+			// Finishing instead of closing, the output stream may belong to the zip file
+			DeflaterOutputStream deflaterStream = new DeflaterOutputStream(outputStream, deflater, BUFFER_SIZE);
+			UncompressedContent content = copy(inputStream, digest, deflaterStream);
+			deflaterStream.finish();
+			statistics.addDeflatedEntry(content.size());
+			return content;
+		}
+		finally {
+			deflater.end();
+		}
+	}
+
+	private UncompressedContent copy(InputStream inputStream, @Nullable MultiDigest digest, OutputStream outputStream)
+			throws IOException {
+		CRC32 crc = new CRC32();
+		byte[] buffer = new byte[BUFFER_SIZE];
+		long size = 0;
+		int read;
+		while ((read = inputStream.read(buffer)) != -1) {
+			crc.update(buffer, 0, read);
+			if (digest != null) {
+				digest.update(buffer, 0, read);
+			}
+			outputStream.write(buffer, 0, read);
+			size += read;
+		}
+		return new UncompressedContent(crc.getValue(), size);
+	}
+
+	private Set<Path> getChecksumFiles(FileSet checksummedFiles) {
+		Set<Path> checksumFiles = new HashSet<>();
+		for (Path file : checksummedFiles) {
+			for (ChecksumAlgorithm algorithm : ChecksumAlgorithm.values()) {
+				checksumFiles.add(Path.of(file + "." + algorithm.getFileExtension()));
+			}
+		}
+		return checksumFiles;
+	}
+
+	private void deleteBundle(Path bundle) {
+		try {
+			Files.deleteIfExists(bundle);
+		}
+		catch (IOException ex) {
+			// Ignore, the original exception is more important
+		}
+	}
+
+	private record PreparedEntry(String name, int method, long crc, long size, EntryBuffer buffer) {
+
+	}
+
+	/**
+	 * A file which is waiting to be written. Its entries are either prepared ahead of the
+	 * writer or streamed by the writer, depending on who claims the file first.
+	 */
+	private static final class PendingFile {
+
+		private final Path path;
+
+		private final String name;
+
+		private final int method;
+
+		private final boolean checksummed;
+
+		private final AtomicBoolean claimed = new AtomicBoolean();
+
+		private @Nullable Future<List<PreparedEntry>> prepared;
+
+		PendingFile(Path path, String name, int method, boolean checksummed) {
+			this.path = path;
+			this.name = name;
+			this.method = method;
+			this.checksummed = checksummed;
+		}
+
+		Path path() {
+			return this.path;
+		}
+
+		String name() {
+			return this.name;
+		}
+
+		int method() {
+			return this.method;
+		}
+
+		boolean checksummed() {
+			return this.checksummed;
+		}
+
+		boolean claim() {
+			return this.claimed.compareAndSet(false, true);
+		}
+
+		void prepareAhead(ExecutorService executor, Callable<List<PreparedEntry>> task) {
+			this.prepared = executor.submit(task);
+		}
+
+		@Nullable Future<List<PreparedEntry>> prepared() {
+			return this.prepared;
+		}
+
+		Future<List<PreparedEntry>> getPrepared() {
+			Future<List<PreparedEntry>> prepared = this.prepared;
+			Assert.state(prepared != null, "Entries of '%s' haven't been prepared".formatted(this.name));
+			return prepared;
+		}
+
+	}
+
+	@FunctionalInterface
+	private interface EntryConsumer {
+
+		void accept(String name, int method, ZipWriter.StreamingContent content) throws IOException;
+
+	}
+
+	/**
+	 * Collects the statistics of a single bundle creation.
+	 */
+	private static final class Statistics {
+
+		private static final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+		private final AtomicInteger storedEntries = new AtomicInteger();
+
+		private final AtomicInteger deflatedEntries = new AtomicInteger();
+
+		private final AtomicLong uncompressedSize = new AtomicLong();
+
+		private final AtomicLong cpuTime = new AtomicLong();
+
+		void addStoredEntry(long size) {
+			this.storedEntries.incrementAndGet();
+			this.uncompressedSize.addAndGet(size);
+		}
+
+		void addDeflatedEntry(long size) {
+			this.deflatedEntries.incrementAndGet();
+			this.uncompressedSize.addAndGet(size);
+		}
+
+		<T> T callMeasured(IOCallable<T> callable) throws IOException {
+			if (!threadMXBean.isCurrentThreadCpuTimeSupported()) {
+				return callable.call();
+			}
+			long start = threadMXBean.getCurrentThreadCpuTime();
+			try {
+				return callable.call();
+			}
+			finally {
+				this.cpuTime.addAndGet(threadMXBean.getCurrentThreadCpuTime() - start);
+			}
+		}
+
+		BundleStatistics toBundleStatistics(long size) {
+			return new BundleStatistics(this.storedEntries.get(), this.deflatedEntries.get(),
+					DataSize.ofBytes(this.uncompressedSize.get()), DataSize.ofBytes(size),
+					Duration.ofNanos(this.cpuTime.get()));
+		}
+
+	}
+
+	@FunctionalInterface
+	private interface IOCallable<T> {
+
+		T call() throws IOException;
+
 	}
 
 }
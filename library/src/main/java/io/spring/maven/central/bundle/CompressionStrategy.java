@@ -0,0 +1,55 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.bundle;
+
+import java.util.zip.Deflater;
+
+/**
+ * Strategy used to deflate bundle entries.
+ *
+ * @author Moritz Halbritter
+ * @see Deflater#setStrategy(int)
+ */
+public enum CompressionStrategy {
+
+	/**
+	 * The default strategy.
+	 */
+	DEFAULT(Deflater.DEFAULT_STRATEGY),
+
+	/**
+	 * Strategy for data consisting mostly of small values with a somewhat random
+	 * distribution.
+	 */
+	FILTERED(Deflater.FILTERED),
+
+	/**
+	 * Huffman coding only, without string matching. Fast, but compresses less.
+	 */
+	HUFFMAN_ONLY(Deflater.HUFFMAN_ONLY);
+
+	private final int value;
+
+	CompressionStrategy(int value) {
+		this.value = value;
+	}
+
+	int getValue() {
+		return this.value;
+	}
+
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.bundle;
+
+import java.util.Locale;
+import java.util.Set;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link EntryMethodPolicy} which stores files whose format is already compressed.
+ * Deflating them again costs CPU time without reducing their size.
+ *
+ * @author Moritz Halbritter
+ */
+class ContentAwareEntryMethodPolicy implements EntryMethodPolicy {
+
+	private static final Set<String> COMPRESSED_FILE_EXTENSIONS = Set.of("jar", "war", "ear", "aar", "jmod", "zip",
+			"gz", "tgz", "bz2", "xz", "7z");
+
+	@Override
+	public Method getMethod(String name) {
+		String extension = StringUtils.getFilenameExtension(name);
+		if (extension != null && COMPRESSED_FILE_EXTENSIONS.contains(extension.toLowerCase(Locale.ROOT))) {
+			return Method.STORED;
+		}
+		return Method.DEFLATED;
+	}
+
+}
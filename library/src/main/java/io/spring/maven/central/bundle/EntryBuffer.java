@@ -0,0 +1,122 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.bundle;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Buffers the compressed data of a bundle entry. Data is kept in memory until it exceeds
+ * the memory threshold, after that it is spilled to a temporary file.
+ *
+ * @author Moritz Halbritter
+ */
+class EntryBuffer extends OutputStream {
+
+	private final int memoryThreshold;
+
+	private @Nullable ByteArrayOutputStream memory = new ByteArrayOutputStream();
+
+	private @Nullable Path file;
+
+	private @Nullable OutputStream fileStream;
+
+	private long size;
+
+	EntryBuffer(int memoryThreshold) {
+		this.memoryThreshold = memoryThreshold;
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		write(new byte[] { (byte) b }, 0, 1);
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		getTarget(len).write(b, off, len);
+		this.size += len;
+	}
+
+	private OutputStream getTarget(int len) throws IOException {
+		ByteArrayOutputStream memory = this.memory;
+		if (memory != null && memory.size() + (long) len <= this.memoryThreshold) {
+			return memory;
+		}
+		if (this.fileStream == null) {
+			Path file = Files.createTempFile("bundle-entry", ".tmp");
+			this.file = file;
+			OutputStream fileStream = Files.newOutputStream(file);
+			this.fileStream = fileStream;
+			if (memory != null) {
+				memory.writeTo(fileStream);
+				this.memory = null;
+			}
+		}
+		return this.fileStream;
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (this.fileStream != null) {
+			this.fileStream.close();
+		}
+	}
+
+	/**
+	 * Returns the number of buffered bytes.
+	 * @return the number of buffered bytes
+	 */
+	long getSize() {
+		return this.size;
+	}
+
+	/**
+	 * Writes the buffered bytes to the given output stream.
+	 * @param outputStream the output stream
+	 * @throws IOException if an I/O error occurs
+	 */
+	void writeTo(OutputStream outputStream) throws IOException {
+		if (this.memory != null) {
+			this.memory.writeTo(outputStream);
+			return;
+		}
+		close();
+		if (this.file != null) {
+			Files.copy(this.file, outputStream);
+		}
+	}
+
+	/**
+	 * Releases the buffered data, deleting the temporary file if the data has been
+	 * spilled to disk.
+	 * @throws IOException if an I/O error occurs
+	 */
+	void release() throws IOException {
+		this.memory = null;
+		close();
+		if (this.file != null) {
+			Files.deleteIfExists(this.file);
+		}
+	}
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.bundle;
+
+/**
+ * Decides which compression method is used for the entries of a bundle.
+ *
+ * @author Moritz Halbritter
+ */
+public interface EntryMethodPolicy {
+
+	/**
+	 * Returns the compression method for the entry with the given name.
+	 * @param name the name of the entry
+	 * @return the compression method
+	 */
+	Method getMethod(String name);
+
+	/**
+	 * Returns a policy which stores already compressed files, like jars and zips, without
+	 * compressing them again. All other files are deflated.
+	 * @return the policy
+	 */
+	static EntryMethodPolicy contentAware() {
+		return new ContentAwareEntryMethodPolicy();
+	}
+
+	/**
+	 * Returns a policy which deflates all entries.
+	 * @return the policy
+	 */
+	static EntryMethodPolicy deflateAll() {
+		return (name) -> Method.DEFLATED;
+	}
+
+	/**
+	 * Compression method of a bundle entry.
+	 */
+	enum Method {
+
+		/**
+		 * The entry is stored without compression.
+		 */
+		STORED,
+
+		/**
+		 * The entry is compressed with deflate.
+		 */
+		DEFLATED
+
+	}
+
+}
@@ -0,0 +1,341 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.bundle;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.zip.ZipEntry;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * Writes zip files from entries which have already been compressed. Local file headers,
+ * the central directory and the end of central directory record are written manually, so
+ * that entries can be compressed independently of each other and stitched together
+ * afterwards. Entries can also be streamed, in which case their CRC-32 and sizes are
+ * patched into the local file header when writing to a file, or written to a data
+ * descriptor otherwise. The zip file is only complete after {@link #finish()} has been
+ * called. Zip64 is not supported.
+ *
+ * @author Moritz Halbritter
+ */
+class ZipWriter implements Closeable {
+
+	private static final int LOCAL_FILE_HEADER_SIGNATURE = 0x04034b50;
+
+	private static final int CENTRAL_DIRECTORY_HEADER_SIGNATURE = 0x02014b50;
+
+	private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+
+	private static final int DATA_DESCRIPTOR_SIGNATURE = 0x08074b50;
+
+	private static final int VERSION = 20;
+
+	private static final int UTF8_FLAG = 0x0800;
+
+	private static final int DATA_DESCRIPTOR_FLAG = 0x0008;
+
+	private static final int CRC_OFFSET = 14;
+
+	private static final long MAX_SIZE = 0xFFFFFFFFL;
+
+	private static final int MAX_ENTRIES = 0xFFFF;
+
+	private final CountingOutputStream outputStream;
+
+	private final @Nullable FileChannel channel;
+
+	private final int dosTime;
+
+	private final ByteArrayOutputStream centralDirectory = new ByteArrayOutputStream();
+
+	private int entries;
+
+	ZipWriter(OutputStream outputStream, LocalDateTime time) {
+		this(outputStream, null, time);
+	}
+
+	ZipWriter(FileChannel channel, LocalDateTime time) {
+		this(Channels.newOutputStream(channel), channel, time);
+	}
+
+	private ZipWriter(OutputStream outputStream, @Nullable FileChannel channel, LocalDateTime time) {
+		this.outputStream = new CountingOutputStream(new BufferedOutputStream(outputStream, 64 * 1024));
+		this.channel = channel;
+		this.dosTime = toDosTime(time);
+	}
+
+	/**
+	 * Writes an entry.
+	 * @param name the name of the entry
+	 * @param method the compression method, either {@link ZipEntry#STORED} or
+	 * {@link ZipEntry#DEFLATED}
+	 * @param crc the CRC-32 of the uncompressed data
+	 * @param size the size of the uncompressed data
+	 * @param compressedSize the size of the compressed data
+	 * @param content writes the compressed data
+	 * @throws IOException if an I/O error occurs
+	 */
+	void writeEntry(String name, int method, long crc, long size, long compressedSize, Content content)
+			throws IOException {
+		Assert.isTrue(method == ZipEntry.STORED || method == ZipEntry.DEFLATED, "'method' must be STORED or DEFLATED");
+		long offset = this.outputStream.getCount();
+		checkLimits(name, size, compressedSize, offset);
+		byte[] encodedName = name.getBytes(StandardCharsets.UTF_8);
+		writeLocalHeader(UTF8_FLAG, method, crc, size, compressedSize, encodedName);
+		long start = this.outputStream.getCount();
+		content.writeTo(this.outputStream);
+		long written = this.outputStream.getCount() - start;
+		if (written != compressedSize) {
+			throw new IllegalStateException(
+					"Expected %d bytes for entry '%s', but got %d".formatted(compressedSize, name, written));
+		}
+		addCentralHeader(UTF8_FLAG, method, crc, size, compressedSize, encodedName, offset);
+	}
+
+	/**
+	 * Writes an entry whose CRC-32 and sizes are only known after its data has been
+	 * written.
+	 * @param name the name of the entry
+	 * @param method the compression method, either {@link ZipEntry#STORED} or
+	 * {@link ZipEntry#DEFLATED}
+	 * @param content writes the compressed data
+	 * @throws IOException if an I/O error occurs
+	 */
+	void writeEntry(String name, int method, StreamingContent content) throws IOException {
+		Assert.isTrue(method == ZipEntry.STORED || method == ZipEntry.DEFLATED, "'method' must be STORED or DEFLATED");
+		long offset = this.outputStream.getCount();
+		checkLimits(name, 0, 0, offset);
+		byte[] encodedName = name.getBytes(StandardCharsets.UTF_8);
+		int flags = (this.channel != null) ? UTF8_FLAG : UTF8_FLAG | DATA_DESCRIPTOR_FLAG;
+		writeLocalHeader(flags, method, 0, 0, 0, encodedName);
+		long start = this.outputStream.getCount();
+		UncompressedContent uncompressed = content.writeTo(this.outputStream);
+		long compressedSize = this.outputStream.getCount() - start;
+		checkLimits(name, uncompressed.size(), compressedSize, offset);
+		ByteBuffer sizes = allocate(12);
+		sizes.putInt((int) uncompressed.crc());
+		sizes.putInt((int) compressedSize);
+		sizes.putInt((int) uncompressed.size());
+		if (this.channel != null) {
+			// Positional writes don't move the channel, so the header can be patched
+			// while the following entries are appended
+			this.outputStream.flush();
+			this.channel.write(sizes.flip(), offset + CRC_OFFSET);
+		}
+		else {
+			this.outputStream.write(allocate(4).putInt(DATA_DESCRIPTOR_SIGNATURE).array());
+			this.outputStream.write(sizes.array());
+		}
+		addCentralHeader(flags, method, uncompressed.crc(), uncompressed.size(), compressedSize, encodedName, offset);
+	}
+
+	private void writeLocalHeader(int flags, int method, long crc, long size, long compressedSize, byte[] encodedName)
+			throws IOException {
+		ByteBuffer localHeader = allocate(30 + encodedName.length);
+		localHeader.putInt(LOCAL_FILE_HEADER_SIGNATURE);
+		localHeader.putShort((short) VERSION);
+		putCommonFields(localHeader, flags, method, crc, size, compressedSize, encodedName);
+		localHeader.put(encodedName);
+		this.outputStream.write(localHeader.array());
+	}
+
+	private void addCentralHeader(int flags, int method, long crc, long size, long compressedSize, byte[] encodedName,
+			long offset) throws IOException {
+		ByteBuffer centralHeader = allocate(46 + encodedName.length);
+		centralHeader.putInt(CENTRAL_DIRECTORY_HEADER_SIGNATURE);
+		centralHeader.putShort((short) VERSION);
+		centralHeader.putShort((short) VERSION);
+		putCommonFields(centralHeader, flags, method, crc, size, compressedSize, encodedName);
+		centralHeader.putShort((short) 0);
+		centralHeader.putShort((short) 0);
+		centralHeader.putShort((short) 0);
+		centralHeader.putInt(0);
+		centralHeader.putInt((int) offset);
+		centralHeader.put(encodedName);
+		this.centralDirectory.write(centralHeader.array());
+		this.entries++;
+	}
+
+	/**
+	 * Returns the number of bytes written so far. After the writer has been finished,
+	 * this is the size of the zip file.
+	 * @return the number of bytes written
+	 */
+	long getSize() {
+		return this.outputStream.getCount();
+	}
+
+	private void checkLimits(String name, long size, long compressedSize, long offset) {
+		if (this.entries >= MAX_ENTRIES) {
+			throw new IllegalStateException("Bundle exceeds the maximum of %d entries".formatted(MAX_ENTRIES));
+		}
+		if (size > MAX_SIZE || compressedSize > MAX_SIZE || offset > MAX_SIZE) {
+			throw new IllegalStateException("Entry '%s' exceeds the maximum zip size of 4 GiB".formatted(name));
+		}
+	}
+
+	private void putCommonFields(ByteBuffer buffer, int flags, int method, long crc, long size, long compressedSize,
+			byte[] encodedName) {
+		buffer.putShort((short) flags);
+		buffer.putShort((short) method);
+		buffer.putInt(this.dosTime);
+		buffer.putInt((int) crc);
+		buffer.putInt((int) compressedSize);
+		buffer.putInt((int) size);
+		buffer.putShort((short) encodedName.length);
+		buffer.putShort((short) 0);
+	}
+
+	/**
+	 * Finishes the zip file by writing the central directory and the end of central
+	 * directory record. Must only be called after all entries have been written
+	 * successfully, so that a partially written zip file is never completed.
+	 * @throws IOException if an I/O error occurs
+	 */
+	void finish() throws IOException {
+		long offset = this.outputStream.getCount();
+		int size = this.centralDirectory.size();
+		if (offset > MAX_SIZE) {
+			throw new IllegalStateException("Bundle exceeds the maximum zip size of 4 GiB");
+		}
+		this.centralDirectory.writeTo(this.outputStream);
+		ByteBuffer end = allocate(22);
+		end.putInt(END_OF_CENTRAL_DIRECTORY_SIGNATURE);
+		end.putShort((short) 0);
+		end.putShort((short) 0);
+		end.putShort((short) this.entries);
+		end.putShort((short) this.entries);
+		end.putInt(size);
+		end.putInt((int) offset);
+		end.putShort((short) 0);
+		this.outputStream.write(end.array());
+		this.outputStream.flush();
+	}
+
+	/**
+	 * Closes the underlying output stream without finishing the zip file.
+	 * @throws IOException if an I/O error occurs
+	 */
+	@Override
+	public void close() throws IOException {
+		this.outputStream.close();
+	}
+
+	private static ByteBuffer allocate(int size) {
+		return ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	private static int toDosTime(LocalDateTime time) {
+		if (time.getYear() < 1980) {
+			return (1 << 21) | (1 << 16);
+		}
+		return (time.getYear() - 1980) << 25 | time.getMonthValue() << 21 | time.getDayOfMonth() << 16
+				| time.getHour() << 11 | time.getMinute() << 5 | time.getSecond() >> 1;
+	}
+
+	/**
+	 * Writes the compressed data of an entry.
+	 */
+	@FunctionalInterface
+	interface Content {
+
+		/**
+		 * Writes the compressed data to the given output stream.
+		 * @param outputStream the output stream
+		 * @throws IOException if an I/O error occurs
+		 */
+		void writeTo(OutputStream outputStream) throws IOException;
+
+	}
+
+	/**
+	 * Writes the compressed data of an entry whose CRC-32 and sizes aren't known upfront.
+	 */
+	@FunctionalInterface
+	interface StreamingContent {
+
+		/**
+		 * Writes the compressed data to the given output stream.
+		 * @param outputStream the output stream
+		 * @return the CRC-32 and size of the uncompressed data
+		 * @throws IOException if an I/O error occurs
+		 */
+		UncompressedContent writeTo(OutputStream outputStream) throws IOException;
+
+	}
+
+	/**
+	 * The CRC-32 and size of the uncompressed data of an entry.
+	 *
+	 * @param crc the CRC-32 of the uncompressed data
+	 * @param size the size of the uncompressed data
+	 */
+	record UncompressedContent(long crc, long size) {
+
+	}
+
+	private static final class CountingOutputStream extends OutputStream {
+
+		private final OutputStream delegate;
+
+		private long count;
+
+		CountingOutputStream(OutputStream delegate) {
+			this.delegate = delegate;
+		}
+
+		long getCount() {
+			return this.count;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			this.delegate.write(b);
+			this.count++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			this.delegate.write(b, off, len);
+			this.count += len;
+		}
+
+		@Override
+		public void flush() throws IOException {
+			this.delegate.flush();
+		}
+
+		@Override
+		public void close() throws IOException {
+			this.delegate.close();
+		}
+
+	}
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.checksum;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Checksum algorithms.
+ *
+ * @author Moritz Halbritter
+ */
+public enum ChecksumAlgorithm {
+
+	/**
+	 * MD5 checksum.
+	 */
+	MD5("MD5", "md5"),
+	/**
+	 * SHA-1 checksum.
+	 */
+	SHA1("SHA-1", "sha1");
+
+	private final String algorithmName;
+
+	private final String fileExtension;
+
+	ChecksumAlgorithm(String algorithmName, String fileExtension) {
+		this.algorithmName = algorithmName;
+		this.fileExtension = fileExtension;
+	}
+
+	/**
+	 * Returns the file extension of checksum files using this algorithm.
+	 * @return the file extension
+	 */
+	public String getFileExtension() {
+		return this.fileExtension;
+	}
+
+	MessageDigest createMessageDigest() {
+		try {
+			return MessageDigest.getInstance(this.algorithmName);
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException("Unknown checksum algorithm '%s'".formatted(this.algorithmName), ex);
+		}
+	}
+
+}
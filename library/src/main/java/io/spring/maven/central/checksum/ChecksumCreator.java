@@ -16,9 +16,17 @@
 
 package io.spring.maven.central.checksum;
 
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
 import io.spring.maven.central.file.FileSet;
 import io.spring.maven.central.log.Logger;
 
+import org.springframework.util.unit.DataSize;
+
 /**
  * Creates checksums.
  *
@@ -33,6 +41,23 @@ public interface ChecksumCreator {
 	 */
 	FileSet createChecksums(FileSet files);
 
+	/**
+	 * Calculates the checksums for all {@link ChecksumAlgorithm checksum algorithms} of
+	 * the given file. The file is read only once.
+	 * @param file the file to calculate the checksums for
+	 * @return the checksums, keyed by algorithm
+	 */
+	Map<ChecksumAlgorithm, String> calculateChecksums(Path file);
+
+	/**
+	 * Returns the files of the given files for which checksums are created, without
+	 * creating the checksums. The checksum policy is applied to already existing checksum
+	 * files.
+	 * @param files the files
+	 * @return the files for which checksums are created
+	 */
+	FileSet getChecksummedFiles(FileSet files);
+
 	/**
 	 * Creates a new {@link ChecksumCreator}.
 	 * @param logger the logger
@@ -40,7 +65,18 @@ public interface ChecksumCreator {
 	 * @return the {@link ChecksumCreator}
 	 */
 	static ChecksumCreator create(Logger logger, ChecksumPolicy checksumPolicy) {
-		return new ChecksumCreatorImpl(logger, checksumPolicy);
+		return create(logger, checksumPolicy, Options.defaults());
+	}
+
+	/**
+	 * Creates a new {@link ChecksumCreator} with the given options.
+	 * @param logger the logger
+	 * @param checksumPolicy the checksum policy
+	 * @param options the options
+	 * @return the {@link ChecksumCreator}
+	 */
+	static ChecksumCreator create(Logger logger, ChecksumPolicy checksumPolicy, Options options) {
+		return new ChecksumCreatorImpl(logger, checksumPolicy, options);
 	}
 
 	/**
@@ -48,7 +84,77 @@ public interface ChecksumCreator {
 	 * @return the {@link ChecksumCreator}
 	 */
 	static ChecksumCreator noop() {
-		return (_) -> FileSet.empty();
+		return new ChecksumCreator() {
+			@Override
+			public FileSet createChecksums(FileSet files) {
+				return FileSet.empty();
+			}
+
+			@Override
+			public Map<ChecksumAlgorithm, String> calculateChecksums(Path file) {
+				return Collections.emptyMap();
+			}
+
+			@Override
+			public FileSet getChecksummedFiles(FileSet files) {
+				return FileSet.empty();
+			}
+		};
+	}
+
+	/**
+	 * Options for a {@link ChecksumCreator}. Files of at least the large file threshold
+	 * are read through a {@link java.nio.channels.FileChannel} into a direct buffer of
+	 * the large file buffer size.
+	 *
+	 * @param parallelism the maximum number of files to process concurrently, capped at
+	 * the number of available processors
+	 * @param largeFileThreshold the size from which on a file is considered large
+	 * @param largeFileBufferSize the size of the buffer used to read large files
+	 * @param threadFactory the factory for the threads which process the files. As
+	 * hashing is CPU-bound, this should create platform threads
+	 */
+	record Options(int parallelism, DataSize largeFileThreshold, DataSize largeFileBufferSize,
+			ThreadFactory threadFactory) {
+
+		/**
+		 * Returns the default options: a single thread and a large file threshold and
+		 * buffer size of 1 MB.
+		 * @return the default options
+		 */
+		public static Options defaults() {
+			return new Options(1, DataSize.ofMegabytes(1), DataSize.ofMegabytes(1), Executors.defaultThreadFactory());
+		}
+
+		/**
+		 * Returns a copy of these options with the given parallelism.
+		 * @param parallelism the maximum number of files to process concurrently
+		 * @return the new options
+		 */
+		public Options withParallelism(int parallelism) {
+			return new Options(parallelism, this.largeFileThreshold, this.largeFileBufferSize, this.threadFactory);
+		}
+
+		/**
+		 * Returns a copy of these options with the given large file threshold and buffer
+		 * size.
+		 * @param largeFileThreshold the size from which on a file is considered large
+		 * @param largeFileBufferSize the size of the buffer used to read large files
+		 * @return the new options
+		 */
+		public Options withLargeFiles(DataSize largeFileThreshold, DataSize largeFileBufferSize) {
+			return new Options(this.parallelism, largeFileThreshold, largeFileBufferSize, this.threadFactory);
+		}
+
+		/**
+		 * Returns a copy of these options with the given thread factory.
+		 * @param threadFactory the factory for the threads which process the files
+		 * @return the new options
+		 */
+		public Options withThreadFactory(ThreadFactory threadFactory) {
+			return new Options(this.parallelism, this.largeFileThreshold, this.largeFileBufferSize, threadFactory);
+		}
+
 	}
 
 }
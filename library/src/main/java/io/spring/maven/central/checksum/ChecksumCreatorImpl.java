@@ -17,26 +17,47 @@
 package io.spring.maven.central.checksum;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.security.DigestInputStream;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
-import java.util.HexFormat;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Consumer;
+import java.util.stream.StreamSupport;
 
 import io.spring.maven.central.file.FileSet;
 import io.spring.maven.central.log.Logger;
+import io.spring.maven.central.util.Concurrency;
 
-import org.springframework.util.StreamUtils;
+import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
 
 /**
  * Default implementation for {@link ChecksumCreator}. Creates MD5 and SHA-1 checksums.
+ * Every file is read only once, feeding all message digests from the same buffer. If the
+ * parallelism is greater than 1, multiple files are processed concurrently. Large files
+ * are read through a {@link FileChannel} into a direct buffer, which avoids copying the
+ * file contents through small heap buffers. The direct buffers are pooled, as their
+ * memory is only freed by the garbage collector, so at most one buffer per concurrently
+ * hashed file is allocated.
  *
  * @author Moritz Halbritter
  */
@@ -44,55 +65,177 @@ class ChecksumCreatorImpl implements ChecksumCreator {
 
 	private static final Set<String> IGNORED_FILE_EXTENSIONS = Set.of("asc", "md5", "sha1");
 
+	private static final int BUFFER_SIZE = 64 * 1024;
+
 	private final Logger logger;
 
 	private final ChecksumPolicy checksumPolicy;
 
+	private final int parallelism;
+
+	private final long largeFileThreshold;
+
+	private final int largeFileBufferSize;
+
+	private final ThreadFactory threadFactory;
+
+	private final Queue<ByteBuffer> largeFileBuffers = new ConcurrentLinkedQueue<>();
+
 	ChecksumCreatorImpl(Logger logger, ChecksumPolicy checksumPolicy) {
+		this(logger, checksumPolicy, Options.defaults());
+	}
+
+	ChecksumCreatorImpl(Logger logger, ChecksumPolicy checksumPolicy, Options options) {
+		int parallelism = options.parallelism();
+		DataSize largeFileBufferSize = options.largeFileBufferSize();
+		Assert.isTrue(parallelism > 0, "'parallelism' must be greater than 0");
+		Assert.isTrue(largeFileBufferSize.toBytes() > 0 && largeFileBufferSize.toBytes() <= Integer.MAX_VALUE,
+				"'largeFileBufferSize' must be greater than 0 and less than 2 GiB");
 		this.logger = logger;
 		this.checksumPolicy = checksumPolicy;
+		// Hashing is CPU-bound, more threads than processors only add contention
+		this.parallelism = Math.min(parallelism, Runtime.getRuntime().availableProcessors());
+		this.largeFileThreshold = options.largeFileThreshold().toBytes();
+		this.largeFileBufferSize = (int) largeFileBufferSize.toBytes();
+		this.threadFactory = options.threadFactory();
 	}
 
 	@Override
 	public FileSet createChecksums(FileSet files) {
-		List<Path> checksumFiles = new ArrayList<>();
-		for (Path path : files) {
-			if (matches(path)) {
-				checksumFiles.add(createChecksumFile("md5", path));
-				checksumFiles.add(createChecksumFile("sha1", path));
-			}
+		List<Path> paths = getSortedChecksummedFiles(files);
+		// The checksum policy is applied upfront and in a stable order, so that failures
+		// are deterministic and happen before any checksum file has been written
+		Map<Path, Map<ChecksumAlgorithm, Path>> checksumFiles = new LinkedHashMap<>();
+		for (Path path : paths) {
+			checksumFiles.put(path, getChecksumFiles(path));
 		}
-		return FileSet.of(checksumFiles);
+		forEach(paths, (path) -> createChecksumFiles(path, checksumFiles.get(path)));
+		List<Path> result = new ArrayList<>();
+		checksumFiles.values().forEach((checksumFilesOfPath) -> result.addAll(checksumFilesOfPath.values()));
+		return FileSet.of(result);
 	}
 
-	private Path createChecksumFile(String algorithm, Path path) {
-		Path checksumFile = Path.of(path.toString() + "." + algorithm);
-		if (Files.exists(checksumFile)) {
-			this.checksumPolicy.checksumExists(checksumFile);
+	@Override
+	public FileSet getChecksummedFiles(FileSet files) {
+		List<Path> paths = getSortedChecksummedFiles(files);
+		for (Path path : paths) {
+			getChecksumFiles(path);
 		}
-		this.logger.debug("Creating {} checksum for {}", algorithm, path);
-		String checksum = createChecksum(algorithm, path);
+		return FileSet.of(paths);
+	}
+
+	private List<Path> getSortedChecksummedFiles(FileSet files) {
+		return StreamSupport.stream(files.spliterator(), false)
+			.filter(this::matches)
+			.sorted(Comparator.naturalOrder())
+			.toList();
+	}
+
+	@Override
+	public Map<ChecksumAlgorithm, String> calculateChecksums(Path file) {
+		MultiDigest digest = MultiDigest.create();
 		try {
-			Files.writeString(checksumFile, checksum);
+			if (Files.size(file) >= this.largeFileThreshold) {
+				digestLargeFile(file, digest);
+			}
+			else {
+				digestFile(file, digest);
+			}
 		}
 		catch (IOException ex) {
-			throw new UncheckedIOException("Failed to write checksum to file '%s'".formatted(checksumFile), ex);
+			throw new UncheckedIOException("Failed to create checksum for file '%s'".formatted(file), ex);
 		}
-		return checksumFile;
+		return digest.finish();
 	}
 
-	private String createChecksum(String algorithm, Path path) {
-		try (DigestInputStream stream = new DigestInputStream(Files.newInputStream(path),
-				MessageDigest.getInstance(algorithm))) {
-			StreamUtils.drain(stream);
-			byte[] checksum = stream.getMessageDigest().digest();
-			return HexFormat.of().formatHex(checksum);
+	private void digestFile(Path file, MultiDigest digest) throws IOException {
+		try (InputStream stream = Files.newInputStream(file)) {
+			byte[] buffer = new byte[BUFFER_SIZE];
+			int read;
+			while ((read = stream.read(buffer)) != -1) {
+				digest.update(buffer, 0, read);
+			}
 		}
-		catch (IOException ex) {
-			throw new UncheckedIOException("Failed to create checksum for file '%s'".formatted(path), ex);
+	}
+
+	private void digestLargeFile(Path file, MultiDigest digest) throws IOException {
+		ByteBuffer buffer = acquireLargeFileBuffer();
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			while (channel.read(buffer) != -1) {
+				buffer.flip();
+				digest.update(buffer);
+				buffer.clear();
+			}
+		}
+		finally {
+			buffer.clear();
+			this.largeFileBuffers.offer(buffer);
 		}
-		catch (NoSuchAlgorithmException ex) {
-			throw new IllegalStateException("Unknown checksum algorithm '%s'".formatted(algorithm), ex);
+	}
+
+	private ByteBuffer acquireLargeFileBuffer() {
+		ByteBuffer buffer = this.largeFileBuffers.poll();
+		return (buffer != null) ? buffer : ByteBuffer.allocateDirect(this.largeFileBufferSize);
+	}
+
+	int getPooledLargeFileBuffers() {
+		return this.largeFileBuffers.size();
+	}
+
+	private void forEach(List<Path> paths, Consumer<Path> action) {
+		if (this.parallelism == 1 || paths.size() < 2) {
+			paths.forEach(action);
+			return;
+		}
+		try (ExecutorService executor = Executors.newFixedThreadPool(Math.min(this.parallelism, paths.size()),
+				this.threadFactory)) {
+			List<Future<?>> futures = new ArrayList<>();
+			for (Path path : paths) {
+				futures.add(executor.submit(() -> action.accept(path)));
+			}
+			for (Future<?> future : futures) {
+				try {
+					future.get();
+				}
+				catch (ExecutionException ex) {
+					executor.shutdownNow();
+					throw Concurrency.rethrow(ex.getCause(), "Failed to create checksums");
+				}
+				catch (InterruptedException ex) {
+					executor.shutdownNow();
+					Thread.currentThread().interrupt();
+					throw new IllegalStateException("Got interrupted while creating checksums", ex);
+				}
+			}
+		}
+	}
+
+	private Map<ChecksumAlgorithm, Path> getChecksumFiles(Path path) {
+		Map<ChecksumAlgorithm, Path> checksumFiles = new EnumMap<>(ChecksumAlgorithm.class);
+		for (ChecksumAlgorithm algorithm : ChecksumAlgorithm.values()) {
+			Path checksumFile = Path.of(path.toString() + "." + algorithm.getFileExtension());
+			if (Files.exists(checksumFile)) {
+				this.checksumPolicy.checksumExists(checksumFile);
+			}
+			checksumFiles.put(algorithm, checksumFile);
+		}
+		return checksumFiles;
+	}
+
+	private void createChecksumFiles(Path path, Map<ChecksumAlgorithm, Path> checksumFiles) {
+		this.logger.debug("Creating checksums for {}", path);
+		Map<ChecksumAlgorithm, String> checksums = calculateChecksums(path);
+		for (Map.Entry<ChecksumAlgorithm, Path> entry : checksumFiles.entrySet()) {
+			writeChecksumFile(entry.getValue(), checksums.get(entry.getKey()));
+		}
+	}
+
+	private void writeChecksumFile(Path checksumFile, String checksum) {
+		try {
+			Files.writeString(checksumFile, checksum);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to write checksum to file '%s'".formatted(checksumFile), ex);
 		}
 	}
 
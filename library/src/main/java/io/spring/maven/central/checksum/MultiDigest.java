@@ -0,0 +1,88 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.checksum;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.Map;
+
+/**
+ * Feeds the same bytes into multiple {@link MessageDigest message digests}, so that
+ * multiple checksums can be calculated while reading the input only once.
+ *
+ * @author Moritz Halbritter
+ */
+public final class MultiDigest {
+
+	private final Map<ChecksumAlgorithm, MessageDigest> digests = new EnumMap<>(ChecksumAlgorithm.class);
+
+	MultiDigest(ChecksumAlgorithm... algorithms) {
+		for (ChecksumAlgorithm algorithm : algorithms) {
+			this.digests.put(algorithm, algorithm.createMessageDigest());
+		}
+	}
+
+	/**
+	 * Updates the digests using the given bytes.
+	 * @param bytes the bytes
+	 * @param offset the offset to start from
+	 * @param length the number of bytes to use
+	 */
+	public void update(byte[] bytes, int offset, int length) {
+		for (MessageDigest digest : this.digests.values()) {
+			digest.update(bytes, offset, length);
+		}
+	}
+
+	/**
+	 * Updates the digests using the remaining bytes of the given buffer. After this
+	 * method returns, the position of the buffer is equal to its limit.
+	 * @param buffer the buffer
+	 */
+	public void update(ByteBuffer buffer) {
+		int position = buffer.position();
+		for (MessageDigest digest : this.digests.values()) {
+			buffer.position(position);
+			digest.update(buffer);
+		}
+	}
+
+	/**
+	 * Completes the digests and returns the hex encoded checksums.
+	 * @return the checksums, keyed by algorithm
+	 */
+	public Map<ChecksumAlgorithm, String> finish() {
+		Map<ChecksumAlgorithm, String> result = new EnumMap<>(ChecksumAlgorithm.class);
+		for (Map.Entry<ChecksumAlgorithm, MessageDigest> entry : this.digests.entrySet()) {
+			result.put(entry.getKey(), HexFormat.of().formatHex(entry.getValue().digest()));
+		}
+		return Collections.unmodifiableMap(result);
+	}
+
+	/**
+	 * Creates a new {@link MultiDigest} for all {@link ChecksumAlgorithm checksum
+	 * algorithms}.
+	 * @return the {@link MultiDigest}
+	 */
+	public static MultiDigest create() {
+		return new MultiDigest(ChecksumAlgorithm.values());
+	}
+
+}
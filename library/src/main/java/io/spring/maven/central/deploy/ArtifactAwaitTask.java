@@ -0,0 +1,107 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.deploy;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadFactory;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Awaits artifacts on a separate thread, so that awaiting the artifacts can overlap with
+ * awaiting the final status of the deployment.
+ *
+ * @author Moritz Halbritter
+ */
+class ArtifactAwaitTask {
+
+	private final ArtifactAwaiter artifactAwaiter;
+
+	private final List<Coordinates> coordinates;
+
+	private final ThreadFactory threadFactory;
+
+	private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+	private @Nullable Thread thread;
+
+	ArtifactAwaitTask(ArtifactAwaiter artifactAwaiter, List<Coordinates> coordinates, ThreadFactory threadFactory) {
+		this.artifactAwaiter = artifactAwaiter;
+		this.coordinates = coordinates;
+		this.threadFactory = threadFactory;
+	}
+
+	/**
+	 * Starts awaiting the artifact, if not already started.
+	 * @return whether awaiting has been started by this call
+	 */
+	synchronized boolean start() {
+		if (this.thread != null) {
+			return false;
+		}
+		this.thread = this.threadFactory.newThread(this::run);
+		this.thread.start();
+		return true;
+	}
+
+	/**
+	 * Whether awaiting the artifact has been started.
+	 * @return whether awaiting the artifact has been started
+	 */
+	synchronized boolean isStarted() {
+		return this.thread != null;
+	}
+
+	/**
+	 * Waits until the artifact is available. Must only be called after {@link #start()}.
+	 * @throws ArtifactAwaitException if the timeout is reached before the artifact is
+	 * available
+	 */
+	void join() {
+		try {
+			this.result.join();
+		}
+		catch (CompletionException ex) {
+			if (ex.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw ex;
+		}
+	}
+
+	/**
+	 * Stops awaiting the artifact if it's still running.
+	 */
+	synchronized void cancel() {
+		if (this.thread != null && !this.result.isDone()) {
+			this.thread.interrupt();
+		}
+	}
+
+	private void run() {
+		try {
+			this.artifactAwaiter.await(this.coordinates);
+			this.result.complete(null);
+		}
+		catch (RuntimeException ex) {
+			this.result.completeExceptionally(ex);
+		}
+	}
+
+}
@@ -18,6 +18,9 @@ package io.spring.maven.central.deploy;
 
 import java.net.URI;
 import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 
 import io.spring.maven.central.log.Logger;
 
@@ -36,7 +39,33 @@ public interface ArtifactAwaiter {
 	 * @throws ArtifactAwaitException if the timeout is reached before the artifact is
 	 * available
 	 */
-	void await(Coordinates coordinates);
+	default void await(Coordinates coordinates) {
+		await(coordinates, Duration.ZERO);
+	}
+
+	/**
+	 * Waits until the given artifact is available. The given elapsed time counts against
+	 * the timeout, which allows multiple artifacts to share a single deadline.
+	 * @param coordinates the coordinates
+	 * @param elapsed the time which has already elapsed
+	 * @throws ArtifactAwaitException if the timeout is reached before the artifact is
+	 * available
+	 */
+	void await(Coordinates coordinates, Duration elapsed);
+
+	/**
+	 * Waits until all the given artifacts are available. All artifacts share the same
+	 * timeout.
+	 * @param coordinates the coordinates
+	 * @throws ArtifactAwaitException if the timeout is reached before all artifacts are
+	 * available
+	 */
+	default void await(List<Coordinates> coordinates) {
+		long start = System.nanoTime();
+		for (Coordinates single : coordinates) {
+			await(single, Duration.ofNanos(System.nanoTime() - start));
+		}
+	}
 
 	/**
 	 * Creates a new {@link ArtifactAwaiter}.
@@ -49,7 +78,25 @@ public interface ArtifactAwaiter {
 	 */
 	static ArtifactAwaiter create(Logger logger, Duration timeout, Duration sleepBetweenRetries, URI baseUri,
 			RestClient.Builder restClientBuilder) {
-		return new ArtifactAwaiterImpl(logger, timeout, sleepBetweenRetries, baseUri, restClientBuilder);
+		return create(logger, timeout, sleepBetweenRetries, List.of(baseUri), restClientBuilder, Options.defaults());
+	}
+
+	/**
+	 * Creates a new {@link ArtifactAwaiter} which probes the given repositories, for
+	 * example Maven Central and some of its mirrors, concurrently. Multiple artifacts are
+	 * awaited concurrently as well. All artifacts and repositories share the same
+	 * timeout.
+	 * @param logger the logger
+	 * @param timeout the timeout
+	 * @param sleepBetweenRetries the duration to sleep between retries
+	 * @param baseUris the base URIs of the repositories in which the artifact is stored
+	 * @param restClientBuilder the builder for a {@link RestClient}
+	 * @param options the options
+	 * @return the {@link ArtifactAwaiter}
+	 */
+	static ArtifactAwaiter create(Logger logger, Duration timeout, Duration sleepBetweenRetries, List<URI> baseUris,
+			RestClient.Builder restClientBuilder, Options options) {
+		return new ArtifactAwaiterImpl(logger, timeout, sleepBetweenRetries, baseUris, restClientBuilder, options);
 	}
 
 	/**
@@ -57,9 +104,59 @@ public interface ArtifactAwaiter {
 	 * @return the {@link ArtifactAwaiter}
 	 */
 	static ArtifactAwaiter noop() {
-		return (_) -> {
+		return (_, _) -> {
 
 		};
 	}
 
+	/**
+	 * Options for an {@link ArtifactAwaiter}.
+	 *
+	 * @param quorum the number of repositories which must serve an artifact before it's
+	 * considered available, between 1 and the number of repositories
+	 * @param threadFactory the factory for the threads which wait for the artifacts and
+	 * repositories
+	 * @param probe how to check whether an artifact is available
+	 */
+	record Options(int quorum, ThreadFactory threadFactory, ArtifactProbe probe) {
+
+		/**
+		 * Returns the default options: a quorum of 1 and probing for the jar.
+		 * @return the default options
+		 */
+		public static Options defaults() {
+			return new Options(1, Executors.defaultThreadFactory(), ArtifactProbe.JAR);
+		}
+
+		/**
+		 * Returns a copy of these options with the given quorum.
+		 * @param quorum the number of repositories which must serve an artifact before
+		 * it's considered available
+		 * @return the new options
+		 */
+		public Options withQuorum(int quorum) {
+			return new Options(quorum, this.threadFactory, this.probe);
+		}
+
+		/**
+		 * Returns a copy of these options with the given thread factory.
+		 * @param threadFactory the factory for the threads which wait for the artifacts
+		 * and repositories
+		 * @return the new options
+		 */
+		public Options withThreadFactory(ThreadFactory threadFactory) {
+			return new Options(this.quorum, threadFactory, this.probe);
+		}
+
+		/**
+		 * Returns a copy of these options with the given probe.
+		 * @param probe how to check whether an artifact is available
+		 * @return the new options
+		 */
+		public Options withProbe(ArtifactProbe probe) {
+			return new Options(this.quorum, this.threadFactory, probe);
+		}
+
+	}
+
 }
@@ -16,12 +16,45 @@
 
 package io.spring.maven.central.deploy;
 
+import java.io.IOException;
+import java.io.StringReader;
 import java.net.URI;
+import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
 
 import io.spring.maven.central.log.Logger;
+import io.spring.maven.central.util.Concurrency;
+import org.jspecify.annotations.Nullable;
+import org.w3c.dom.Document;
+import org.w3c.dom.NodeList;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
 import org.springframework.web.client.RestClient;
 
 /**
@@ -31,13 +64,28 @@ import org.springframework.web.client.RestClient;
  */
 class ArtifactAwaiterImpl implements ArtifactAwaiter {
 
+	/**
+	 * Every how many attempts the POM is probed while the metadata is unchanged.
+	 */
+	private static final int POM_FALLBACK_INTERVAL = 10;
+
 	private final Logger logger;
 
 	private final Duration timeout;
 
 	private final Duration sleepBetweenRetries;
 
-	private final RestClient restClient;
+	private final List<Repository> repositories;
+
+	private final int quorum;
+
+	private final ThreadFactory threadFactory;
+
+	private final ArtifactProbe probe;
+
+	private final Clock clock;
+
+	private final Map<String, CachedMetadata> metadata = new ConcurrentHashMap<>();
 
 	/**
 	 * Creates a new instance.
@@ -49,53 +97,331 @@ class ArtifactAwaiterImpl implements ArtifactAwaiter {
 	 */
 	ArtifactAwaiterImpl(Logger logger, Duration timeout, Duration sleepBetweenRetries, URI baseUri,
 			RestClient.Builder restClientBuilder) {
+		this(logger, timeout, sleepBetweenRetries, List.of(baseUri), restClientBuilder, Options.defaults());
+	}
+
+	/**
+	 * Creates a new instance.
+	 * @param logger the logger
+	 * @param timeout the timeout
+	 * @param sleepBetweenRetries the duration to sleep between retries
+	 * @param baseUris the base uris of the repositories which are probed concurrently
+	 * @param restClientBuilder the builder for the {@link RestClient}
+	 * @param options the options
+	 */
+	ArtifactAwaiterImpl(Logger logger, Duration timeout, Duration sleepBetweenRetries, List<URI> baseUris,
+			RestClient.Builder restClientBuilder, Options options) {
+		this(logger, timeout, sleepBetweenRetries, baseUris, restClientBuilder, options, Clock.systemUTC());
+	}
+
+	ArtifactAwaiterImpl(Logger logger, Duration timeout, Duration sleepBetweenRetries, List<URI> baseUris,
+			RestClient.Builder restClientBuilder, Options options, Clock clock) {
+		int quorum = options.quorum();
+		Assert.notEmpty(baseUris, "'baseUris' must not be empty");
+		Assert.isTrue(quorum > 0 && quorum <= baseUris.size(),
+				"'quorum' must be between 1 and %d".formatted(baseUris.size()));
 		this.logger = logger;
 		this.timeout = timeout;
 		this.sleepBetweenRetries = sleepBetweenRetries;
-		this.restClient = restClientBuilder.baseUrl(baseUri).build();
+		this.repositories = baseUris.stream()
+			.map((baseUri) -> new Repository(baseUri, restClientBuilder.clone().baseUrl(baseUri).build()))
+			.toList();
+		this.quorum = quorum;
+		this.threadFactory = options.threadFactory();
+		this.probe = options.probe();
+		this.clock = clock;
+	}
+
+	@Override
+	public void await(Coordinates coordinates, Duration elapsed) {
+		await(coordinates, this.clock.instant().minus(elapsed));
 	}
 
 	@Override
-	public void await(Coordinates coordinates) {
-		long start = System.nanoTime();
-		String url = groupToPath(coordinates) + "/" + coordinates.artifact() + "/" + coordinates.version() + "/"
-				+ coordinates.artifact() + "-" + coordinates.version() + ".jar";
-		this.logger.debug("Awaiting artifact at {}", url);
-		while (true) {
-			checkTimeout(start, coordinates, url);
-			ResponseEntity<Void> result = this.restClient.head()
-				.uri(url)
-				.retrieve()
-				.onStatus((status) -> true, (req, res) -> {
-				})
-				.toBodilessEntity();
-			this.logger.debug("Got {}", result.getStatusCode().value());
-			if (result.getStatusCode().is2xxSuccessful()) {
+	public void await(List<Coordinates> coordinates) {
+		if (coordinates.size() == 1) {
+			await(coordinates.getFirst());
+			return;
+		}
+		// All artifacts share the RestClients and with them their connection pools
+		Instant start = this.clock.instant();
+		Map<Coordinates, Duration> available = new ConcurrentHashMap<>();
+		try (ExecutorService executor = Executors.newThreadPerTaskExecutor(this.threadFactory)) {
+			List<Future<?>> futures = new ArrayList<>();
+			for (Coordinates single : coordinates) {
+				futures.add(executor.submit(() -> {
+					// Every artifact only gets the time which is left of the shared
+					// timeout
+					await(single, elapsedSince(start));
+					Duration elapsed = elapsedSince(start);
+					available.put(single, elapsed);
+					this.logger.log("Artifact {} is available after {}s", single, elapsed.toSeconds());
+				}));
+			}
+			for (Future<?> future : futures) {
+				try {
+					future.get();
+				}
+				catch (ExecutionException ex) {
+					executor.shutdownNow();
+					throw createFailure(coordinates, available, ex.getCause());
+				}
+				catch (InterruptedException ex) {
+					executor.shutdownNow();
+					Thread.currentThread().interrupt();
+					throw new IllegalStateException("Got interrupted while waiting for artifacts", ex);
+				}
+			}
+		}
+	}
+
+	private RuntimeException createFailure(List<Coordinates> coordinates, Map<Coordinates, Duration> available,
+			Throwable cause) {
+		if (!(cause instanceof ArtifactAwaitException)) {
+			return (cause instanceof RuntimeException runtimeException) ? runtimeException
+					: new IllegalStateException("Failed to wait for artifacts", cause);
+		}
+		StringBuilder report = new StringBuilder();
+		for (Coordinates single : coordinates) {
+			Duration elapsed = available.get(single);
+			report.append("%n- %s: %s".formatted(single,
+					(elapsed != null) ? "available after %ds".formatted(elapsed.toSeconds()) : "not available"));
+		}
+		return new ArtifactAwaitException(
+				"Timeout of %s reached while waiting for artifacts:%s".formatted(this.timeout, report));
+	}
+
+	private void await(Coordinates coordinates, Instant start) {
+		if (this.repositories.size() == 1) {
+			await(this.repositories.getFirst(), coordinates, start);
+			return;
+		}
+		List<URI> available = new ArrayList<>();
+		int failed = 0;
+		try (ExecutorService executor = Executors.newThreadPerTaskExecutor(this.threadFactory)) {
+			CompletionService<Repository> completionService = new ExecutorCompletionService<>(executor);
+			for (Repository repository : this.repositories) {
+				completionService.submit(() -> {
+					await(repository, coordinates, start);
+					return repository;
+				});
+			}
+			while (available.size() < this.quorum) {
+				try {
+					Repository repository = completionService.take().get();
+					available.add(repository.baseUri());
+					this.logger.log("Artifact {} is available on {} after {}s ({}/{})", coordinates,
+							repository.baseUri(), elapsedSince(start).toSeconds(), available.size(), this.quorum);
+				}
+				catch (ExecutionException ex) {
+					failed++;
+					if (this.repositories.size() - failed < this.quorum) {
+						executor.shutdownNow();
+						throw createQuorumFailure(coordinates, available, ex.getCause());
+					}
+				}
+				catch (InterruptedException ex) {
+					executor.shutdownNow();
+					Thread.currentThread().interrupt();
+					throw new IllegalStateException("Got interrupted while waiting for artifact", ex);
+				}
+			}
+			// The remaining repositories don't matter anymore
+			executor.shutdownNow();
+		}
+	}
+
+	private RuntimeException createQuorumFailure(Coordinates coordinates, List<URI> available, Throwable cause) {
+		if (!(cause instanceof ArtifactAwaitException)) {
+			return (cause instanceof RuntimeException runtimeException) ? runtimeException
+					: new IllegalStateException("Failed to wait for artifact", cause);
+		}
+		return new ArtifactAwaitException(
+				"Timeout of %s reached while waiting for artifact %s to be available on %d of %d repositories, available on %s"
+					.formatted(this.timeout, coordinates, this.quorum, this.repositories.size(), available));
+	}
+
+	private void await(Repository repository, Coordinates coordinates, Instant start) {
+		String url = getUrl(coordinates);
+		this.logger.debug("Awaiting artifact at {}{}", repository.baseUri(), url);
+		for (int attempt = 1;; attempt++) {
+			checkTimeout(start, coordinates, repository.baseUri() + url);
+			if (isAvailable(repository, coordinates, url, attempt)) {
 				return;
 			}
-			sleep();
+			Concurrency.sleep(this.sleepBetweenRetries);
+		}
+	}
+
+	private String getUrl(Coordinates coordinates) {
+		return switch (this.probe) {
+			case JAR -> getFileUrl(coordinates, "jar");
+			case POM -> getFileUrl(coordinates, "pom");
+			case METADATA -> getMetadataUrl(coordinates);
+		};
+	}
+
+	private String getFileUrl(Coordinates coordinates, String extension) {
+		return groupToPath(coordinates) + "/" + coordinates.artifact() + "/" + coordinates.version() + "/"
+				+ coordinates.artifact() + "-" + coordinates.version() + "." + extension;
+	}
+
+	private String getMetadataUrl(Coordinates coordinates) {
+		return groupToPath(coordinates) + "/" + coordinates.artifact() + "/maven-metadata.xml";
+	}
+
+	private boolean isAvailable(Repository repository, Coordinates coordinates, String url, int attempt) {
+		return switch (this.probe) {
+			case JAR, POM -> exists(repository, url);
+			case METADATA -> isListedInMetadata(repository, coordinates, url, attempt);
+		};
+	}
+
+	private boolean isListedInMetadata(Repository repository, Coordinates coordinates, String url, int attempt) {
+		MetadataStatus status = getMetadataStatus(repository, url, coordinates.version());
+		if (status == MetadataStatus.LISTED) {
+			return true;
+		}
+		// The metadata can be updated later than the files of the version. While the
+		// metadata is unchanged, the POM is only probed occasionally to keep the
+		// requests down
+		boolean probePom = status != MetadataStatus.UNCHANGED || attempt % POM_FALLBACK_INTERVAL == 0;
+		return probePom && exists(repository, getFileUrl(coordinates, "pom"));
+	}
+
+	private boolean exists(Repository repository, String url) {
+		ResponseEntity<Void> result = repository.restClient()
+			.head()
+			.uri(url)
+			.retrieve()
+			.onStatus((status) -> true, (req, res) -> {
+			})
+			.toBodilessEntity();
+		this.logger.debug("Got {}", result.getStatusCode().value());
+		return result.getStatusCode().is2xxSuccessful();
+	}
+
+	private MetadataStatus getMetadataStatus(Repository repository, String url, String version) {
+		String key = repository.baseUri() + url;
+		CachedMetadata cached = this.metadata.get(key);
+		ResponseEntity<String> result = repository.restClient().get().uri(url).headers((headers) -> {
+			if (cached != null) {
+				cached.applyTo(headers);
+			}
+		}).retrieve().onStatus((status) -> true, (req, res) -> {
+		}).toEntity(String.class);
+		this.logger.debug("Got {}", result.getStatusCode().value());
+		if (result.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED) && cached != null) {
+			return cached.listsVersion(version) ? MetadataStatus.LISTED : MetadataStatus.UNCHANGED;
+		}
+		if (!result.getStatusCode().is2xxSuccessful()) {
+			return MetadataStatus.MISSING;
 		}
+		CachedMetadata fresh = new CachedMetadata(result.getHeaders().getETag(), result.getHeaders().getLastModified(),
+				parseVersions(result.getBody()));
+		this.metadata.put(key, fresh);
+		return fresh.listsVersion(version) ? MetadataStatus.LISTED : MetadataStatus.NOT_LISTED;
 	}
 
-	private void sleep() {
+	private Set<String> parseVersions(@Nullable String metadata) {
+		if (!StringUtils.hasText(metadata)) {
+			return Set.of();
+		}
 		try {
-			Thread.sleep(this.sleepBetweenRetries.toMillis());
+			DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+			factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+			Document document = factory.newDocumentBuilder().parse(new InputSource(new StringReader(metadata)));
+			// Other elements, e.g. the version of the parent, may also be named version
+			NodeList elements = (NodeList) XPathFactory.newInstance()
+				.newXPath()
+				.evaluate("/metadata/versioning/versions/version", document, XPathConstants.NODESET);
+			Set<String> versions = new HashSet<>();
+			for (int i = 0; i < elements.getLength(); i++) {
+				versions.add(elements.item(i).getTextContent().strip());
+			}
+			return versions;
 		}
-		catch (InterruptedException ex) {
-			throw new IllegalStateException("Got interrupted while sleeping", ex);
+		catch (ParserConfigurationException | SAXException | IOException | XPathExpressionException ex) {
+			this.logger.debug("Failed to parse metadata: {}", ex.getMessage());
+			return Set.of();
 		}
 	}
 
-	private void checkTimeout(long start, Coordinates coordinates, String url) {
-		Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
-		if (elapsed.compareTo(this.timeout) > 0) {
+	private void checkTimeout(Instant start, Coordinates coordinates, String url) {
+		if (elapsedSince(start).compareTo(this.timeout) > 0) {
 			throw new ArtifactAwaitException("Timeout of %s reached while waiting for artifact %s at url '%s'"
 				.formatted(this.timeout, coordinates, url));
 		}
 	}
 
+	private Duration elapsedSince(Instant start) {
+		return Duration.between(start, this.clock.instant());
+	}
+
 	private String groupToPath(Coordinates coordinates) {
 		return coordinates.group().replace('.', '/');
 	}
 
+	/**
+	 * A repository which is probed for artifacts.
+	 *
+	 * @param baseUri the base uri
+	 * @param restClient the client for the base uri
+	 */
+	private record Repository(URI baseUri, RestClient restClient) {
+
+	}
+
+	/**
+	 * The versions listed in the last received {@code maven-metadata.xml} together with
+	 * its validators.
+	 * @param eTag the entity tag, or {@code null}
+	 * @param lastModified the last modified timestamp in milliseconds, or {@code -1}
+	 * @param versions the listed versions
+	 */
+	/**
+	 * Status of a version in the {@code maven-metadata.xml}.
+	 */
+	private enum MetadataStatus {
+
+		/**
+		 * The metadata lists the version.
+		 */
+		LISTED,
+
+		/**
+		 * The metadata has changed, but doesn't list the version.
+		 */
+		NOT_LISTED,
+
+		/**
+		 * The metadata hasn't changed since the last request and doesn't list the
+		 * version.
+		 */
+		UNCHANGED,
+
+		/**
+		 * The metadata doesn't exist.
+		 */
+		MISSING
+
+	}
+
+	private record CachedMetadata(@Nullable String eTag, long lastModified, Set<String> versions) {
+
+		void applyTo(HttpHeaders headers) {
+			if (this.eTag != null) {
+				headers.setIfNoneMatch(this.eTag);
+			}
+			if (this.lastModified >= 0) {
+				headers.setIfModifiedSince(this.lastModified);
+			}
+		}
+
+		boolean listsVersion(String version) {
+			return this.versions.contains(version);
+		}
+
+	}
+
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.deploy;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import io.spring.maven.central.file.FileSet;
+
+/**
+ * Discovers the coordinates of the artifacts contained in a deployment.
+ *
+ * @author Moritz Halbritter
+ */
+public interface ArtifactDiscovery {
+
+	/**
+	 * Discovers the coordinates of the artifacts in the given files.
+	 * @param root the root directory of the files, laid out like a Maven repository
+	 * @param files the files
+	 * @return the coordinates of the discovered artifacts, sorted by their coordinates
+	 */
+	List<Coordinates> discover(Path root, FileSet files);
+
+	/**
+	 * Creates an {@link ArtifactDiscovery} which doesn't discover any artifacts.
+	 * @return the {@link ArtifactDiscovery}
+	 */
+	static ArtifactDiscovery none() {
+		return (root, files) -> List.of();
+	}
+
+	/**
+	 * Creates an {@link ArtifactDiscovery} which discovers every artifact which has a POM
+	 * and a JAR file.
+	 * @return the {@link ArtifactDiscovery}
+	 */
+	static ArtifactDiscovery all() {
+		return all(true);
+	}
+
+	/**
+	 * Creates an {@link ArtifactDiscovery} which discovers every artifact which has a POM
+	 * file.
+	 * @param requireJar whether artifacts without a JAR file, like BOMs, should be
+	 * skipped
+	 * @return the {@link ArtifactDiscovery}
+	 */
+	static ArtifactDiscovery all(boolean requireJar) {
+		return new ArtifactDiscoveryImpl(Integer.MAX_VALUE, requireJar);
+	}
+
+	/**
+	 * Creates an {@link ArtifactDiscovery} which discovers at most the given number of
+	 * artifacts which have a POM and a JAR file. The artifacts are picked evenly spaced
+	 * from the sorted list of all artifacts, so that the same files always result in the
+	 * same sample.
+	 * @param size the maximum number of artifacts
+	 * @return the {@link ArtifactDiscovery}
+	 */
+	static ArtifactDiscovery sample(int size) {
+		return sample(size, true);
+	}
+
+	/**
+	 * Creates an {@link ArtifactDiscovery} which discovers at most the given number of
+	 * artifacts which have a POM file. The artifacts are picked evenly spaced from the
+	 * sorted list of all artifacts, so that the same files always result in the same
+	 * sample.
+	 * @param size the maximum number of artifacts
+	 * @param requireJar whether artifacts without a JAR file, like BOMs, should be
+	 * skipped
+	 * @return the {@link ArtifactDiscovery}
+	 */
+	static ArtifactDiscovery sample(int size, boolean requireJar) {
+		return new ArtifactDiscoveryImpl(size, requireJar);
+	}
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.deploy;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import io.spring.maven.central.file.FileSet;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * Default {@link ArtifactDiscovery} implementation. Derives the coordinates from the
+ * Maven repository layout of the POM files, which is
+ * {@code group/artifact/version/artifact-version.pom}.
+ *
+ * @author Moritz Halbritter
+ */
+class ArtifactDiscoveryImpl implements ArtifactDiscovery {
+
+	private static final Comparator<Coordinates> ORDER = Comparator.comparing(Coordinates::group)
+		.thenComparing(Coordinates::artifact)
+		.thenComparing(Coordinates::version);
+
+	private final int maxArtifacts;
+
+	private final boolean requireJar;
+
+	/**
+	 * Creates a new instance.
+	 * @param maxArtifacts the maximum number of artifacts to discover
+	 * @param requireJar whether artifacts without a JAR file should be skipped
+	 */
+	ArtifactDiscoveryImpl(int maxArtifacts, boolean requireJar) {
+		Assert.isTrue(maxArtifacts > 0, "'maxArtifacts' must be greater than 0");
+		this.maxArtifacts = maxArtifacts;
+		this.requireJar = requireJar;
+	}
+
+	@Override
+	public List<Coordinates> discover(Path root, FileSet files) {
+		Path absoluteRoot = root.toAbsolutePath();
+		List<Coordinates> artifacts = new ArrayList<>();
+		for (Path file : files) {
+			Coordinates coordinates = getCoordinates(absoluteRoot, file, files);
+			if (coordinates != null) {
+				artifacts.add(coordinates);
+			}
+		}
+		artifacts.sort(ORDER);
+		return sample(artifacts);
+	}
+
+	private @Nullable Coordinates getCoordinates(Path root, Path file, FileSet files) {
+		String fileName = file.getFileName().toString();
+		if (!fileName.endsWith(".pom") || !file.startsWith(root)) {
+			return null;
+		}
+		Path relative = root.relativize(file);
+		int names = relative.getNameCount();
+		if (names < 4) {
+			return null;
+		}
+		String version = relative.getName(names - 2).toString();
+		String artifact = relative.getName(names - 3).toString();
+		String baseName = artifact + "-" + version;
+		// Skip POMs which don't follow the layout, e.g. timestamped snapshots
+		if (!fileName.equals(baseName + ".pom")) {
+			return null;
+		}
+		// If artifacts are awaited by their JAR file, POM-only artifacts like BOMs can't
+		// be awaited
+		if (this.requireJar && !files.contains(file.resolveSibling(baseName + ".jar"))) {
+			return null;
+		}
+		List<String> groupParts = new ArrayList<>();
+		for (int i = 0; i < names - 3; i++) {
+			groupParts.add(relative.getName(i).toString());
+		}
+		return new Coordinates(String.join(".", groupParts), artifact, version);
+	}
+
+	private List<Coordinates> sample(List<Coordinates> artifacts) {
+		if (artifacts.size() <= this.maxArtifacts) {
+			return artifacts;
+		}
+		List<Coordinates> sample = new ArrayList<>(this.maxArtifacts);
+		for (int i = 0; i < this.maxArtifacts; i++) {
+			sample.add(artifacts.get((int) ((long) i * artifacts.size() / this.maxArtifacts)));
+		}
+		return sample;
+	}
+
+}
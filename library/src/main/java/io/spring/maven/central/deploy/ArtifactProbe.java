@@ -0,0 +1,47 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.deploy;
+
+/**
+ * How an {@link ArtifactAwaiter} checks whether an artifact is available.
+ *
+ * @author Moritz Halbritter
+ */
+public enum ArtifactProbe {
+
+	/**
+	 * Sends a {@code HEAD} request for the JAR file of the artifact. Artifacts without a
+	 * JAR file, like BOMs, never become available.
+	 */
+	JAR,
+
+	/**
+	 * Sends a {@code HEAD} request for the POM file of the artifact. Works for every
+	 * packaging.
+	 */
+	POM,
+
+	/**
+	 * Sends a conditional {@code GET} request for the {@code maven-metadata.xml} of the
+	 * artifact and checks whether it lists the version. Unchanged metadata is answered
+	 * with {@code 304 Not Modified} and without a body. If the metadata doesn't list the
+	 * version yet, falls back to a {@code HEAD} request for the POM file, as the metadata
+	 * can be updated later than the files of the version. Works for every packaging.
+	 */
+	METADATA
+
+}
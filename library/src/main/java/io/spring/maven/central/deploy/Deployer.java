@@ -17,7 +17,11 @@
 package io.spring.maven.central.deploy;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 
+import io.spring.maven.central.bundle.BundleSplitter;
 import io.spring.maven.central.bundle.Bundler;
 import io.spring.maven.central.checksum.ChecksumCreator;
 import io.spring.maven.central.file.FileScanner;
@@ -43,8 +47,42 @@ public interface Deployer {
 	 * @param name the deployment name, or {@code null}
 	 * @return the deployment result
 	 */
-	Result deploy(Path root, boolean dropOnFailure, boolean ignoreAlreadyExistsError,
-			@Nullable Coordinates awaitArtifact, @Nullable String name);
+	default Result deploy(Path root, boolean dropOnFailure, boolean ignoreAlreadyExistsError,
+			@Nullable Coordinates awaitArtifact, @Nullable String name) {
+		return deploy(root, dropOnFailure, ignoreAlreadyExistsError,
+				(awaitArtifact != null) ? List.of(awaitArtifact) : List.of(), name);
+	}
+
+	/**
+	 * Deploys the artifacts to the Central Portal.
+	 * @param root the root directory of the artifacts
+	 * @param dropOnFailure whether to drop the deployment on failure
+	 * @param ignoreAlreadyExistsError whether to ignore "already exists" errors
+	 * @param awaitArtifacts the coordinates of the artifacts to await. If empty, the
+	 * artifacts found by the configured {@link ArtifactDiscovery} are awaited
+	 * @param name the deployment name, or {@code null}
+	 * @return the deployment result
+	 */
+	default Result deploy(Path root, boolean dropOnFailure, boolean ignoreAlreadyExistsError,
+			List<Coordinates> awaitArtifacts, @Nullable String name) {
+		return deploy(root, dropOnFailure, ignoreAlreadyExistsError, awaitArtifacts, name, new DeploymentMetrics());
+	}
+
+	/**
+	 * Deploys the artifacts to the Central Portal and records the metrics of the
+	 * deployment into the given metrics. As the caller owns the metrics, the metrics
+	 * collected so far are still available if the deployment throws.
+	 * @param root the root directory of the artifacts
+	 * @param dropOnFailure whether to drop the deployment on failure
+	 * @param ignoreAlreadyExistsError whether to ignore "already exists" errors
+	 * @param awaitArtifacts the coordinates of the artifacts to await. If empty, the
+	 * artifacts found by the configured {@link ArtifactDiscovery} are awaited
+	 * @param name the deployment name, or {@code null}
+	 * @param metrics the metrics to record into
+	 * @return the deployment result
+	 */
+	Result deploy(Path root, boolean dropOnFailure, boolean ignoreAlreadyExistsError, List<Coordinates> awaitArtifacts,
+			@Nullable String name, DeploymentMetrics metrics);
 
 	/**
 	 * Creates a new {@link Deployer}.
@@ -60,17 +98,63 @@ public interface Deployer {
 	static Deployer create(Logger logger, PublishingType publishingType, FileScanner fileScanner,
 			ChecksumCreator checksumCreator, Bundler bundler, CentralPortalApi centralPortalApi,
 			ArtifactAwaiter artifactAwaiter) {
+		return create(logger, publishingType, fileScanner, checksumCreator, bundler, centralPortalApi, artifactAwaiter,
+				Options.defaults());
+	}
+
+	/**
+	 * Creates a new {@link Deployer} with the given options.
+	 * @param logger the logger
+	 * @param publishingType the publishing type
+	 * @param fileScanner the file scanner
+	 * @param checksumCreator the checksum creator
+	 * @param bundler the bundler
+	 * @param centralPortalApi the Central Portal API client
+	 * @param artifactAwaiter the artifact awaiter
+	 * @param options the options
+	 * @return the {@link Deployer}
+	 */
+	static Deployer create(Logger logger, PublishingType publishingType, FileScanner fileScanner,
+			ChecksumCreator checksumCreator, Bundler bundler, CentralPortalApi centralPortalApi,
+			ArtifactAwaiter artifactAwaiter, Options options) {
 		return new DeployerImpl(logger, publishingType, fileScanner, checksumCreator, bundler, centralPortalApi,
-				artifactAwaiter);
+				artifactAwaiter, options);
 	}
 
 	/**
 	 * Deployment result.
 	 *
 	 * @param status the status
-	 * @param deployment the deployment
+	 * @param deployments the deployments, one for every uploaded bundle
+	 * @param metrics the metrics of the deployment
 	 */
-	record Result(Status status, Deployment deployment) {
+	record Result(Status status, List<Deployment> deployments, DeploymentMetrics metrics) {
+
+		/**
+		 * Creates a new deployment result without metrics.
+		 * @param status the status
+		 * @param deployments the deployments, one for every uploaded bundle
+		 */
+		public Result(Status status, List<Deployment> deployments) {
+			this(status, deployments, new DeploymentMetrics());
+		}
+
+		/**
+		 * Returns the first deployment.
+		 * @return the first deployment
+		 */
+		public Deployment deployment() {
+			return this.deployments.getFirst();
+		}
+
+		/**
+		 * Returns a copy of this result with the given metrics.
+		 * @param metrics the metrics
+		 * @return the copy of this result
+		 */
+		public Result withMetrics(DeploymentMetrics metrics) {
+			return new Result(this.status, this.deployments, metrics);
+		}
 
 		/**
 		 * Creates a successful deployment result.
@@ -78,7 +162,16 @@ public interface Deployer {
 		 * @return the successful deployment result
 		 */
 		public static Result success(Deployment deployment) {
-			return new Result(Status.SUCCESS, deployment);
+			return success(List.of(deployment));
+		}
+
+		/**
+		 * Creates a successful deployment result.
+		 * @param deployments the deployments
+		 * @return the successful deployment result
+		 */
+		public static Result success(List<Deployment> deployments) {
+			return new Result(Status.SUCCESS, deployments);
 		}
 
 		/**
@@ -87,7 +180,16 @@ public interface Deployer {
 		 * @return the failed deployment result
 		 */
 		public static Result failure(Deployment deployment) {
-			return new Result(Status.FAILURE, deployment);
+			return failure(List.of(deployment));
+		}
+
+		/**
+		 * Creates a failed deployment result.
+		 * @param deployments the deployments
+		 * @return the failed deployment result
+		 */
+		public static Result failure(List<Deployment> deployments) {
+			return new Result(Status.FAILURE, deployments);
 		}
 
 		/**
@@ -107,4 +209,120 @@ public interface Deployer {
 		}
 	}
 
+	/**
+	 * Options for a {@link Deployer}.
+	 *
+	 * @param writeChecksumFiles whether checksum files should be written to the root
+	 * directory. If {@code false}, every file is read only once and the checksums are
+	 * calculated while creating the bundle.
+	 * @param streamBundle whether the bundle should be written directly into the upload
+	 * request instead of into a temporary bundle file
+	 * @param bundleSplitter the splitter which distributes the files to one or more
+	 * bundles, every bundle results in its own deployment
+	 * @param uploadParallelism the maximum number of bundles which are uploaded
+	 * concurrently
+	 * @param threadFactory the factory for the threads which upload the bundles and poll
+	 * the deployments
+	 * @param awaitArtifactWhilePublishing whether to start awaiting the artifact as soon
+	 * as a deployment is publishing instead of once it's published
+	 * @param artifactDiscovery the discovery for the artifacts to await if no artifacts
+	 * are given explicitly
+	 */
+	record Options(boolean writeChecksumFiles, boolean streamBundle, BundleSplitter bundleSplitter,
+			int uploadParallelism, ThreadFactory threadFactory, boolean awaitArtifactWhilePublishing,
+			ArtifactDiscovery artifactDiscovery) {
+
+		/**
+		 * Returns the default options: checksum files are written, the bundle is written
+		 * to a file and uploaded as a single deployment, and only the explicitly given
+		 * artifacts are awaited once the deployment is published.
+		 * @return the default options
+		 */
+		public static Options defaults() {
+			return new Options(true, false, BundleSplitter.none(), 1, Executors.defaultThreadFactory(), false,
+					ArtifactDiscovery.none());
+		}
+
+		/**
+		 * Returns a copy of these options which writes the checksum files to the root
+		 * directory or not.
+		 * @param writeChecksumFiles whether checksum files should be written to the root
+		 * directory
+		 * @return the new options
+		 */
+		public Options withWriteChecksumFiles(boolean writeChecksumFiles) {
+			return new Options(writeChecksumFiles, this.streamBundle, this.bundleSplitter, this.uploadParallelism,
+					this.threadFactory, this.awaitArtifactWhilePublishing, this.artifactDiscovery);
+		}
+
+		/**
+		 * Returns a copy of these options which streams the bundle into the upload
+		 * request or not.
+		 * @param streamBundle whether the bundle should be written directly into the
+		 * upload request
+		 * @return the new options
+		 */
+		public Options withStreamBundle(boolean streamBundle) {
+			return new Options(this.writeChecksumFiles, streamBundle, this.bundleSplitter, this.uploadParallelism,
+					this.threadFactory, this.awaitArtifactWhilePublishing, this.artifactDiscovery);
+		}
+
+		/**
+		 * Returns a copy of these options with the given bundle splitter.
+		 * @param bundleSplitter the splitter which distributes the files to one or more
+		 * bundles
+		 * @return the new options
+		 */
+		public Options withBundleSplitter(BundleSplitter bundleSplitter) {
+			return new Options(this.writeChecksumFiles, this.streamBundle, bundleSplitter, this.uploadParallelism,
+					this.threadFactory, this.awaitArtifactWhilePublishing, this.artifactDiscovery);
+		}
+
+		/**
+		 * Returns a copy of these options with the given upload parallelism.
+		 * @param uploadParallelism the maximum number of bundles which are uploaded
+		 * concurrently
+		 * @return the new options
+		 */
+		public Options withUploadParallelism(int uploadParallelism) {
+			return new Options(this.writeChecksumFiles, this.streamBundle, this.bundleSplitter, uploadParallelism,
+					this.threadFactory, this.awaitArtifactWhilePublishing, this.artifactDiscovery);
+		}
+
+		/**
+		 * Returns a copy of these options with the given thread factory.
+		 * @param threadFactory the factory for the threads which upload the bundles and
+		 * poll the deployments
+		 * @return the new options
+		 */
+		public Options withThreadFactory(ThreadFactory threadFactory) {
+			return new Options(this.writeChecksumFiles, this.streamBundle, this.bundleSplitter, this.uploadParallelism,
+					threadFactory, this.awaitArtifactWhilePublishing, this.artifactDiscovery);
+		}
+
+		/**
+		 * Returns a copy of these options which awaits the artifacts while the deployment
+		 * is publishing or not.
+		 * @param awaitArtifactWhilePublishing whether to start awaiting the artifact as
+		 * soon as a deployment is publishing
+		 * @return the new options
+		 */
+		public Options withAwaitArtifactWhilePublishing(boolean awaitArtifactWhilePublishing) {
+			return new Options(this.writeChecksumFiles, this.streamBundle, this.bundleSplitter, this.uploadParallelism,
+					this.threadFactory, awaitArtifactWhilePublishing, this.artifactDiscovery);
+		}
+
+		/**
+		 * Returns a copy of these options with the given artifact discovery.
+		 * @param artifactDiscovery the discovery for the artifacts to await if no
+		 * artifacts are given explicitly
+		 * @return the new options
+		 */
+		public Options withArtifactDiscovery(ArtifactDiscovery artifactDiscovery) {
+			return new Options(this.writeChecksumFiles, this.streamBundle, this.bundleSplitter, this.uploadParallelism,
+					this.threadFactory, this.awaitArtifactWhilePublishing, artifactDiscovery);
+		}
+
+	}
+
 }
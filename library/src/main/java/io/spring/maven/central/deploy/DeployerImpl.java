@@ -16,11 +16,29 @@
 
 package io.spring.maven.central.deploy;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import io.spring.maven.central.bundle.Bundle;
+import io.spring.maven.central.bundle.BundleSplitter;
+import io.spring.maven.central.bundle.BundleStatistics;
 import io.spring.maven.central.bundle.Bundler;
 import io.spring.maven.central.checksum.ChecksumCreator;
+import io.spring.maven.central.deploy.DeploymentMetrics.Phase;
 import io.spring.maven.central.file.FileScanner;
 import io.spring.maven.central.file.FileSet;
 import io.spring.maven.central.log.Logger;
@@ -28,8 +46,12 @@ import io.spring.maven.central.sonatype.CentralPortalApi;
 import io.spring.maven.central.sonatype.Deployment;
 import io.spring.maven.central.sonatype.Errors;
 import io.spring.maven.central.sonatype.PublishingType;
+import io.spring.maven.central.util.Concurrency;
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
 /**
  * Deployer for deploying to the Sontype Central Portal.
  *
@@ -51,8 +73,25 @@ class DeployerImpl implements Deployer {
 
 	private final PublishingType publishingType;
 
+	private final boolean writeChecksumFiles;
+
+	private final boolean streamBundle;
+
+	private final BundleSplitter bundleSplitter;
+
+	private final int uploadParallelism;
+
+	private final ThreadFactory threadFactory;
+
+	private final DeploymentPoller deploymentPoller;
+
+	private final boolean awaitArtifactWhilePublishing;
+
+	private final ArtifactDiscovery artifactDiscovery;
+
 	DeployerImpl(Logger logger, PublishingType publishingType, FileScanner fileScanner, ChecksumCreator checksumCreator,
-			Bundler bundler, CentralPortalApi centralPortalApi, ArtifactAwaiter artifactAwaiter) {
+			Bundler bundler, CentralPortalApi centralPortalApi, ArtifactAwaiter artifactAwaiter, Options options) {
+		Assert.isTrue(options.uploadParallelism() > 0, "'uploadParallelism' must be greater than 0");
 		this.logger = logger;
 		this.publishingType = publishingType;
 		this.fileScanner = fileScanner;
@@ -60,20 +99,312 @@ class DeployerImpl implements Deployer {
 		this.bundleCreator = bundler;
 		this.centralPortalApi = centralPortalApi;
 		this.artifactAwaiter = artifactAwaiter;
+		this.writeChecksumFiles = options.writeChecksumFiles();
+		this.streamBundle = options.streamBundle();
+		this.bundleSplitter = options.bundleSplitter();
+		this.uploadParallelism = options.uploadParallelism();
+		this.threadFactory = options.threadFactory();
+		this.deploymentPoller = new DeploymentPoller(options.threadFactory());
+		this.awaitArtifactWhilePublishing = options.awaitArtifactWhilePublishing();
+		this.artifactDiscovery = options.artifactDiscovery();
 	}
 
 	@Override
 	public Result deploy(Path root, boolean dropDeploymentOnFailure, boolean ignoreAlreadyExistsError,
-			@Nullable Coordinates awaitArtifact, @Nullable String deploymentName) {
-		if (awaitArtifact != null && this.publishingType != PublishingType.AUTOMATIC) {
+			List<Coordinates> explicitAwaitArtifacts, @Nullable String deploymentName, DeploymentMetrics metrics) {
+		if (!explicitAwaitArtifacts.isEmpty() && this.publishingType != PublishingType.AUTOMATIC) {
 			throw new IllegalStateException("Await artifact can only be used if publishing type is automatic");
 		}
+		long start = System.nanoTime();
+		try {
+			return doDeploy(root, dropDeploymentOnFailure, ignoreAlreadyExistsError, explicitAwaitArtifacts,
+					deploymentName, metrics)
+				.withMetrics(metrics);
+		}
+		finally {
+			// Also report the metrics of failed deployments, to see where they spent the
+			// time
+			metrics.recordTotal(elapsedSince(start));
+			this.logger.summary("Deployment phases:\n\n{}", metrics.toTable());
+		}
+	}
+
+	private Result doDeploy(Path root, boolean dropDeploymentOnFailure, boolean ignoreAlreadyExistsError,
+			List<Coordinates> explicitAwaitArtifacts, @Nullable String deploymentName, DeploymentMetrics metrics) {
+		long start = System.nanoTime();
 		FileSet files = this.fileScanner.scan(root);
+		metrics.record(Phase.SCAN, elapsedSince(start), getSize(files), files.size());
 		if (files.isEmpty()) {
 			throw new IllegalStateException("No files found in directory '%s'".formatted(root));
 		}
+		List<Coordinates> awaitArtifacts = (!explicitAwaitArtifacts.isEmpty()) ? explicitAwaitArtifacts
+				: discoverArtifacts(root, files);
+		List<BundleContent> bundles = split(prepareBundleContent(files, metrics));
+		List<Deployment> deployments = uploadAll(root, bundles, deploymentName, metrics);
+		ArtifactAwaitTask artifactAwaitTask = (!awaitArtifacts.isEmpty() && this.awaitArtifactWhilePublishing)
+				? new ArtifactAwaitTask(this.artifactAwaiter, awaitArtifacts, this.threadFactory) : null;
+		try {
+			if (deployments.size() > 1) {
+				return awaitSplitDeployments(deployments, ignoreAlreadyExistsError, awaitArtifacts, artifactAwaitTask,
+						metrics);
+			}
+			return awaitDeployments(deployments, dropDeploymentOnFailure, ignoreAlreadyExistsError, awaitArtifacts,
+					artifactAwaitTask, metrics, Phase.VALIDATE);
+		}
+		finally {
+			if (artifactAwaitTask != null) {
+				artifactAwaitTask.cancel();
+			}
+		}
+	}
+
+	private List<Coordinates> discoverArtifacts(Path root, FileSet files) {
+		if (this.publishingType != PublishingType.AUTOMATIC) {
+			return List.of();
+		}
+		List<Coordinates> artifacts = this.artifactDiscovery.discover(root, files);
+		if (!artifacts.isEmpty()) {
+			this.logger.log("Discovered {} artifacts to await", artifacts.size());
+			for (Coordinates artifact : artifacts) {
+				this.logger.debug("Discovered artifact {}", artifact);
+			}
+		}
+		return artifacts;
+	}
+
+	private Result awaitDeployments(List<Deployment> deployments, boolean dropDeploymentOnFailure,
+			boolean ignoreAlreadyExistsError, List<Coordinates> awaitArtifacts,
+			@Nullable ArtifactAwaitTask artifactAwaitTask, DeploymentMetrics metrics, Phase phase) {
+		this.logger.log("Awaiting final status ...");
+		long start = System.nanoTime();
+		// Validation ends as soon as the first deployment is publishing
+		AtomicLong publishingStart = new AtomicLong((phase == Phase.PUBLISH) ? start : Long.MAX_VALUE);
+		this.deploymentPoller.awaitFinalStatus(deployments, (deployment, status) -> {
+			if (status != Deployment.Status.PUBLISHING && status != Deployment.Status.PUBLISHED) {
+				return;
+			}
+			publishingStart.accumulateAndGet(System.nanoTime(), Math::min);
+			if (artifactAwaitTask != null && artifactAwaitTask.start()) {
+				this.logger.log("Deployment '{}' is publishing, waiting for artifacts to appear ...",
+						deployment.getId());
+			}
+		});
+		recordValidationAndPublishing(metrics, start, publishingStart.get());
+		boolean success = true;
+		boolean published = false;
+		for (Deployment deployment : deployments) {
+			Result result = switch (deployment.getStatus()) {
+				case FAILED -> deploymentFailed(deployment, ignoreAlreadyExistsError, dropDeploymentOnFailure);
+				case PUBLISHED -> deploymentPublished(deployment);
+				case VALIDATED -> deploymentValidated(deployment);
+				default -> throw new IllegalStateException(
+						"Unexpected deployment status value %s".formatted(deployment.getStatus()));
+			};
+			success &= result.status() == Result.Status.SUCCESS;
+			published |= deployment.getStatus() == Deployment.Status.PUBLISHED;
+		}
+		if (!success) {
+			return Result.failure(deployments);
+		}
+		if (published && !awaitArtifacts.isEmpty()) {
+			this.logger.log((awaitArtifacts.size() == 1) ? "Waiting for artifact to appear"
+					: "Waiting for %d artifacts to appear".formatted(awaitArtifacts.size()));
+			long awaitStart = System.nanoTime();
+			if (artifactAwaitTask != null) {
+				artifactAwaitTask.start();
+				artifactAwaitTask.join();
+			}
+			else {
+				this.artifactAwaiter.await(awaitArtifacts);
+			}
+			metrics.record(Phase.AWAIT_ARTIFACTS, elapsedSince(awaitStart), 0, awaitArtifacts.size());
+		}
+		return Result.success(deployments);
+	}
+
+	private List<Deployment> uploadAll(Path root, List<BundleContent> bundles, @Nullable String deploymentName,
+			DeploymentMetrics metrics) {
+		if (bundles.size() == 1) {
+			return List.of(uploadAndLog(root, bundles.getFirst(), this.publishingType, deploymentName, metrics));
+		}
+		// Every bundle results in its own deployment. To publish all of them or none,
+		// they are uploaded as user managed and only published once all are validated
+		this.logger.log("Uploading {} bundles as user managed deployments, at most {} at a time ...", bundles.size(),
+				this.uploadParallelism);
+		// Uploads mostly wait for the network, so every upload gets its own thread
+		// and the permits bound how many of them run at the same time
+		Semaphore permits = new Semaphore(this.uploadParallelism);
+		List<Future<Deployment>> futures = new ArrayList<>();
+		RuntimeException failure = null;
+		try (ExecutorService executor = Executors.newThreadPerTaskExecutor(this.threadFactory)) {
+			for (int i = 0; i < bundles.size(); i++) {
+				BundleContent bundle = bundles.get(i);
+				String name = getDeploymentName(deploymentName, i, bundles.size());
+				futures.add(executor.submit(() -> Concurrency.callWithPermit(permits,
+						() -> uploadAndLog(root, bundle, PublishingType.USER_MANAGED, name, metrics))));
+			}
+			for (Future<Deployment> future : futures) {
+				try {
+					future.get();
+				}
+				catch (ExecutionException ex) {
+					executor.shutdownNow();
+					failure = Concurrency.rethrow(ex.getCause(), "Failed to upload bundles");
+					break;
+				}
+				catch (InterruptedException ex) {
+					executor.shutdownNow();
+					Thread.currentThread().interrupt();
+					failure = new IllegalStateException("Got interrupted while uploading bundles", ex);
+					break;
+				}
+			}
+		}
+		// Closing the executor waited for all uploads, even those which were still
+		// running when another one failed
+		List<Deployment> deployments = new ArrayList<>();
+		for (Future<Deployment> future : futures) {
+			if (future.state() == Future.State.SUCCESS) {
+				deployments.add(future.resultNow());
+			}
+		}
+		if (failure != null) {
+			this.logger.error("Uploading a bundle failed, dropping the {} uploaded deployments", deployments.size());
+			dropAll(deployments, failure);
+			throw failure;
+		}
+		return deployments;
+	}
+
+	private Result awaitSplitDeployments(List<Deployment> deployments, boolean ignoreAlreadyExistsError,
+			List<Coordinates> awaitArtifacts, @Nullable ArtifactAwaitTask artifactAwaitTask,
+			DeploymentMetrics metrics) {
+		this.logger.log("Awaiting validation of {} deployments ...", deployments.size());
+		long start = System.nanoTime();
+		this.deploymentPoller.awaitFinalStatus(deployments);
+		metrics.record(Phase.VALIDATE, elapsedSince(start), 0, 0);
+		List<Deployment> validated = new ArrayList<>();
+		List<Deployment> failed = new ArrayList<>();
+		for (Deployment deployment : deployments) {
+			switch (deployment.getStatus()) {
+				case VALIDATED -> validated.add(deployment);
+				case FAILED -> {
+					Errors errors = deployment.getErrors();
+					if (ignoreAlreadyExistsError && errors.hasOnlyAlreadyExistsError()) {
+						this.logger.log("Deployment '{}' has already been deployed", deployment.getId());
+						dropDeployment(deployment, true);
+					}
+					else {
+						this.logger.error("Deployment '{}' failed", deployment.getId());
+						this.logger.error("Errors:\n\n{}", errors);
+						failed.add(deployment);
+					}
+				}
+				default -> throw new IllegalStateException(
+						"Unexpected deployment status value %s".formatted(deployment.getStatus()));
+			}
+		}
+		if (!failed.isEmpty()) {
+			this.logger.error("{} of {} deployments failed, dropping all deployments", failed.size(),
+					deployments.size());
+			dropAll(failed, null);
+			dropAll(validated, null);
+			return Result.failure(deployments);
+		}
+		if (this.publishingType == PublishingType.USER_MANAGED) {
+			this.logger.log("All {} deployments are done. Please execute required manual steps to publish them.",
+					deployments.size());
+			return Result.success(deployments);
+		}
+		if (validated.isEmpty()) {
+			return Result.success(deployments);
+		}
+		this.logger.log("All {} deployments are validated, publishing them ...", validated.size());
+		for (Deployment deployment : validated) {
+			deployment.publish();
+		}
+		// The deployments are validated already, so all the waiting is publishing
+		Result result = awaitDeployments(validated, false, ignoreAlreadyExistsError, awaitArtifacts, artifactAwaitTask,
+				metrics, Phase.PUBLISH);
+		return new Result(result.status(), deployments);
+	}
+
+	private void dropAll(List<Deployment> deployments, @Nullable RuntimeException failure) {
+		if (deployments.isEmpty()) {
+			return;
+		}
+		try {
+			// Only validated or failed deployments can be dropped
+			this.deploymentPoller.awaitFinalStatus(deployments);
+		}
+		catch (RuntimeException ex) {
+			handleDropFailure(ex, failure);
+			return;
+		}
+		for (Deployment deployment : deployments) {
+			try {
+				this.logger.log("Dropping deployment '{}'", deployment.getId());
+				deployment.drop();
+			}
+			catch (RuntimeException ex) {
+				handleDropFailure(ex, failure);
+			}
+		}
+	}
+
+	private void handleDropFailure(RuntimeException ex, @Nullable RuntimeException failure) {
+		this.logger.error("Failed to drop deployment: {}", ex.getMessage());
+		if (failure != null) {
+			failure.addSuppressed(ex);
+		}
+	}
+
+	private Deployment uploadAndLog(Path root, BundleContent content, PublishingType publishingType,
+			@Nullable String deploymentName, DeploymentMetrics metrics) {
+		Deployment deployment = upload(root, content, publishingType, deploymentName, metrics);
+		metrics.recordDeployment(deployment);
+		this.logger.log("Bundle uploaded, resulting in deployment '{}'.", deployment.getId());
+		return deployment;
+	}
+
+	private List<BundleContent> split(BundleContent content) {
+		List<FileSet> parts = this.bundleSplitter.split(content.files(), content.checksummedFiles());
+		if (parts.size() == 1) {
+			return List.of(content);
+		}
+		this.logger.log("Splitting files into {} bundles ...", parts.size());
+		List<BundleContent> bundles = new ArrayList<>();
+		for (FileSet part : parts) {
+			List<Path> checksummedFiles = new ArrayList<>();
+			for (Path file : part) {
+				if (content.checksummedFiles().contains(file)) {
+					checksummedFiles.add(file);
+				}
+			}
+			bundles.add(new BundleContent(part, FileSet.of(checksummedFiles)));
+		}
+		return bundles;
+	}
+
+	private @Nullable String getDeploymentName(@Nullable String deploymentName, int index, int count) {
+		if (count == 1 || !StringUtils.hasLength(deploymentName)) {
+			return deploymentName;
+		}
+		return "%s (%d/%d)".formatted(deploymentName, index + 1, count);
+	}
+
+	private BundleContent prepareBundleContent(FileSet files, DeploymentMetrics metrics) {
+		if (!this.writeChecksumFiles) {
+			FileSet checksummedFiles = this.checksumCreator.getChecksummedFiles(files);
+			this.logger.log("Found {} files, creating bundle with checksums for {} files ...", files.size(),
+					checksummedFiles.size());
+			return new BundleContent(files, checksummedFiles);
+		}
 		this.logger.log("Found {} files, creating checksums ...", files.size());
+		long start = System.nanoTime();
 		FileSet checksums = this.checksumCreator.createChecksums(files);
+		FileSet checksummedFiles = getChecksummedFiles(files, checksums);
+		metrics.record(Phase.CHECKSUM, elapsedSince(start), getSize(checksummedFiles), checksummedFiles.size());
 		if (checksums.isEmpty()) {
 			this.logger.log("No checksums created. Creating bundle with {} files ...", files.size());
 		}
@@ -81,21 +412,46 @@ class DeployerImpl implements Deployer {
 			files = files.plus(checksums);
 			this.logger.log("Checksums created. Creating bundle with {} files ...", files.size());
 		}
-		Deployment deployment;
-		try (Bundle bundle = this.bundleCreator.createBundle(root, files)) {
-			this.logger.log("Bundle created. Uploading {} to Sonatype ...", bundle.getSize());
-			deployment = this.centralPortalApi.upload(bundle, this.publishingType, deploymentName);
+		return new BundleContent(files, FileSet.empty());
+	}
+
+	private Deployment upload(Path root, BundleContent content, PublishingType publishingType,
+			@Nullable String deploymentName, DeploymentMetrics metrics) {
+		if (this.streamBundle) {
+			this.logger.log("Uploading bundle to Sonatype while creating it ...");
+			AtomicReference<BundleStatistics> statistics = new AtomicReference<>(BundleStatistics.NONE);
+			long start = System.nanoTime();
+			Deployment deployment = this.centralPortalApi.upload((outputStream) -> {
+				statistics.set(this.bundleCreator.writeBundle(root, content.files(), content.checksummedFiles(),
+						outputStream));
+				return statistics.get();
+			}, publishingType, deploymentName);
+			metrics.record(Phase.UPLOAD, elapsedSince(start), statistics.get().size().toBytes(),
+					statistics.get().entries());
+			metrics.recordBundle(statistics.get());
+			logBundleStatistics(statistics.get());
+			return deployment;
+		}
+		long start = System.nanoTime();
+		try (Bundle bundle = this.bundleCreator.createBundle(root, content.files(), content.checksummedFiles())) {
+			BundleStatistics statistics = bundle.getStatistics();
+			metrics.record(Phase.BUNDLE, elapsedSince(start), statistics.uncompressedSize().toBytes(),
+					statistics.entries());
+			metrics.recordBundle(statistics);
+			logBundleStatistics(statistics);
+			this.logger.log("Uploading {} to Sonatype ...", bundle.getSize());
+			long uploadStart = System.nanoTime();
+			Deployment deployment = this.centralPortalApi.upload(bundle, publishingType, deploymentName);
+			metrics.record(Phase.UPLOAD, elapsedSince(uploadStart), bundle.getSize().toBytes(), statistics.entries());
+			return deployment;
 		}
-		this.logger.log("Bundle uploaded, resulting in deployment '{}'.", deployment.getId());
-		this.logger.log("Awaiting final status ...");
-		deployment.awaitFinalStatus();
-		return switch (deployment.getStatus()) {
-			case FAILED -> deploymentFailed(deployment, ignoreAlreadyExistsError, dropDeploymentOnFailure);
-			case PUBLISHED -> deploymentPublished(deployment, awaitArtifact);
-			case VALIDATED -> deploymentValidated(deployment);
-			default -> throw new IllegalStateException(
-					"Unexpected deployment status value %s".formatted(deployment.getStatus()));
-		};
+	}
+
+	private void logBundleStatistics(BundleStatistics statistics) {
+		this.logger.log("Bundle created with {} entries ({} stored, {} deflated). Size before: {}, size after: {}.",
+				statistics.entries(), statistics.storedEntries(), statistics.deflatedEntries(),
+				statistics.uncompressedSize(), statistics.size());
+		this.logger.log("Bundle creation used {}ms of CPU time.", statistics.cpuTime().toMillis());
 	}
 
 	private Result deploymentValidated(Deployment deployment) {
@@ -108,16 +464,12 @@ class DeployerImpl implements Deployer {
 		return Result.success(deployment);
 	}
 
-	private Result deploymentPublished(Deployment deployment, @Nullable Coordinates awaitArtifact) {
+	private Result deploymentPublished(Deployment deployment) {
 		if (this.publishingType == PublishingType.USER_MANAGED) {
 			throw new IllegalStateException(
 					"Publishing type USER_MANAGED should only have states FAILED or VALIDATED, but got PUBLISHED");
 		}
 		this.logger.log("Deployment '{}' successfully published", deployment.getId());
-		if (awaitArtifact != null) {
-			this.logger.log("Waiting for artifact to appear");
-			this.artifactAwaiter.await(awaitArtifact);
-		}
 		return Result.success(deployment);
 	}
 
@@ -142,4 +494,51 @@ class DeployerImpl implements Deployer {
 		}
 	}
 
+	private static void recordValidationAndPublishing(DeploymentMetrics metrics, long start, long publishingStart) {
+		if (publishingStart == Long.MAX_VALUE) {
+			metrics.record(Phase.VALIDATE, elapsedSince(start), 0, 0);
+			return;
+		}
+		if (publishingStart > start) {
+			metrics.record(Phase.VALIDATE, Duration.ofNanos(publishingStart - start), 0, 0);
+		}
+		metrics.record(Phase.PUBLISH, elapsedSince(publishingStart), 0, 0);
+	}
+
+	private static Duration elapsedSince(long start) {
+		return Duration.ofNanos(System.nanoTime() - start);
+	}
+
+	private static FileSet getChecksummedFiles(FileSet files, FileSet checksums) {
+		// Every checksum file is named after the file it belongs to
+		Set<Path> checksummedFiles = new LinkedHashSet<>();
+		for (Path checksum : checksums) {
+			String name = checksum.toString();
+			Path file = Path.of(name.substring(0, name.lastIndexOf('.')));
+			if (files.contains(file)) {
+				checksummedFiles.add(file);
+			}
+		}
+		return FileSet.of(checksummedFiles);
+	}
+
+	private long getSize(FileSet files) {
+		long size = 0;
+		for (Path file : files) {
+			try {
+				size += Files.size(file);
+			}
+			catch (IOException ex) {
+				// The size is only a metric, so a file which can't be read
+				// mustn't fail the deployment
+				this.logger.debug("Failed to get file size of '{}': {}", file, ex.getMessage());
+			}
+		}
+		return size;
+	}
+
+	private record BundleContent(FileSet files, FileSet checksummedFiles) {
+
+	}
+
 }
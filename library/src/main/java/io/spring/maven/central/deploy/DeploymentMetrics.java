@@ -0,0 +1,268 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.deploy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import io.spring.maven.central.bundle.BundleStatistics;
+import io.spring.maven.central.sonatype.Deployment;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Records the duration, the number of bytes and the number of files of every {@link Phase
+ * phase} of a deployment. Phases which run concurrently, e.g. parallel uploads of
+ * multiple bundles, add up their durations. The total duration is the wall clock time of
+ * the whole deployment. The created deployments are recorded as well, so that they can be
+ * reported even if the deployment fails.
+ *
+ * @author Moritz Halbritter
+ */
+public final class DeploymentMetrics {
+
+	private static final double BYTES_PER_MEGABYTE = 1024 * 1024;
+
+	private final Map<Phase, PhaseMetrics> phases = new EnumMap<>(Phase.class);
+
+	private @Nullable Duration total;
+
+	private long uncompressedBundleSize;
+
+	private long bundleSize;
+
+	private final List<Deployment> deployments = new ArrayList<>();
+
+	/**
+	 * Records a run of the given phase.
+	 * @param phase the phase
+	 * @param duration the duration of the run
+	 * @param bytes the number of processed bytes, or 0 if not applicable
+	 * @param files the number of processed files, or 0 if not applicable
+	 */
+	public synchronized void record(Phase phase, Duration duration, long bytes, int files) {
+		this.phases.merge(phase, new PhaseMetrics(duration, bytes, files), PhaseMetrics::plus);
+	}
+
+	/**
+	 * Records the sizes of a created bundle.
+	 * @param statistics the statistics of the bundle
+	 */
+	public synchronized void recordBundle(BundleStatistics statistics) {
+		this.uncompressedBundleSize += statistics.uncompressedSize().toBytes();
+		this.bundleSize += statistics.size().toBytes();
+	}
+
+	/**
+	 * Records a deployment which has been created by uploading a bundle.
+	 * @param deployment the deployment
+	 */
+	public synchronized void recordDeployment(Deployment deployment) {
+		this.deployments.add(deployment);
+	}
+
+	/**
+	 * Records the wall clock time of the whole deployment.
+	 * @param total the wall clock time
+	 */
+	public synchronized void recordTotal(Duration total) {
+		this.total = total;
+	}
+
+	/**
+	 * Returns the metrics of the given phase.
+	 * @param phase the phase
+	 * @return the metrics or {@code null} if the phase hasn't run
+	 */
+	public synchronized @Nullable PhaseMetrics get(Phase phase) {
+		return this.phases.get(phase);
+	}
+
+	/**
+	 * Returns the metrics of all phases which have run, in the order of the phases.
+	 * @return the metrics of all phases which have run
+	 */
+	public synchronized Map<Phase, PhaseMetrics> getPhases() {
+		return Collections.unmodifiableMap(new EnumMap<>(this.phases));
+	}
+
+	/**
+	 * Returns the wall clock time of the whole deployment. If it hasn't been recorded,
+	 * the sum of the durations of all phases is returned.
+	 * @return the wall clock time of the whole deployment
+	 */
+	public synchronized Duration getTotal() {
+		if (this.total != null) {
+			return this.total;
+		}
+		return this.phases.values().stream().map(PhaseMetrics::duration).reduce(Duration.ZERO, Duration::plus);
+	}
+
+	/**
+	 * Returns the total size of all bundle entries before compression.
+	 * @return the total size of all bundle entries before compression in bytes
+	 */
+	public synchronized long getUncompressedBundleSize() {
+		return this.uncompressedBundleSize;
+	}
+
+	/**
+	 * Returns the total size of all bundles.
+	 * @return the total size of all bundles in bytes
+	 */
+	public synchronized long getBundleSize() {
+		return this.bundleSize;
+	}
+
+	/**
+	 * Returns the deployments which have been created so far, in the order of their
+	 * creation.
+	 * @return the created deployments
+	 */
+	public synchronized List<Deployment> getDeployments() {
+		return List.copyOf(this.deployments);
+	}
+
+	/**
+	 * Returns the ratio of the size of the bundles to the size of their entries before
+	 * compression. Smaller values mean better compression.
+	 * @return the compression ratio, or {@code null} if no bundle has been created
+	 */
+	public synchronized @Nullable Double getCompressionRatio() {
+		if (this.uncompressedBundleSize == 0) {
+			return null;
+		}
+		return (double) this.bundleSize / this.uncompressedBundleSize;
+	}
+
+	/**
+	 * Renders the metrics as a Markdown table.
+	 * @return the Markdown table
+	 */
+	public synchronized String toTable() {
+		StringBuilder table = new StringBuilder();
+		table.append("| Phase | Duration | Files | Size | Throughput |\n");
+		table.append("| :--- | ---: | ---: | ---: | ---: |\n");
+		this.phases.forEach((phase,
+				metrics) -> table.append("| %s | %s | %s | %s | %s |\n".formatted(phase.getDisplayName(),
+						formatDuration(metrics.duration()), (metrics.files() > 0) ? metrics.files() : "",
+						(metrics.bytes() > 0) ? formatSize(metrics.bytes()) : "",
+						(metrics.bytes() > 0) ? format(metrics.megabytesPerSecond()) + " MB/s" : "")));
+		table.append("| Total | %s |  |  |  |".formatted(formatDuration(getTotal())));
+		return table.toString();
+	}
+
+	private static String formatDuration(Duration duration) {
+		return format(duration.toNanos() / 1_000_000_000.0) + " s";
+	}
+
+	private static String formatSize(long bytes) {
+		return format(bytes / BYTES_PER_MEGABYTE) + " MB";
+	}
+
+	private static String format(double value) {
+		return String.format(Locale.ROOT, "%.2f", value);
+	}
+
+	/**
+	 * Metrics of a phase.
+	 *
+	 * @param duration the duration
+	 * @param bytes the number of processed bytes
+	 * @param files the number of processed files
+	 */
+	public record PhaseMetrics(Duration duration, long bytes, int files) {
+
+		/**
+		 * Returns the throughput of this phase.
+		 * @return the throughput in megabytes per second
+		 */
+		public double megabytesPerSecond() {
+			double seconds = Math.max(this.duration.toNanos(), 1) / 1_000_000_000.0;
+			return this.bytes / BYTES_PER_MEGABYTE / seconds;
+		}
+
+		PhaseMetrics plus(PhaseMetrics other) {
+			return new PhaseMetrics(this.duration.plus(other.duration), this.bytes + other.bytes,
+					this.files + other.files);
+		}
+
+	}
+
+	/**
+	 * Phases of a deployment.
+	 */
+	public enum Phase {
+
+		/**
+		 * Scanning the directory for files.
+		 */
+		SCAN("Scan"),
+
+		/**
+		 * Creating checksum files.
+		 */
+		CHECKSUM("Checksums"),
+
+		/**
+		 * Creating the bundles. The size is the uncompressed size of the entries.
+		 */
+		BUNDLE("Bundle"),
+
+		/**
+		 * Uploading the bundles. Includes the creation of the bundles if they are
+		 * streamed.
+		 */
+		UPLOAD("Upload"),
+
+		/**
+		 * Waiting for the Central Portal to validate the deployments. Ends as soon as the
+		 * first deployment is publishing.
+		 */
+		VALIDATE("Validation"),
+
+		/**
+		 * Waiting for the Central Portal to publish the deployments.
+		 */
+		PUBLISH("Publishing"),
+
+		/**
+		 * Waiting for the artifacts to appear on Maven Central.
+		 */
+		AWAIT_ARTIFACTS("Await artifacts");
+
+		private final String displayName;
+
+		Phase(String displayName) {
+			this.displayName = displayName;
+		}
+
+		/**
+		 * Returns the human-readable name of the phase.
+		 * @return the human-readable name of the phase
+		 */
+		public String getDisplayName() {
+			return this.displayName;
+		}
+
+	}
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.deploy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import io.spring.maven.central.sonatype.Deployment;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Awaits the final status of multiple deployments. All deployments are polled from a
+ * single scheduler thread, so the time spent waiting is determined by the slowest
+ * deployment and not by the sum of all deployments.
+ *
+ * @author Moritz Halbritter
+ */
+class DeploymentPoller {
+
+	private final ThreadFactory threadFactory;
+
+	DeploymentPoller() {
+		this(Executors.defaultThreadFactory());
+	}
+
+	DeploymentPoller(ThreadFactory threadFactory) {
+		this.threadFactory = threadFactory;
+	}
+
+	/**
+	 * Awaits the final status of all given deployments. Fails as soon as polling one of
+	 * the deployments fails.
+	 * @param deployments the deployments
+	 */
+	void awaitFinalStatus(List<Deployment> deployments) {
+		awaitFinalStatus(deployments, null);
+	}
+
+	/**
+	 * Awaits the final status of all given deployments. Fails as soon as polling one of
+	 * the deployments fails.
+	 * @param deployments the deployments
+	 * @param statusListener the listener which is notified when the polled status of a
+	 * deployment changes, or {@code null}
+	 */
+	void awaitFinalStatus(List<Deployment> deployments, @Nullable StatusListener statusListener) {
+		if (deployments.size() == 1 && statusListener == null) {
+			deployments.getFirst().awaitFinalStatus();
+			return;
+		}
+		ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(this.threadFactory);
+		try {
+			CompletableFuture<Void> failure = new CompletableFuture<>();
+			List<CompletableFuture<Void>> futures = new ArrayList<>();
+			for (Deployment deployment : deployments) {
+				CompletableFuture<Void> future = new CompletableFuture<>();
+				future.whenComplete((result, ex) -> {
+					if (ex != null) {
+						failure.completeExceptionally(ex);
+					}
+				});
+				futures.add(future);
+				scheduler.execute(() -> poll(scheduler, deployment, statusListener, null, future));
+			}
+			CompletableFuture.anyOf(CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)), failure).join();
+		}
+		catch (CompletionException ex) {
+			if (ex.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw ex;
+		}
+		finally {
+			scheduler.shutdownNow();
+		}
+	}
+
+	private void poll(ScheduledExecutorService scheduler, Deployment deployment,
+			@Nullable StatusListener statusListener, Deployment.@Nullable Status previousStatus,
+			CompletableFuture<Void> future) {
+		try {
+			Duration delay = deployment.pollStatus();
+			Deployment.Status status = deployment.getPolledStatus();
+			if (statusListener != null && status != null && status != previousStatus) {
+				statusListener.statusChanged(deployment, status);
+			}
+			if (delay == null) {
+				future.complete(null);
+			}
+			else {
+				scheduler.schedule(() -> poll(scheduler, deployment, statusListener, status, future), delay.toMillis(),
+						TimeUnit.MILLISECONDS);
+			}
+		}
+		catch (RuntimeException ex) {
+			future.completeExceptionally(ex);
+		}
+	}
+
+	/**
+	 * Listener which is notified when the polled status of a deployment changes.
+	 */
+	@FunctionalInterface
+	interface StatusListener {
+
+		/**
+		 * Called when the polled status of the deployment has changed.
+		 * @param deployment the deployment
+		 * @param status the new status
+		 */
+		void statusChanged(Deployment deployment, Deployment.Status status);
+
+	}
+
+}
@@ -51,6 +51,15 @@ public final class FileSet implements Iterable<Path> {
 		return this.files.isEmpty();
 	}
 
+	/**
+	 * Whether this collection contains the given file.
+	 * @param file the file
+	 * @return whether this collection contains the given file
+	 */
+	public boolean contains(Path file) {
+		return this.files.contains(file.toAbsolutePath());
+	}
+
 	/**
 	 * Returns the size of the collection.
 	 * @return the size of the collection
@@ -16,6 +16,13 @@
 
 package io.spring.maven.central.log;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.jspecify.annotations.Nullable;
 import org.slf4j.helpers.MessageFormatter;
 
 /**
@@ -27,8 +34,15 @@ class GithubActionsLogger implements Logger {
 
 	private final boolean debugEnabled;
 
+	private final @Nullable Path stepSummary;
+
 	GithubActionsLogger(boolean debugEnabled) {
+		this(debugEnabled, null);
+	}
+
+	GithubActionsLogger(boolean debugEnabled, @Nullable Path stepSummary) {
 		this.debugEnabled = debugEnabled;
+		this.stepSummary = stepSummary;
 	}
 
 	@Override
@@ -51,8 +65,27 @@ class GithubActionsLogger implements Logger {
 		printMessage(message, args);
 	}
 
+	@Override
+	public synchronized void summary(String message, Object... args) {
+		printMessage(message, args);
+		if (this.stepSummary == null) {
+			return;
+		}
+		try {
+			Files.writeString(this.stepSummary, format(message, args) + System.lineSeparator(), StandardCharsets.UTF_8,
+					StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+		}
+		catch (IOException ex) {
+			error("Failed to write step summary to '{}': {}", this.stepSummary, ex.getMessage());
+		}
+	}
+
 	private void printMessage(String message, Object[] args) {
-		System.out.println(MessageFormatter.arrayFormat(message, args).getMessage());
+		System.out.println(format(message, args));
+	}
+
+	private static String format(String message, Object[] args) {
+		return MessageFormatter.arrayFormat(message, args).getMessage();
 	}
 
 }
@@ -16,6 +16,10 @@
 
 package io.spring.maven.central.log;
 
+import java.nio.file.Path;
+
+import org.jspecify.annotations.Nullable;
+
 /**
  * A logger.
  *
@@ -44,6 +48,16 @@ public interface Logger {
 	 */
 	void debug(String message, Object... args);
 
+	/**
+	 * Logs the given message and adds it to the summary of the run, if the logger
+	 * supports summaries.
+	 * @param message the message
+	 * @param args the arguments
+	 */
+	default void summary(String message, Object... args) {
+		log(message, args);
+	}
+
 	/**
 	 * Creates a noop logger.
 	 * @return the logger
@@ -70,7 +84,18 @@ public interface Logger {
 	 * @return the logger
 	 */
 	static Logger githubActions(boolean debugEnabled) {
-		return new GithubActionsLogger(debugEnabled);
+		return githubActions(debugEnabled, null);
+	}
+
+	/**
+	 * Creates a logger for GitHub actions.
+	 * @param debugEnabled whether debug logging should be enabled
+	 * @param stepSummary the file to which summaries are appended, usually the file
+	 * referenced by the {@code GITHUB_STEP_SUMMARY} environment variable, or {@code null}
+	 * @return the logger
+	 */
+	static Logger githubActions(boolean debugEnabled, @Nullable Path stepSummary) {
+		return new GithubActionsLogger(debugEnabled, stepSummary);
 	}
 
 	/**
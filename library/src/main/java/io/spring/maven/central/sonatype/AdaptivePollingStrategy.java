@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.sonatype;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * {@link PollingStrategy} which polls fast at first and then backs off exponentially,
+ * with jitter. The backoff starts over whenever the status of the deployment changes, and
+ * every status can have its own backoff.
+ *
+ * @author Moritz Halbritter
+ */
+class AdaptivePollingStrategy implements PollingStrategy {
+
+	private final Backoff backoff;
+
+	private final Map<Deployment.Status, Backoff> statusBackoffs;
+
+	private final DoubleSupplier random;
+
+	AdaptivePollingStrategy(Backoff backoff, Map<Deployment.Status, Backoff> statusBackoffs) {
+		this(backoff, statusBackoffs, () -> ThreadLocalRandom.current().nextDouble());
+	}
+
+	AdaptivePollingStrategy(Backoff backoff, Map<Deployment.Status, Backoff> statusBackoffs, DoubleSupplier random) {
+		this.backoff = backoff;
+		this.statusBackoffs = (statusBackoffs.isEmpty()) ? Map.of() : new EnumMap<>(statusBackoffs);
+		this.random = random;
+	}
+
+	@Override
+	public Schedule start() {
+		return new AdaptiveSchedule();
+	}
+
+	private final class AdaptiveSchedule implements Schedule {
+
+		private Deployment.@Nullable Status status;
+
+		private int attempt;
+
+		@Override
+		public Duration next(Deployment.@Nullable Status status) {
+			if (status != null && status != this.status) {
+				this.status = status;
+				this.attempt = 0;
+			}
+			Backoff backoff = getBackoff();
+			double interval = backoff.initialInterval().toMillis() * Math.pow(backoff.multiplier(), this.attempt);
+			double maxInterval = backoff.maxInterval().toMillis();
+			if (interval < maxInterval) {
+				this.attempt++;
+			}
+			interval = Math.min(interval, maxInterval);
+			double jitter = interval * backoff.jitter() * (AdaptivePollingStrategy.this.random.getAsDouble() * 2 - 1);
+			return Duration.ofMillis(Math.round(Math.min(interval + jitter, maxInterval)));
+		}
+
+		private Backoff getBackoff() {
+			if (this.status == null) {
+				return AdaptivePollingStrategy.this.backoff;
+			}
+			return AdaptivePollingStrategy.this.statusBackoffs.getOrDefault(this.status,
+					AdaptivePollingStrategy.this.backoff);
+		}
+
+	}
+
+}
@@ -16,14 +16,20 @@
 
 package io.spring.maven.central.sonatype;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URI;
 import java.time.Clock;
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadFactory;
 
 import io.spring.maven.central.bundle.Bundle;
+import io.spring.maven.central.bundle.BundleStatistics;
 import io.spring.maven.central.log.Logger;
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.client.RestClient;
 
 /**
@@ -43,6 +49,45 @@ public interface CentralPortalApi {
 	 */
 	Deployment upload(Bundle bundle, PublishingType publishingType, @Nullable String deploymentName);
 
+	/**
+	 * Uploads a bundle using the given publishing type. The bundle is written by the
+	 * given writer directly into the request body while uploading, so no bundle file is
+	 * needed. The upload is aborted as soon as the bundle exceeds the maximum bundle
+	 * size.
+	 * @param bundleWriter the writer of the bundle
+	 * @param publishingType the publishing type
+	 * @param deploymentName the name of the deployment. If {@code null} or empty, a name
+	 * will be generated.
+	 * @return the deployment
+	 */
+	Deployment upload(BundleWriter bundleWriter, PublishingType publishingType, @Nullable String deploymentName);
+
+	/**
+	 * Uploads the given bundle using the given publishing type without blocking the
+	 * calling thread.
+	 * @param bundle the bundle to upload
+	 * @param publishingType the publishing type
+	 * @param deploymentName the name of the deployment. If {@code null} or empty, a name
+	 * will be generated.
+	 * @return a future which completes with the deployment
+	 * @see #upload(Bundle, PublishingType, String)
+	 */
+	CompletableFuture<Deployment> uploadAsync(Bundle bundle, PublishingType publishingType,
+			@Nullable String deploymentName);
+
+	/**
+	 * Uploads a bundle using the given publishing type without blocking the calling
+	 * thread.
+	 * @param bundleWriter the writer of the bundle
+	 * @param publishingType the publishing type
+	 * @param deploymentName the name of the deployment. If {@code null} or empty, a name
+	 * will be generated.
+	 * @return a future which completes with the deployment
+	 * @see #upload(BundleWriter, PublishingType, String)
+	 */
+	CompletableFuture<Deployment> uploadAsync(BundleWriter bundleWriter, PublishingType publishingType,
+			@Nullable String deploymentName);
+
 	/**
 	 * Create a new {@link CentralPortalApi}.
 	 * @param logger the logger
@@ -57,8 +102,160 @@ public interface CentralPortalApi {
 	 */
 	static CentralPortalApi create(Logger logger, URI baseUri, String tokenName, String token,
 			RestClient.Builder restClientBuilder, Clock clock, Duration timeout, Duration sleepBetweenRetries) {
-		return new CentralPortalApiImpl(logger, baseUri, tokenName, token, restClientBuilder, clock, timeout,
-				sleepBetweenRetries);
+		return create(logger, baseUri, tokenName, token, restClientBuilder, clock, timeout,
+				Options.defaults().withPollingStrategy(PollingStrategy.fixed(sleepBetweenRetries)));
+	}
+
+	/**
+	 * Create a new {@link CentralPortalApi}.
+	 * @param logger the logger
+	 * @param baseUri the base URI of the Sonatype Central Portal
+	 * @param tokenName the name of the token (username in basic auth)
+	 * @param token the token (value in basic auth)
+	 * @param restClientBuilder the builder for a {@link RestClient}
+	 * @param clock the clock
+	 * @param timeout the timeout for the operations
+	 * @param options the options
+	 * @return the {@link CentralPortalApi}
+	 */
+	static CentralPortalApi create(Logger logger, URI baseUri, String tokenName, String token,
+			RestClient.Builder restClientBuilder, Clock clock, Duration timeout, Options options) {
+		return new CentralPortalApiImpl(logger, baseUri, tokenName, token, restClientBuilder, clock, timeout, options);
+	}
+
+	/**
+	 * Writes a bundle to an output stream.
+	 */
+	@FunctionalInterface
+	interface BundleWriter {
+
+		/**
+		 * Writes the bundle to the given output stream.
+		 * @param outputStream the output stream
+		 * @return the statistics of the written bundle
+		 * @throws IOException if an I/O error occurs
+		 */
+		BundleStatistics writeTo(OutputStream outputStream) throws IOException;
+
+	}
+
+	/**
+	 * Waits for a given amount of time.
+	 */
+	@FunctionalInterface
+	interface Sleeper {
+
+		/**
+		 * Sleeps for the given duration.
+		 * @param duration the duration to sleep
+		 * @throws InterruptedException if interrupted while sleeping
+		 */
+		void sleep(Duration duration) throws InterruptedException;
+
+		/**
+		 * Returns a sleeper which puts the current thread to sleep.
+		 * @return the sleeper
+		 */
+		static Sleeper thread() {
+			return Thread::sleep;
+		}
+
+	}
+
+	/**
+	 * Options for a {@link CentralPortalApi}.
+	 *
+	 * @param pollingStrategy the strategy which determines how long to wait between
+	 * polling the status of a deployment
+	 * @param threadFactory the factory for the threads which run asynchronous uploads and
+	 * status polls
+	 * @param uploadBufferSize the size of the buffer between a streamed bundle and the
+	 * upload request
+	 * @param uploadRetry how often an upload of a bundle file is attempted
+	 * @param uploadRateLimit the maximum number of bytes per second to upload, or
+	 * {@code null} for no limit. Uploads may burst up to one second's worth of bytes
+	 * @param sleeper the sleeper which waits while the upload rate limit holds back an
+	 * upload
+	 */
+	record Options(PollingStrategy pollingStrategy, ThreadFactory threadFactory, DataSize uploadBufferSize,
+			UploadRetry uploadRetry, @Nullable DataSize uploadRateLimit, Sleeper sleeper) {
+
+		/**
+		 * Returns the default options: polling every minute on virtual threads, a 64 KB
+		 * upload buffer, no upload retries and no upload rate limit.
+		 * @return the default options
+		 */
+		public static Options defaults() {
+			return new Options(PollingStrategy.fixed(Duration.ofMinutes(1)),
+					Thread.ofVirtual().name("central-portal-api-", 0).factory(), DataSize.ofKilobytes(64),
+					UploadRetry.none(), null, Sleeper.thread());
+		}
+
+		/**
+		 * Returns a copy of these options with the given polling strategy.
+		 * @param pollingStrategy the strategy which determines how long to wait between
+		 * polling the status of a deployment
+		 * @return the new options
+		 */
+		public Options withPollingStrategy(PollingStrategy pollingStrategy) {
+			return new Options(pollingStrategy, this.threadFactory, this.uploadBufferSize, this.uploadRetry,
+					this.uploadRateLimit, this.sleeper);
+		}
+
+		/**
+		 * Returns a copy of these options with the given thread factory.
+		 * @param threadFactory the factory for the threads which run asynchronous uploads
+		 * and status polls
+		 * @return the new options
+		 */
+		public Options withThreadFactory(ThreadFactory threadFactory) {
+			return new Options(this.pollingStrategy, threadFactory, this.uploadBufferSize, this.uploadRetry,
+					this.uploadRateLimit, this.sleeper);
+		}
+
+		/**
+		 * Returns a copy of these options with the given upload buffer size.
+		 * @param uploadBufferSize the size of the buffer between a streamed bundle and
+		 * the upload request
+		 * @return the new options
+		 */
+		public Options withUploadBufferSize(DataSize uploadBufferSize) {
+			return new Options(this.pollingStrategy, this.threadFactory, uploadBufferSize, this.uploadRetry,
+					this.uploadRateLimit, this.sleeper);
+		}
+
+		/**
+		 * Returns a copy of these options with the given upload retry.
+		 * @param uploadRetry how often an upload of a bundle file is attempted
+		 * @return the new options
+		 */
+		public Options withUploadRetry(UploadRetry uploadRetry) {
+			return new Options(this.pollingStrategy, this.threadFactory, this.uploadBufferSize, uploadRetry,
+					this.uploadRateLimit, this.sleeper);
+		}
+
+		/**
+		 * Returns a copy of these options with the given upload rate limit.
+		 * @param uploadRateLimit the maximum number of bytes per second to upload, or
+		 * {@code null} for no limit
+		 * @return the new options
+		 */
+		public Options withUploadRateLimit(@Nullable DataSize uploadRateLimit) {
+			return new Options(this.pollingStrategy, this.threadFactory, this.uploadBufferSize, this.uploadRetry,
+					uploadRateLimit, this.sleeper);
+		}
+
+		/**
+		 * Returns a copy of these options with the given sleeper.
+		 * @param sleeper the sleeper which waits while the upload rate limit holds back
+		 * an upload
+		 * @return the new options
+		 */
+		public Options withSleeper(Sleeper sleeper) {
+			return new Options(this.pollingStrategy, this.threadFactory, this.uploadBufferSize, this.uploadRetry,
+					this.uploadRateLimit, sleeper);
+		}
+
 	}
 
 }
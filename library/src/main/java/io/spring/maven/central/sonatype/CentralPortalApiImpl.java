@@ -16,16 +16,40 @@
 
 package io.spring.maven.central.sonatype;
 
+import java.io.BufferedOutputStream;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
 import java.io.Serial;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
 import java.net.URI;
+import java.net.UnknownHostException;
+import java.net.http.HttpConnectTimeoutException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.time.Clock;
 import java.time.Duration;
 import java.util.Base64;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 
 import io.spring.maven.central.bundle.Bundle;
+import io.spring.maven.central.bundle.BundleStatistics;
 import io.spring.maven.central.log.Logger;
+import io.spring.maven.central.util.Concurrency;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.core.io.FileSystemResource;
@@ -38,10 +62,12 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MimeTypeUtils;
 import org.springframework.util.MultiValueMap;
 import org.springframework.util.StreamUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.util.unit.DataSize;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClient;
 
 /**
@@ -55,6 +81,8 @@ class CentralPortalApiImpl implements CentralPortalApi {
 
 	private static final DataSize MAX_BUNDLE_SIZE = DataSize.ofGigabytes(1);
 
+	private static final Duration PROGRESS_INTERVAL = Duration.ofSeconds(10);
+
 	private final Logger logger;
 
 	private final RestClient restClient;
@@ -63,14 +91,34 @@ class CentralPortalApiImpl implements CentralPortalApi {
 
 	private final Duration timeout;
 
-	private final Duration sleepBetweenRetries;
+	private final PollingStrategy pollingStrategy;
+
+	private final Executor executor;
+
+	private final int uploadBufferSize;
+
+	private final UploadRetry uploadRetry;
+
+	private final @Nullable TokenBucket uploadRateLimit;
 
 	CentralPortalApiImpl(Logger logger, URI baseUri, String tokenName, String token,
-			RestClient.Builder restClientBuilder, Clock clock, Duration timeout, Duration sleepBetweenRetries) {
+			RestClient.Builder restClientBuilder, Clock clock, Duration timeout, Options options) {
+		DataSize uploadBufferSize = options.uploadBufferSize();
+		DataSize uploadRateLimit = options.uploadRateLimit();
+		Assert.isTrue(uploadBufferSize.toBytes() > 0 && uploadBufferSize.toBytes() <= Integer.MAX_VALUE,
+				"'uploadBufferSize' must be between 1 byte and 2 GiB");
+		Assert.isTrue(uploadRateLimit == null || uploadRateLimit.toBytes() > 0,
+				"'uploadRateLimit' must be greater than 0");
 		this.logger = logger;
+		this.uploadBufferSize = (int) uploadBufferSize.toBytes();
+		this.uploadRetry = options.uploadRetry();
+		// One bucket for all uploads, so that parallel uploads share the bandwidth
+		this.uploadRateLimit = (uploadRateLimit != null)
+				? new TokenBucket(uploadRateLimit.toBytes(), clock, options.sleeper()) : null;
 		this.clock = clock;
 		this.timeout = timeout;
-		this.sleepBetweenRetries = sleepBetweenRetries;
+		this.pollingStrategy = options.pollingStrategy();
+		this.executor = Executors.newThreadPerTaskExecutor(options.threadFactory());
 		this.restClient = restClientBuilder.baseUrl(baseUri)
 			.defaultHeader("Accept", "application/json")
 			.defaultHeader("Authorization", createAuthorizationHeader(tokenName, token))
@@ -83,37 +131,161 @@ class CentralPortalApiImpl implements CentralPortalApi {
 		if (bundleSize.compareTo(MAX_BUNDLE_SIZE) > 0) {
 			throw new IllegalStateException("Maximum bundle size is 1 GiB, but the bundle is %s".formatted(bundleSize));
 		}
-		MultiValueMap<String, Object> body = createBody(bundle);
-		if (!StringUtils.hasLength(deploymentName)) {
-			deploymentName = generateDeploymentName();
-		}
-		ResponseEntity<String> response = this.restClient.post()
-			.uri("/api/v1/publisher/upload?name={name}&publishingType={publishingType}", deploymentName,
-					publishingType.toApi())
-			.contentType(MediaType.MULTIPART_FORM_DATA)
-			.body(body)
-			.retrieve()
-			.onStatus((status) -> true, (req, res) -> {
-			})
-			.toEntity(String.class);
+		UploadProgress progress = new UploadProgress(this.logger, bundleSize, PROGRESS_INTERVAL);
+		MultiValueMap<String, Object> body = createBody(bundle, progress, this.uploadRateLimit);
+		ResponseEntity<String> response = uploadWithRetry(bundle, publishingType, deploymentName,
+				(request) -> request.contentType(MediaType.MULTIPART_FORM_DATA).body(body));
 		if (!response.getStatusCode().is2xxSuccessful()) {
 			throw new IllegalStateException("Failed to upload bundle '%s', got HTTP %d and body %s"
 				.formatted(bundle.getFile(), response.getStatusCode().value(), response.getBody()));
 		}
+		progress.finish();
+		return createDeployment(response, publishingType, bundleSize, bundle.getStatistics().entries());
+	}
+
+	@Override
+	public Deployment upload(BundleWriter bundleWriter, PublishingType publishingType,
+			@Nullable String deploymentName) {
+		String boundary = MimeTypeUtils.generateMultipartBoundaryString();
+		MediaType contentType = new MediaType(MediaType.MULTIPART_FORM_DATA, Map.of("boundary", boundary));
+		AtomicBoolean maxBundleSizeExceeded = new AtomicBoolean();
+		AtomicReference<BundleStatistics> statistics = new AtomicReference<>(BundleStatistics.NONE);
+		ResponseEntity<String> response;
+		UploadProgress progress = new UploadProgress(this.logger, null, PROGRESS_INTERVAL);
+		try {
+			response = upload(publishingType, deploymentName,
+					(request) -> request.contentType(contentType)
+						.body((outputStream) -> statistics.set(writeMultipartBody(
+								new MeteringOutputStream(outputStream, progress, this.uploadRateLimit), boundary,
+								bundleWriter, maxBundleSizeExceeded, this.uploadBufferSize))));
+		}
+		catch (RuntimeException ex) {
+			if (maxBundleSizeExceeded.get()) {
+				throw new IllegalStateException("Maximum bundle size is 1 GiB, aborted upload of larger bundle", ex);
+			}
+			throw ex;
+		}
+		if (!response.getStatusCode().is2xxSuccessful()) {
+			throw new IllegalStateException("Failed to upload bundle, got HTTP %d and body %s"
+				.formatted(response.getStatusCode().value(), response.getBody()));
+		}
+		progress.finish();
+		return createDeployment(response, publishingType, statistics.get().size(), statistics.get().entries());
+	}
+
+	@Override
+	public CompletableFuture<Deployment> uploadAsync(Bundle bundle, PublishingType publishingType,
+			@Nullable String deploymentName) {
+		return CompletableFuture.supplyAsync(() -> upload(bundle, publishingType, deploymentName), this.executor);
+	}
+
+	@Override
+	public CompletableFuture<Deployment> uploadAsync(BundleWriter bundleWriter, PublishingType publishingType,
+			@Nullable String deploymentName) {
+		return CompletableFuture.supplyAsync(() -> upload(bundleWriter, publishingType, deploymentName), this.executor);
+	}
+
+	private ResponseEntity<String> uploadWithRetry(Bundle bundle, PublishingType publishingType,
+			@Nullable String deploymentName, Function<RestClient.RequestBodySpec, RestClient.RequestBodySpec> body) {
+		// Generate the name once, so that every attempt uses the same name
+		String name = StringUtils.hasLength(deploymentName) ? deploymentName : generateDeploymentName();
+		PollingStrategy.Schedule backoff = PollingStrategy.adaptive(this.uploadRetry.backoff()).start();
+		int maxAttempts = this.uploadRetry.maxAttempts();
+		for (int attempt = 1;; attempt++) {
+			String failure;
+			try {
+				ResponseEntity<String> response = upload(publishingType, name, body);
+				if (!isRetryable(response.getStatusCode()) || attempt == maxAttempts) {
+					return response;
+				}
+				failure = "HTTP %d".formatted(response.getStatusCode().value());
+			}
+			catch (ResourceAccessException ex) {
+				if (!isConnectFailure(ex)) {
+					// The Central Portal may have received the bundle, and it can't be
+					// looked up by name to check whether it did
+					throw new IllegalStateException(
+							"Upload of bundle '%s' failed after the request may have reached the Central Portal. A retry could create a second deployment, check whether a deployment named '%s' exists and drop it"
+								.formatted(bundle.getFile(), name),
+							ex);
+				}
+				if (attempt == maxAttempts) {
+					throw ex;
+				}
+				failure = ex.getMessage();
+			}
+			Duration delay = backoff.next(null);
+			this.logger.log("Upload of bundle '{}' failed ({}), retrying in {} ms (attempt {} of {})", bundle.getFile(),
+					failure, delay.toMillis(), attempt + 1, maxAttempts);
+			Concurrency.sleep(delay);
+		}
+	}
+
+	private static boolean isRetryable(HttpStatusCode status) {
+		// Gateway errors are returned before the Central Portal hands out a deployment id
+		return status.isSameCodeAs(HttpStatus.BAD_GATEWAY) || status.isSameCodeAs(HttpStatus.SERVICE_UNAVAILABLE)
+				|| status.isSameCodeAs(HttpStatus.GATEWAY_TIMEOUT);
+	}
+
+	private static boolean isConnectFailure(Throwable ex) {
+		for (Throwable candidate = ex; candidate != null; candidate = candidate.getCause()) {
+			if (candidate instanceof ConnectException || candidate instanceof HttpConnectTimeoutException
+					|| candidate instanceof UnknownHostException || candidate instanceof NoRouteToHostException) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private ResponseEntity<String> upload(PublishingType publishingType, @Nullable String deploymentName,
+			Function<RestClient.RequestBodySpec, RestClient.RequestBodySpec> body) {
+		if (!StringUtils.hasLength(deploymentName)) {
+			deploymentName = generateDeploymentName();
+		}
+		RestClient.RequestBodySpec request = this.restClient.post()
+			.uri("/api/v1/publisher/upload?name={name}&publishingType={publishingType}", deploymentName,
+					publishingType.toApi());
+		return body.apply(request).retrieve().onStatus((status) -> true, (req, res) -> {
+		}).toEntity(String.class);
+	}
+
+	private Deployment createDeployment(ResponseEntity<String> response, PublishingType publishingType,
+			DataSize bundleSize, int fileCount) {
 		String deploymentId = response.getBody();
 		return new DeploymentImpl(this.logger, this.restClient, deploymentId, publishingType, this.timeout,
-				this.sleepBetweenRetries);
+				this.pollingStrategy.start(bundleSize, fileCount), this.executor, this.clock);
+	}
+
+	private static BundleStatistics writeMultipartBody(OutputStream requestStream, String boundary,
+			BundleWriter bundleWriter, AtomicBoolean maxBundleSizeExceeded, int bufferSize) throws IOException {
+		// Hand larger chunks to the HTTP client, every write to the request stream is
+		// published as its own chunk
+		BufferedOutputStream outputStream = new BufferedOutputStream(StreamUtils.nonClosing(requestStream), bufferSize);
+		writeAscii(outputStream, "--" + boundary + "\r\n");
+		writeAscii(outputStream, "Content-Disposition: form-data; name=\"bundle\"; filename=\"bundle.zip\"\r\n");
+		writeAscii(outputStream, "Content-Type: application/octet-stream\r\n\r\n");
+		BundleStatistics statistics = bundleWriter.writeTo(new SizeLimitingOutputStream(
+				StreamUtils.nonClosing(outputStream), MAX_BUNDLE_SIZE.toBytes(), maxBundleSizeExceeded));
+		writeAscii(outputStream, "\r\n--" + boundary + "--\r\n");
+		outputStream.flush();
+		return statistics;
+	}
+
+	private static void writeAscii(OutputStream outputStream, String value) throws IOException {
+		outputStream.write(value.getBytes(StandardCharsets.US_ASCII));
 	}
 
 	private String generateDeploymentName() {
 		return "central-publish-action-" + this.clock.instant();
 	}
 
-	private static MultiValueMap<String, Object> createBody(Bundle bundle) {
+	private static MultiValueMap<String, Object> createBody(Bundle bundle, UploadProgress progress,
+			@Nullable TokenBucket rateLimit) {
 		MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
 		HttpHeaders headers = new HttpHeaders();
 		headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
-		body.add("bundle", new HttpEntity<>(new FileSystemResource(bundle.getFile()), headers));
+		body.add("bundle",
+				new HttpEntity<>(new MeteringFileSystemResource(bundle.getFile(), progress, rateLimit), headers));
 		return body;
 	}
 
@@ -123,6 +295,139 @@ class CentralPortalApiImpl implements CentralPortalApi {
 		return "Bearer " + base64;
 	}
 
+	private static void throttle(@Nullable TokenBucket rateLimit, long bytes) throws IOException {
+		if (rateLimit == null) {
+			return;
+		}
+		try {
+			rateLimit.acquire(bytes);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Got interrupted while waiting for the upload rate limit");
+		}
+	}
+
+	/**
+	 * {@link OutputStream} which reports the written bytes to an {@link UploadProgress}
+	 * and optionally limits the upload rate.
+	 */
+	private static final class MeteringOutputStream extends FilterOutputStream {
+
+		private final UploadProgress progress;
+
+		private final @Nullable TokenBucket rateLimit;
+
+		MeteringOutputStream(OutputStream delegate, UploadProgress progress, @Nullable TokenBucket rateLimit) {
+			super(delegate);
+			this.progress = progress;
+			this.rateLimit = rateLimit;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			throttle(this.rateLimit, 1);
+			this.out.write(b);
+			this.progress.sent(1);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			throttle(this.rateLimit, len);
+			this.out.write(b, off, len);
+			this.progress.sent(len);
+		}
+
+	}
+
+	/**
+	 * {@link FileSystemResource} which reports the read bytes to an
+	 * {@link UploadProgress} and optionally limits the upload rate. As the bytes are read
+	 * while they are sent, this meters and limits the upload. Every opened stream starts
+	 * a new measurement, as it belongs to a new upload attempt.
+	 */
+	private static final class MeteringFileSystemResource extends FileSystemResource {
+
+		private final UploadProgress progress;
+
+		private final @Nullable TokenBucket rateLimit;
+
+		MeteringFileSystemResource(Path file, UploadProgress progress, @Nullable TokenBucket rateLimit) {
+			super(file);
+			this.progress = progress;
+			this.rateLimit = rateLimit;
+		}
+
+		@Override
+		public InputStream getInputStream() throws IOException {
+			this.progress.start();
+			return new FilterInputStream(super.getInputStream()) {
+
+				@Override
+				public int read() throws IOException {
+					int result = super.read();
+					if (result != -1) {
+						throttle(MeteringFileSystemResource.this.rateLimit, 1);
+						MeteringFileSystemResource.this.progress.sent(1);
+					}
+					return result;
+				}
+
+				@Override
+				public int read(byte[] b, int off, int len) throws IOException {
+					int result = super.read(b, off, len);
+					if (result > 0) {
+						throttle(MeteringFileSystemResource.this.rateLimit, result);
+						MeteringFileSystemResource.this.progress.sent(result);
+					}
+					return result;
+				}
+
+			};
+		}
+
+	}
+
+	/**
+	 * {@link OutputStream} which fails as soon as more than the maximum number of bytes
+	 * have been written.
+	 */
+	private static final class SizeLimitingOutputStream extends FilterOutputStream {
+
+		private final long maxSize;
+
+		private final AtomicBoolean maxSizeExceeded;
+
+		private long size;
+
+		SizeLimitingOutputStream(OutputStream delegate, long maxSize, AtomicBoolean maxSizeExceeded) {
+			super(delegate);
+			this.maxSize = maxSize;
+			this.maxSizeExceeded = maxSizeExceeded;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			count(1);
+			this.out.write(b);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			count(len);
+			this.out.write(b, off, len);
+		}
+
+		private void count(int length) throws IOException {
+			this.size += length;
+			if (this.size > this.maxSize) {
+				this.maxSizeExceeded.set(true);
+				throw new IOException("Bundle exceeds the maximum size of %d bytes".formatted(this.maxSize));
+			}
+		}
+
+	}
+
 	private static class DeploymentImpl implements Deployment {
 
 		private final Logger logger;
@@ -133,20 +438,38 @@ class CentralPortalApiImpl implements CentralPortalApi {
 
 		private final PublishingType publishingType;
 
-		private final Duration sleepBetweenRetries;
+		private final PollingStrategy.Schedule schedule;
+
+		private final Executor executor;
 
 		private final Duration timeout;
 
-		private DeploymentStatusDto finalStatus;
+		private final Clock clock;
+
+		private final List<StatusTransition> statusTransitions = new CopyOnWriteArrayList<>();
+
+		private final AtomicInteger pollCount = new AtomicInteger();
+
+		private volatile @Nullable DeploymentStatusDto finalStatus;
+
+		private volatile @Nullable Status polledStatus;
+
+		private volatile boolean pollingFinished;
+
+		private volatile boolean publishRequested;
+
+		private volatile long pollStart;
 
 		DeploymentImpl(Logger logger, RestClient restClient, String deploymentId, PublishingType publishingType,
-				Duration timeout, Duration sleepBetweenRetries) {
+				Duration timeout, PollingStrategy.Schedule schedule, Executor executor, Clock clock) {
 			this.logger = logger;
 			this.restClient = restClient;
 			this.deploymentId = deploymentId;
 			this.publishingType = publishingType;
 			this.timeout = timeout;
-			this.sleepBetweenRetries = sleepBetweenRetries;
+			this.schedule = schedule;
+			this.executor = executor;
+			this.clock = clock;
 		}
 
 		@Override
@@ -171,32 +494,97 @@ class CentralPortalApiImpl implements CentralPortalApi {
 
 		@Override
 		public void awaitFinalStatus() {
-			long start = System.nanoTime();
-			while (true) {
-				checkTimeout(start);
-				DeploymentStatusDto deploymentStatus;
-				try {
-					deploymentStatus = fetchDeploymentStatus();
-				}
-				catch (DeploymentNotFoundException ex) {
-					// Sometimes Sonatype returns 404 for newly created deployments
-					this.logger.debug(ex.getMessage());
-					sleep();
-					continue;
-				}
-				catch (InternalServerErrorException ex) {
-					this.logger.log(ex.getMessage());
-					sleep();
-					continue;
+			Duration delay;
+			while ((delay = pollStatus()) != null) {
+				Concurrency.sleep(delay);
+			}
+		}
+
+		@Override
+		public CompletableFuture<Status> awaitFinalStatusAsync() {
+			CompletableFuture<Status> future = new CompletableFuture<>();
+			this.executor.execute(() -> pollAsync(future));
+			return future;
+		}
+
+		private void pollAsync(CompletableFuture<Status> future) {
+			if (future.isDone()) {
+				return;
+			}
+			try {
+				Duration delay = pollStatus();
+				if (delay == null) {
+					future.complete(getStatus());
 				}
-				Status status = Status.fromApi(deploymentStatus.deploymentState());
-				this.logger.debug("\tStatus: {}", status);
-				if (status.isFinal(this.publishingType)) {
-					this.finalStatus = deploymentStatus;
-					return;
+				else {
+					CompletableFuture.delayedExecutor(delay.toMillis(), TimeUnit.MILLISECONDS, this.executor)
+						.execute(() -> pollAsync(future));
 				}
-				sleep();
 			}
+			catch (RuntimeException ex) {
+				future.completeExceptionally(ex);
+			}
+		}
+
+		@Override
+		public @Nullable Duration pollStatus() {
+			if (this.pollingFinished) {
+				return null;
+			}
+			if (this.pollStart == 0) {
+				this.pollStart = System.nanoTime();
+			}
+			checkTimeout(this.pollStart);
+			DeploymentStatusDto deploymentStatus;
+			this.pollCount.incrementAndGet();
+			try {
+				deploymentStatus = fetchDeploymentStatus();
+			}
+			catch (DeploymentNotFoundException ex) {
+				// Sometimes Sonatype returns 404 for newly created deployments
+				this.logger.debug(ex.getMessage());
+				return this.schedule.next(null);
+			}
+			catch (InternalServerErrorException ex) {
+				this.logger.log(ex.getMessage());
+				return this.schedule.next(null);
+			}
+			Status status = Status.fromApi(deploymentStatus.deploymentState());
+			this.logger.debug("\tStatus of deployment '{}': {}", this.deploymentId, status);
+			if (status != this.polledStatus) {
+				this.statusTransitions.add(new StatusTransition(status, this.clock.instant()));
+			}
+			this.polledStatus = status;
+			// Once publishing has been requested, a validated deployment is no longer
+			// final
+			PublishingType publishingType = (this.publishRequested) ? PublishingType.AUTOMATIC : this.publishingType;
+			if (status.isFinal(publishingType)) {
+				this.finalStatus = deploymentStatus;
+				this.pollingFinished = true;
+				this.schedule.finished(status);
+				return null;
+			}
+			return this.schedule.next(status);
+		}
+
+		@Override
+		public @Nullable Status getPolledStatus() {
+			return this.polledStatus;
+		}
+
+		@Override
+		public List<StatusTransition> getStatusTransitions() {
+			return List.copyOf(this.statusTransitions);
+		}
+
+		@Override
+		public int getPollCount() {
+			return this.pollCount.get();
+		}
+
+		private void restartPolling() {
+			this.pollingFinished = false;
+			this.pollStart = 0;
 		}
 
 		private void checkTimeout(long start) {
@@ -234,6 +622,8 @@ class CentralPortalApiImpl implements CentralPortalApi {
 				.uri("/api/v1/publisher/deployment/{deploymentId}", this.deploymentId)
 				.retrieve()
 				.toBodilessEntity();
+			this.publishRequested = true;
+			restartPolling();
 		}
 
 		private DeploymentStatusDto fetchDeploymentStatus() {
@@ -255,15 +645,6 @@ class CentralPortalApiImpl implements CentralPortalApi {
 			return status.isSameCodeAs(HttpStatus.NOT_FOUND);
 		}
 
-		private void sleep() {
-			try {
-				Thread.sleep(this.sleepBetweenRetries.toMillis());
-			}
-			catch (InterruptedException ex) {
-				throw new IllegalStateException("Got interrupted while sleeping", ex);
-			}
-		}
-
 		private record DeploymentStatusDto(String deploymentState, Map<Object, Object> errors) {
 		}
 
@@ -16,6 +16,13 @@
 
 package io.spring.maven.central.sonatype;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.jspecify.annotations.Nullable;
+
 /**
  * A deployment.
  *
@@ -44,10 +51,64 @@ public interface Deployment {
 	Errors getErrors();
 
 	/**
-	 * Awaits the final status of the deployment.
+	 * Awaits the final status of the deployment. Returns immediately if the final status
+	 * has already been reached.
 	 */
 	void awaitFinalStatus();
 
+	/**
+	 * Awaits the final status of the deployment without blocking the calling thread. The
+	 * polls are scheduled on a shared scheduler, no thread is blocked while waiting
+	 * between polls. Cancelling the returned future stops polling. The status isn't
+	 * polled again if the final status has already been reached.
+	 * <p>
+	 * The default implementation calls {@link #awaitFinalStatus()} on a new virtual
+	 * thread. Cancelling the returned future doesn't stop that thread.
+	 * @return a future which completes with the final status
+	 */
+	default CompletableFuture<Status> awaitFinalStatusAsync() {
+		return CompletableFuture.supplyAsync(() -> {
+			awaitFinalStatus();
+			return getStatus();
+		}, Thread::startVirtualThread);
+	}
+
+	/**
+	 * Polls the status of the deployment once, without waiting. Can be used to await the
+	 * final status of multiple deployments from a single thread. Will throw an exception
+	 * if the timeout has been reached.
+	 * @return {@code null} if the final status has been reached, otherwise the duration
+	 * to wait before polling again
+	 */
+	@Nullable Duration pollStatus();
+
+	/**
+	 * Returns the most recently polled status, which doesn't have to be final.
+	 * @return the most recently polled status, or {@code null} if the status hasn't been
+	 * polled yet or if the deployment doesn't track it
+	 */
+	default @Nullable Status getPolledStatus() {
+		return null;
+	}
+
+	/**
+	 * Returns the changes of the polled status, in the order they have been observed.
+	 * @return the changes of the polled status, empty if the deployment doesn't track
+	 * them
+	 */
+	default List<StatusTransition> getStatusTransitions() {
+		return List.of();
+	}
+
+	/**
+	 * Returns how often the status has been polled.
+	 * @return how often the status has been polled, or 0 if the deployment doesn't track
+	 * it
+	 */
+	default int getPollCount() {
+		return 0;
+	}
+
 	/**
 	 * Drops the deployment. Will throw an exception if called before
 	 * {@link #awaitFinalStatus()} has been called.
@@ -56,10 +117,21 @@ public interface Deployment {
 
 	/**
 	 * Publishes the deployment. Will throw an exception if called before
-	 * {@link #awaitFinalStatus()} has been called.
+	 * {@link #awaitFinalStatus()} has been called. Afterwards,
+	 * {@link #awaitFinalStatus()} waits until the deployment has been published.
 	 */
 	void publish();
 
+	/**
+	 * A change of the polled status.
+	 *
+	 * @param status the new status
+	 * @param timestamp when the new status has been observed
+	 */
+	record StatusTransition(Status status, Instant timestamp) {
+
+	}
+
 	/**
 	 * Deployment status.
 	 */
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.sonatype;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import io.spring.maven.central.log.Logger;
+
+import org.springframework.util.unit.DataSize;
+
+/**
+ * History of how long the phases of past deployments took.
+ *
+ * @author Moritz Halbritter
+ */
+public interface DeploymentHistory {
+
+	/**
+	 * Returns the expected duration of every phase for a deployment of the given size.
+	 * @param bundleSize the size of the bundle
+	 * @param fileCount the number of files in the bundle
+	 * @return the expected duration of every phase, keyed by the status of the phase.
+	 * Phases without history are missing.
+	 */
+	Map<Deployment.Status, Duration> getExpectedDurations(DataSize bundleSize, int fileCount);
+
+	/**
+	 * Records how long the phases of a deployment took.
+	 * @param bundleSize the size of the bundle
+	 * @param fileCount the number of files in the bundle
+	 * @param durations the duration of every phase, keyed by the status of the phase
+	 */
+	void record(DataSize bundleSize, int fileCount, Map<Deployment.Status, Duration> durations);
+
+	/**
+	 * Creates a history which is stored in the given file.
+	 * @param logger the logger
+	 * @param file the file
+	 * @return the deployment history
+	 */
+	static DeploymentHistory file(Logger logger, Path file) {
+		return new FileDeploymentHistory(logger, file);
+	}
+
+}
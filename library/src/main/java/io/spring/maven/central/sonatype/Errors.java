@@ -91,7 +91,11 @@ public class Errors {
 		return builder.toString();
 	}
 
-	static Errors empty() {
+	/**
+	 * Returns an instance without errors.
+	 * @return the empty errors
+	 */
+	public static Errors empty() {
 		return new Errors(Collections.emptyMap());
 	}
 
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.sonatype;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import io.spring.maven.central.log.Logger;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.unit.DataSize;
+
+/**
+ * {@link DeploymentHistory} which is stored in a file. Every line holds the duration of
+ * one phase. Deployments are considered similar if their bundle size and file count are
+ * in the same power of two. The history is an optimization only, so problems with reading
+ * or writing the file are logged and otherwise ignored.
+ *
+ * @author Moritz Halbritter
+ */
+class FileDeploymentHistory implements DeploymentHistory {
+
+	private static final int MAX_RECORDS = 1000;
+
+	private static final int SAMPLES = 10;
+
+	private final Logger logger;
+
+	private final Path file;
+
+	FileDeploymentHistory(Logger logger, Path file) {
+		this.logger = logger;
+		this.file = file;
+	}
+
+	@Override
+	public synchronized Map<Deployment.Status, Duration> getExpectedDurations(DataSize bundleSize, int fileCount) {
+		Map<Deployment.Status, List<Long>> samples = new EnumMap<>(Deployment.Status.class);
+		List<PhaseRecord> records = read();
+		for (int i = records.size() - 1; i >= 0; i--) {
+			PhaseRecord record = records.get(i);
+			if (record.isSimilar(bundleSize.toBytes(), fileCount)) {
+				List<Long> durations = samples.computeIfAbsent(record.status(), (status) -> new ArrayList<>());
+				if (durations.size() < SAMPLES) {
+					durations.add(record.durationMillis());
+				}
+			}
+		}
+		Map<Deployment.Status, Duration> expectedDurations = new EnumMap<>(Deployment.Status.class);
+		samples.forEach((status, durations) -> expectedDurations.put(status, Duration.ofMillis(median(durations))));
+		return expectedDurations;
+	}
+
+	@Override
+	public synchronized void record(DataSize bundleSize, int fileCount, Map<Deployment.Status, Duration> durations) {
+		List<PhaseRecord> records = new ArrayList<>(read());
+		durations.forEach((status, duration) -> records
+			.add(new PhaseRecord(bundleSize.toBytes(), fileCount, status, duration.toMillis())));
+		List<String> lines = new ArrayList<>();
+		for (PhaseRecord record : records.subList(Math.max(0, records.size() - MAX_RECORDS), records.size())) {
+			lines.add(record.toLine());
+		}
+		try {
+			Path parent = this.file.toAbsolutePath().getParent();
+			Files.createDirectories(parent);
+			Path tempFile = Files.createTempFile(parent, "deployment-history", ".tmp");
+			Files.write(tempFile, lines, StandardCharsets.UTF_8);
+			Files.move(tempFile, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (IOException ex) {
+			this.logger.log("Failed to write deployment history to '{}': {}", this.file, ex.getMessage());
+		}
+	}
+
+	private List<PhaseRecord> read() {
+		if (!Files.exists(this.file)) {
+			return List.of();
+		}
+		List<String> lines;
+		try {
+			lines = Files.readAllLines(this.file, StandardCharsets.UTF_8);
+		}
+		catch (IOException ex) {
+			this.logger.log("Failed to read deployment history from '{}': {}", this.file, ex.getMessage());
+			return List.of();
+		}
+		List<PhaseRecord> records = new ArrayList<>();
+		for (String line : lines) {
+			PhaseRecord record = PhaseRecord.parse(line);
+			if (record != null) {
+				records.add(record);
+			}
+		}
+		return records;
+	}
+
+	private static long median(List<Long> values) {
+		List<Long> sorted = values.stream().sorted().toList();
+		return sorted.get(sorted.size() / 2);
+	}
+
+	private record PhaseRecord(long bundleSize, int fileCount, Deployment.Status status, long durationMillis) {
+
+		boolean isSimilar(long bundleSize, int fileCount) {
+			return bucket(this.bundleSize) == bucket(bundleSize) && bucket(this.fileCount) == bucket(fileCount);
+		}
+
+		String toLine() {
+			return "%d,%d,%s,%d".formatted(this.bundleSize, this.fileCount, this.status, this.durationMillis);
+		}
+
+		private static int bucket(long value) {
+			return 64 - Long.numberOfLeadingZeros(value);
+		}
+
+		static @Nullable PhaseRecord parse(String line) {
+			String[] parts = line.split(",");
+			if (parts.length != 4) {
+				return null;
+			}
+			try {
+				return new PhaseRecord(Long.parseLong(parts[0]), Integer.parseInt(parts[1]),
+						Deployment.Status.valueOf(parts[2]), Long.parseLong(parts[3]));
+			}
+			catch (IllegalArgumentException ex) {
+				return null;
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.sonatype;
+
+import java.time.Duration;
+
+/**
+ * {@link PollingStrategy} which always waits for the same interval.
+ *
+ * @author Moritz Halbritter
+ */
+class FixedPollingStrategy implements PollingStrategy {
+
+	private final Duration interval;
+
+	FixedPollingStrategy(Duration interval) {
+		this.interval = interval;
+	}
+
+	@Override
+	public Schedule start() {
+		return (status) -> this.interval;
+	}
+
+}
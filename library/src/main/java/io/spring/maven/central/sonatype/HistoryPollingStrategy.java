@@ -0,0 +1,152 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.sonatype;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.unit.DataSize;
+
+/**
+ * {@link PollingStrategy} which uses the {@link DeploymentHistory} of similar deployments
+ * to poll near the time the status is expected to change. Falls back to another strategy
+ * if there's no history for the current phase or if the phase takes longer than expected.
+ * The delay never exceeds the delay of the fallback strategy, so that a phase which
+ * finishes faster than expected isn't detected later than without a history.
+ * <p>
+ * The status is only observed when polling, so a status change happened at some point
+ * between the poll which last saw the old status and the poll which first saw the new
+ * one. The midpoint between these polls is used as the time of the transition. Using the
+ * time of the first observation instead would bias the recorded durations downward,
+ * because the polls before a transition are usually further apart than the polls before
+ * the end of the phase, which are scheduled near the expected transition.
+ *
+ * @author Moritz Halbritter
+ */
+class HistoryPollingStrategy implements PollingStrategy {
+
+	private static final Duration MIN_DELAY = Duration.ofMillis(100);
+
+	private final DeploymentHistory history;
+
+	private final PollingStrategy fallback;
+
+	private final Clock clock;
+
+	HistoryPollingStrategy(DeploymentHistory history, PollingStrategy fallback) {
+		this(history, fallback, Clock.systemUTC());
+	}
+
+	HistoryPollingStrategy(DeploymentHistory history, PollingStrategy fallback, Clock clock) {
+		this.history = history;
+		this.fallback = fallback;
+		this.clock = clock;
+	}
+
+	@Override
+	public Schedule start() {
+		return this.fallback.start();
+	}
+
+	@Override
+	public Schedule start(DataSize bundleSize, int fileCount) {
+		return new HistorySchedule(bundleSize, fileCount, this.history.getExpectedDurations(bundleSize, fileCount),
+				this.fallback.start(bundleSize, fileCount));
+	}
+
+	private final class HistorySchedule implements Schedule {
+
+		private final DataSize bundleSize;
+
+		private final int fileCount;
+
+		private final Map<Deployment.Status, Duration> expectedDurations;
+
+		private final Schedule fallback;
+
+		private final Map<Deployment.Status, Duration> durations = new EnumMap<>(Deployment.Status.class);
+
+		private Deployment.@Nullable Status status;
+
+		private @Nullable Instant phaseStart;
+
+		private @Nullable Instant lastPoll;
+
+		HistorySchedule(DataSize bundleSize, int fileCount, Map<Deployment.Status, Duration> expectedDurations,
+				Schedule fallback) {
+			this.bundleSize = bundleSize;
+			this.fileCount = fileCount;
+			this.expectedDurations = expectedDurations;
+			this.fallback = fallback;
+		}
+
+		@Override
+		public Duration next(Deployment.@Nullable Status status) {
+			Instant now = HistoryPollingStrategy.this.clock.instant();
+			if (status != null && status != this.status) {
+				Instant transition = estimateTransition(now);
+				endPhase(transition);
+				this.status = status;
+				this.phaseStart = transition;
+			}
+			this.lastPoll = now;
+			Duration fallbackDelay = this.fallback.next(status);
+			Duration expected = (this.status != null) ? this.expectedDurations.get(this.status) : null;
+			if (expected != null && this.phaseStart != null) {
+				Duration remaining = expected.minus(Duration.between(this.phaseStart, now));
+				if (remaining.compareTo(MIN_DELAY) >= 0 && remaining.compareTo(fallbackDelay) < 0) {
+					return remaining;
+				}
+			}
+			return fallbackDelay;
+		}
+
+		@Override
+		public void finished(Deployment.Status status) {
+			endPhase(estimateTransition(HistoryPollingStrategy.this.clock.instant()));
+			this.fallback.finished(status);
+			if (status != Deployment.Status.FAILED && !this.durations.isEmpty()) {
+				HistoryPollingStrategy.this.history.record(this.bundleSize, this.fileCount, this.durations);
+			}
+			// A validated deployment may be published afterwards, which starts new phases
+			this.durations.clear();
+			this.status = null;
+			this.phaseStart = null;
+			this.lastPoll = null;
+		}
+
+		private Instant estimateTransition(Instant now) {
+			if (this.lastPoll == null) {
+				return now;
+			}
+			return this.lastPoll.plus(Duration.between(this.lastPoll, now).dividedBy(2));
+		}
+
+		private void endPhase(Instant end) {
+			if (this.status != null && this.phaseStart != null) {
+				this.durations.put(this.status, Duration.between(this.phaseStart, end));
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.sonatype;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Strategy which determines how long to wait between polling the status of a deployment.
+ *
+ * @author Moritz Halbritter
+ */
+public interface PollingStrategy {
+
+	/**
+	 * Starts a new schedule. Called once for every deployment.
+	 * @return the schedule
+	 */
+	Schedule start();
+
+	/**
+	 * Starts a new schedule for a deployment of the given size. Called once for every
+	 * deployment.
+	 * @param bundleSize the size of the bundle
+	 * @param fileCount the number of files in the bundle
+	 * @return the schedule
+	 */
+	default Schedule start(DataSize bundleSize, int fileCount) {
+		return start();
+	}
+
+	/**
+	 * Creates a strategy which always waits for the given interval.
+	 * @param interval the interval
+	 * @return the polling strategy
+	 */
+	static PollingStrategy fixed(Duration interval) {
+		return new FixedPollingStrategy(interval);
+	}
+
+	/**
+	 * Creates a strategy which polls fast at first and then backs off exponentially.
+	 * @param backoff the backoff to use for every status
+	 * @return the polling strategy
+	 */
+	static PollingStrategy adaptive(Backoff backoff) {
+		return adaptive(backoff, Map.of());
+	}
+
+	/**
+	 * Creates a strategy which polls fast at first and then backs off exponentially. The
+	 * backoff starts over whenever the status of the deployment changes.
+	 * @param backoff the backoff to use for statuses which don't have a specific backoff
+	 * @param statusBackoffs the backoffs for specific statuses
+	 * @return the polling strategy
+	 */
+	static PollingStrategy adaptive(Backoff backoff, Map<Deployment.Status, Backoff> statusBackoffs) {
+		return new AdaptivePollingStrategy(backoff, statusBackoffs);
+	}
+
+	/**
+	 * Creates a strategy which uses the history of similar deployments to poll near the
+	 * time the status is expected to change. The durations of successful deployments are
+	 * recorded in the history.
+	 * @param history the deployment history
+	 * @param fallback the strategy to use if there's no history for a phase or if the
+	 * phase takes longer than expected
+	 * @return the polling strategy
+	 */
+	static PollingStrategy history(DeploymentHistory history, PollingStrategy fallback) {
+		return new HistoryPollingStrategy(history, fallback);
+	}
+
+	/**
+	 * The polling schedule of a single deployment.
+	 */
+	interface Schedule {
+
+		/**
+		 * Returns the duration to wait before polling again.
+		 * @param status the last observed status, or {@code null} if the status couldn't
+		 * be determined
+		 * @return the duration to wait before polling again
+		 */
+		Duration next(Deployment.@Nullable Status status);
+
+		/**
+		 * Called once the deployment has reached its final status.
+		 * @param status the final status
+		 */
+		default void finished(Deployment.Status status) {
+		}
+
+	}
+
+	/**
+	 * Exponential backoff settings.
+	 *
+	 * @param initialInterval the interval to wait after the first poll
+	 * @param maxInterval the maximum interval
+	 * @param multiplier the multiplier which is applied to the interval after every poll
+	 * @param jitter the maximum random deviation from the interval, as a fraction of the
+	 * interval
+	 */
+	record Backoff(Duration initialInterval, Duration maxInterval, double multiplier, double jitter) {
+
+		public Backoff {
+			Assert.isTrue(!initialInterval.isNegative(), "'initialInterval' must not be negative");
+			Assert.isTrue(maxInterval.compareTo(initialInterval) >= 0,
+					"'maxInterval' must be greater than or equal to 'initialInterval'");
+			Assert.isTrue(multiplier >= 1, "'multiplier' must be greater than or equal to 1");
+			Assert.isTrue(jitter >= 0 && jitter <= 1, "'jitter' must be between 0 and 1");
+		}
+
+	}
+
+}
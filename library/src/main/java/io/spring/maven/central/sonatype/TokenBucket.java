@@ -0,0 +1,115 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.sonatype;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import io.spring.maven.central.sonatype.CentralPortalApi.Sleeper;
+
+import org.springframework.util.Assert;
+
+/**
+ * Token bucket which limits the number of bytes per second. The bucket starts full, so
+ * that up to its capacity can be sent at once before the limit kicks in.
+ * <p>
+ * Callers reserve their bytes while holding the lock, which may leave the bucket in debt,
+ * and then sleep without holding it. Concurrent callers therefore queue up behind each
+ * other's reservations instead of behind each other's sleeps.
+ *
+ * @author Moritz Halbritter
+ */
+class TokenBucket {
+
+	private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+	private final long bytesPerSecond;
+
+	private final long capacity;
+
+	private final LongSupplier nanoTime;
+
+	private final Sleeper sleeper;
+
+	private double tokens;
+
+	private long lastRefill;
+
+	/**
+	 * Creates a new instance whose capacity is one second's worth of bytes.
+	 * @param bytesPerSecond the maximum number of bytes per second
+	 * @param clock the clock to measure the refill with
+	 * @param sleeper the sleeper which waits for tokens
+	 */
+	TokenBucket(long bytesPerSecond, Clock clock, Sleeper sleeper) {
+		this(bytesPerSecond, bytesPerSecond, () -> toNanos(clock.instant()), sleeper);
+	}
+
+	TokenBucket(long bytesPerSecond, long capacity, LongSupplier nanoTime, Sleeper sleeper) {
+		Assert.isTrue(bytesPerSecond > 0, "'bytesPerSecond' must be greater than 0");
+		Assert.isTrue(capacity > 0, "'capacity' must be greater than 0");
+		this.bytesPerSecond = bytesPerSecond;
+		this.capacity = capacity;
+		this.nanoTime = nanoTime;
+		this.sleeper = sleeper;
+		this.tokens = capacity;
+		this.lastRefill = nanoTime.getAsLong();
+	}
+
+	/**
+	 * Takes the given number of bytes from the bucket, waiting until enough bytes are
+	 * available.
+	 * @param count the number of bytes
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	void acquire(long count) throws InterruptedException {
+		long remaining = count;
+		while (remaining > 0) {
+			// Larger requests than the capacity are served in parts, as they would never
+			// fit into the bucket
+			long part = Math.min(remaining, this.capacity);
+			long waitNanos = reserve(part);
+			if (waitNanos > 0) {
+				this.sleeper.sleep(Duration.ofNanos(waitNanos));
+			}
+			remaining -= part;
+		}
+	}
+
+	private synchronized long reserve(long part) {
+		refill();
+		this.tokens -= part;
+		return (this.tokens < 0) ? (long) Math.ceil(-this.tokens * NANOS_PER_SECOND / this.bytesPerSecond) : 0;
+	}
+
+	private void refill() {
+		long now = this.nanoTime.getAsLong();
+		// Wall clocks may go backwards, which must not take tokens away
+		long elapsed = Math.max(now - this.lastRefill, 0);
+		double added = (double) elapsed * this.bytesPerSecond / NANOS_PER_SECOND;
+		this.tokens = Math.min(this.capacity, this.tokens + added);
+		this.lastRefill = Math.max(now, this.lastRefill);
+	}
+
+	private static long toNanos(Instant instant) {
+		return instant.getEpochSecond() * NANOS_PER_SECOND + instant.getNano();
+	}
+
+}
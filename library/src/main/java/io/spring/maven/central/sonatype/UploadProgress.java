@@ -0,0 +1,117 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.sonatype;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.function.LongSupplier;
+
+import io.spring.maven.central.log.Logger;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Meters the bytes sent by an upload and periodically reports the progress, the
+ * throughput and, if the total size is known, the estimated time until the upload is
+ * finished.
+ *
+ * @author Moritz Halbritter
+ */
+class UploadProgress {
+
+	private static final double BYTES_PER_MEGABYTE = 1024 * 1024;
+
+	private final Logger logger;
+
+	private final @Nullable DataSize total;
+
+	private final Duration interval;
+
+	private final LongSupplier nanoTime;
+
+	private long bytes;
+
+	private long start;
+
+	private long lastReport;
+
+	UploadProgress(Logger logger, @Nullable DataSize total, Duration interval) {
+		this(logger, total, interval, System::nanoTime);
+	}
+
+	UploadProgress(Logger logger, @Nullable DataSize total, Duration interval, LongSupplier nanoTime) {
+		this.logger = logger;
+		this.total = total;
+		this.interval = interval;
+		this.nanoTime = nanoTime;
+		start();
+	}
+
+	/**
+	 * Starts a new measurement, for example when an upload is retried.
+	 */
+	synchronized void start() {
+		this.bytes = 0;
+		this.start = this.nanoTime.getAsLong();
+		this.lastReport = this.start;
+	}
+
+	/**
+	 * Records that the given number of bytes have been sent and reports the progress if
+	 * the last report is longer ago than the interval.
+	 * @param count the number of bytes
+	 */
+	synchronized void sent(long count) {
+		this.bytes += count;
+		long now = this.nanoTime.getAsLong();
+		if (now - this.lastReport < this.interval.toNanos()) {
+			return;
+		}
+		this.lastReport = now;
+		double megabytesPerSecond = megabytesPerSecond(now);
+		if (this.total == null) {
+			this.logger.log("Uploaded {} ({} MB/s) ...", DataSize.ofBytes(this.bytes), format(megabytesPerSecond));
+			return;
+		}
+		long remaining = Math.max(this.total.toBytes() - this.bytes, 0);
+		double bytesPerSecond = megabytesPerSecond * BYTES_PER_MEGABYTE;
+		String eta = (bytesPerSecond > 0) ? Math.round(remaining / bytesPerSecond) + "s" : "unknown";
+		this.logger.log("Uploaded {} of {}, {}% ({} MB/s, ETA {}) ...", DataSize.ofBytes(this.bytes), this.total,
+				this.bytes * 100 / Math.max(this.total.toBytes(), 1), format(megabytesPerSecond), eta);
+	}
+
+	/**
+	 * Reports the size, the duration and the throughput of the finished upload, also to
+	 * the summary.
+	 */
+	synchronized void finish() {
+		long now = this.nanoTime.getAsLong();
+		this.logger.summary("Uploaded {} in {} ms ({} MB/s)", DataSize.ofBytes(this.bytes),
+				Duration.ofNanos(now - this.start).toMillis(), format(megabytesPerSecond(now)));
+	}
+
+	private double megabytesPerSecond(long now) {
+		double seconds = Math.max(now - this.start, 1) / 1_000_000_000.0;
+		return this.bytes / BYTES_PER_MEGABYTE / seconds;
+	}
+
+	private static String format(double value) {
+		return String.format(Locale.ROOT, "%.2f", value);
+	}
+
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.sonatype;
+
+import java.time.Duration;
+
+import io.spring.maven.central.sonatype.PollingStrategy.Backoff;
+
+import org.springframework.util.Assert;
+
+/**
+ * Determines how often an upload of a bundle file is attempted. Uploads are only retried
+ * if they can't have created a deployment: if the connection can't be established or if
+ * the Central Portal answers with {@code 502}, {@code 503} or {@code 504}. Other
+ * failures, like a connection which is reset during the upload, aren't retried, as the
+ * Central Portal may have received the bundle. Bundles which are streamed into the upload
+ * request are never retried, as they would have to be created again.
+ *
+ * @param maxAttempts the maximum number of attempts, including the first one
+ * @param backoff the backoff between two attempts
+ * @author Moritz Halbritter
+ */
+public record UploadRetry(int maxAttempts, Backoff backoff) {
+
+	public UploadRetry {
+		Assert.isTrue(maxAttempts > 0, "'maxAttempts' must be greater than 0");
+	}
+
+	/**
+	 * Returns an {@link UploadRetry} which attempts every upload only once.
+	 * @return the {@link UploadRetry}
+	 */
+	public static UploadRetry none() {
+		return new UploadRetry(1, new Backoff(Duration.ZERO, Duration.ZERO, 1, 0));
+	}
+
+}
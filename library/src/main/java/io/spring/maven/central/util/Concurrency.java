@@ -0,0 +1,108 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.util;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Helpers for sleeping, for bounding concurrent tasks and for rethrowing their failures.
+ *
+ * @author Moritz Halbritter
+ */
+public final class Concurrency {
+
+	private Concurrency() {
+	}
+
+	/**
+	 * Sleeps for the given duration.
+	 * @param duration the duration
+	 * @throws IllegalStateException if interrupted while sleeping
+	 */
+	public static void sleep(Duration duration) {
+		try {
+			Thread.sleep(duration.toMillis());
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Got interrupted while sleeping", ex);
+		}
+	}
+
+	/**
+	 * Calls the given task once one of the permits of the given semaphore is available
+	 * and releases the permit afterwards. Bounds the number of tasks of a
+	 * {@link java.util.concurrent.Executors#newThreadPerTaskExecutor thread-per-task
+	 * executor} which run at the same time.
+	 * @param <T> the type of the result
+	 * @param permits the semaphore which holds the permits
+	 * @param task the task
+	 * @return the result of the task
+	 * @throws Exception if the task fails or the thread is interrupted while waiting for
+	 * a permit
+	 */
+	public static <T> T callWithPermit(Semaphore permits, Callable<T> task) throws Exception {
+		permits.acquire();
+		try {
+			return task.call();
+		}
+		finally {
+			permits.release();
+		}
+	}
+
+	/**
+	 * Returns the failure of a concurrent task as a {@link RuntimeException}, so that
+	 * callers can {@code throw rethrow(ex.getCause(), ...)}. Errors are thrown directly,
+	 * checked exceptions are wrapped in an {@link IllegalStateException}.
+	 * @param ex the failure of the task
+	 * @param message the message used when wrapping a checked exception
+	 * @return the exception to throw
+	 */
+	public static RuntimeException rethrow(Throwable ex, String message) {
+		return rethrow(ex, RuntimeException.class, message);
+	}
+
+	/**
+	 * Returns the failure of a concurrent task as a {@link RuntimeException}, so that
+	 * callers can {@code throw rethrow(ex.getCause(), ...)}. Errors and exceptions of the
+	 * given checked type are thrown directly, other checked exceptions are wrapped in an
+	 * {@link IllegalStateException}.
+	 * @param <E> the type of the checked exception
+	 * @param ex the failure of the task
+	 * @param exceptionType the type of the checked exception which is thrown directly
+	 * @param message the message used when wrapping other checked exceptions
+	 * @return the exception to throw
+	 * @throws E if the failure is of the given checked type
+	 */
+	public static <E extends Exception> RuntimeException rethrow(Throwable ex, Class<E> exceptionType, String message)
+			throws E {
+		if (ex instanceof RuntimeException runtimeException) {
+			return runtimeException;
+		}
+		if (ex instanceof Error error) {
+			throw error;
+		}
+		if (exceptionType.isInstance(ex)) {
+			throw exceptionType.cast(ex);
+		}
+		return new IllegalStateException(message, ex);
+	}
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.bundle;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import io.spring.maven.central.file.FileSet;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.util.unit.DataSize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link BundleSplitterImpl}.
+ *
+ * @author Moritz Halbritter
+ */
+class BundleSplitterImplTests {
+
+	@Test
+	void shouldNotSplitIfFilesFitIntoOneBundle(@TempDir Path tempDir) throws IOException {
+		FileSet files = createArtifact(tempDir, "a", 1000).plus(createArtifact(tempDir, "b", 1000));
+		BundleSplitterImpl splitter = new BundleSplitterImpl(DataSize.ofMegabytes(1));
+		List<FileSet> bundles = splitter.split(files, FileSet.empty());
+		assertThat(bundles).hasSize(1);
+		assertThat(bundles.getFirst()).containsExactlyInAnyOrderElementsOf(files);
+	}
+
+	@Test
+	void shouldSplitByArtifactVersion(@TempDir Path tempDir) throws IOException {
+		FileSet a = createArtifact(tempDir, "a", 60000);
+		FileSet b = createArtifact(tempDir, "b", 50000);
+		FileSet c = createArtifact(tempDir, "c", 30000);
+		FileSet d = createArtifact(tempDir, "d", 20000);
+		FileSet files = a.plus(b).plus(c).plus(d);
+		BundleSplitterImpl splitter = new BundleSplitterImpl(DataSize.ofKilobytes(100));
+		List<FileSet> bundles = splitter.split(files, files);
+		assertThat(bundles).hasSize(2);
+		assertThat(bundles.get(0)).containsExactlyInAnyOrderElementsOf(a.plus(c));
+		assertThat(bundles.get(1)).containsExactlyInAnyOrderElementsOf(b.plus(d));
+	}
+
+	@Test
+	void shouldKeepBundlesBelowMaximumSize(@TempDir Path tempDir) throws IOException {
+		FileSet files = FileSet.empty();
+		for (int i = 0; i < 20; i++) {
+			files = files.plus(createArtifact(tempDir, "artifact-" + i, 500 + i * 100));
+		}
+		DataSize maxBundleSize = DataSize.ofKilobytes(8);
+		BundleSplitterImpl splitter = new BundleSplitterImpl(maxBundleSize);
+		List<FileSet> bundles = splitter.split(files, files);
+		assertThat(bundles).hasSizeGreaterThan(1);
+		List<Path> allFiles = new ArrayList<>();
+		for (FileSet bundle : bundles) {
+			long size = 0;
+			for (Path file : bundle) {
+				size += Files.size(file);
+				allFiles.add(file);
+			}
+			assertThat(size).isLessThan(maxBundleSize.toBytes());
+		}
+		assertThat(allFiles).containsExactlyInAnyOrderElementsOf(files);
+	}
+
+	@Test
+	void shouldKeepBundlesOfIncompressibleFilesBelowMaximumSize(@TempDir Path tempDir) throws IOException {
+		Random random = new Random(0);
+		FileSet files = FileSet.empty();
+		for (int i = 0; i < 10; i++) {
+			String artifact = "artifact-" + i;
+			files = files.plus(createArtifact(tempDir, artifact, 0));
+			byte[] content = new byte[20000 + i * 1000];
+			random.nextBytes(content);
+			Files.write(tempDir.resolve("com/example/%s/1.0.0/%s-1.0.0.jar".formatted(artifact, artifact)), content);
+		}
+		DataSize maxBundleSize = DataSize.ofKilobytes(64);
+		BundleSplitterImpl splitter = new BundleSplitterImpl(maxBundleSize);
+		BundlerImpl bundler = new BundlerImpl(
+				Bundler.Options.defaults().withEntryMethodPolicy(EntryMethodPolicy.deflateAll()));
+		List<FileSet> parts = splitter.split(files, files);
+		assertThat(parts).hasSizeGreaterThan(1);
+		for (FileSet part : parts) {
+			try (Bundle bundle = bundler.createBundle(tempDir, part, part)) {
+				assertThat(bundle.getSize().toBytes()).isLessThanOrEqualTo(maxBundleSize.toBytes());
+			}
+		}
+	}
+
+	@Test
+	void shouldFailIfArtifactVersionExceedsMaximumSize(@TempDir Path tempDir) throws IOException {
+		FileSet files = createArtifact(tempDir, "a", 10000);
+		BundleSplitterImpl splitter = new BundleSplitterImpl(DataSize.ofKilobytes(8));
+		assertThatIllegalStateException().isThrownBy(() -> splitter.split(files, FileSet.empty()))
+			.withMessageContaining("com/example/a/1.0.0")
+			.withMessageContaining("exceeds the maximum bundle size of 8192B");
+	}
+
+	private FileSet createArtifact(Path root, String artifact, int jarSize) throws IOException {
+		Path directory = root.resolve("com/example/" + artifact + "/1.0.0");
+		Files.createDirectories(directory);
+		Path jar = directory.resolve(artifact + "-1.0.0.jar");
+		Files.write(jar, new byte[jarSize]);
+		Path pom = directory.resolve(artifact + "-1.0.0.pom");
+		Files.writeString(pom, "<project/>");
+		Path signature = directory.resolve(artifact + "-1.0.0.jar.asc");
+		Files.writeString(signature, "signature");
+		return FileSet.of(jar, pom, signature);
+	}
+
+}
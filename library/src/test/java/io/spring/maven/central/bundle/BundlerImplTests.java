@@ -16,19 +16,40 @@
 
 package io.spring.maven.central.bundle;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
 import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
 
+import io.spring.maven.central.bundle.Bundler.Options;
+import io.spring.maven.central.checksum.ChecksumAlgorithm;
+import io.spring.maven.central.checksum.ChecksumCreator;
+import io.spring.maven.central.checksum.ChecksumPolicy;
 import io.spring.maven.central.file.FileSet;
+import io.spring.maven.central.log.Logger;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import org.springframework.util.StreamUtils;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
 /**
  * Tests for {@link BundlerImpl}.
@@ -47,6 +68,287 @@ class BundlerImplTests {
 				"a/a2/aa1.txt", "b/b1.txt");
 	}
 
+	@Test
+	void shouldCreateBundleWithChecksums(@TempDir Path tempDir) throws IOException {
+		FileSet files = createTestFiles(tempDir);
+		Path staleChecksum = tempDir.resolve("b/b1.txt.md5");
+		Files.writeString(staleChecksum, "stale");
+		files = files.plus(FileSet.of(staleChecksum));
+		FileSet checksummedFiles = FileSet.of(tempDir.resolve("a/a1/aa1.txt"), tempDir.resolve("b/b1.txt"));
+		BundlerImpl bundler = new BundlerImpl();
+		Bundle bundle = bundler.createBundle(tempDir, files, checksummedFiles);
+		assertThat(getBundleEntryNames(bundle)).containsExactlyInAnyOrder("a/a1/aa1.txt", "a/a1/aa1.txt.md5",
+				"a/a1/aa1.txt.sha1", "a/a1/aa2.txt", "a/a2/aa1.txt", "b/b1.txt", "b/b1.txt.md5", "b/b1.txt.sha1");
+		ChecksumCreator checksumCreator = ChecksumCreator.create(Logger.noop(), ChecksumPolicy.FAIL_ON_EXISTING);
+		Map<ChecksumAlgorithm, String> checksums = checksumCreator.calculateChecksums(tempDir.resolve("b/b1.txt"));
+		assertThat(getBundleEntryContent(bundle, "b/b1.txt.md5")).isEqualTo(checksums.get(ChecksumAlgorithm.MD5));
+		assertThat(getBundleEntryContent(bundle, "b/b1.txt.sha1")).isEqualTo(checksums.get(ChecksumAlgorithm.SHA1));
+		assertThat(getBundleEntryContent(bundle, "b/b1.txt")).isEqualTo("Content of " + tempDir.resolve("b/b1.txt"));
+		assertThat(tempDir.resolve("a/a1/aa1.txt.md5")).doesNotExist();
+		assertThat(staleChecksum).hasContent("stale");
+	}
+
+	@Test
+	void shouldCreateBundleInParallel(@TempDir Path tempDir) throws IOException {
+		List<Path> paths = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			Path file = tempDir.resolve("dir-%d/file-%02d.txt".formatted(i % 5, i));
+			createFile(file);
+			paths.add(file);
+		}
+		Path largeFile = tempDir.resolve("large.bin");
+		byte[] largeContent = new byte[3 * 1024 * 1024];
+		new Random(42).nextBytes(largeContent);
+		Files.write(largeFile, largeContent);
+		paths.add(largeFile);
+		FileSet files = FileSet.of(paths);
+		BundlerImpl bundler = new BundlerImpl(Options.defaults().withParallelism(4));
+		Bundle bundle = bundler.createBundle(tempDir, files, FileSet.of(largeFile));
+		List<String> expectedNames = new ArrayList<>();
+		for (Path file : files) {
+			expectedNames.add(tempDir.relativize(file).toString().replace('\\', '/'));
+			if (file.equals(largeFile)) {
+				expectedNames.add("large.bin.md5");
+				expectedNames.add("large.bin.sha1");
+			}
+		}
+		assertThat(getBundleEntryNames(bundle)).containsExactlyElementsOf(expectedNames);
+		assertThat(getBundleEntryContent(bundle, "dir-3/file-13.txt"))
+			.isEqualTo("Content of " + tempDir.resolve("dir-3/file-13.txt"));
+		try (ZipFile zipFile = new ZipFile(bundle.getFile().toFile(), StandardCharsets.UTF_8);
+				InputStream stream = zipFile.getInputStream(zipFile.getEntry("large.bin"))) {
+			assertThat(stream.readAllBytes()).isEqualTo(largeContent);
+		}
+		ChecksumCreator checksumCreator = ChecksumCreator.create(Logger.noop(), ChecksumPolicy.FAIL_ON_EXISTING);
+		Map<ChecksumAlgorithm, String> checksums = checksumCreator.calculateChecksums(largeFile);
+		assertThat(getBundleEntryContent(bundle, "large.bin.sha1")).isEqualTo(checksums.get(ChecksumAlgorithm.SHA1));
+	}
+
+	@Test
+	void shouldCreateBundleReadableAsStream(@TempDir Path tempDir) throws IOException {
+		FileSet files = createTestFiles(tempDir);
+		BundlerImpl bundler = new BundlerImpl(Options.defaults().withParallelism(2));
+		Bundle bundle = bundler.createBundle(tempDir, files);
+		List<String> names = new ArrayList<>();
+		try (ZipInputStream stream = new ZipInputStream(Files.newInputStream(bundle.getFile()))) {
+			ZipEntry entry;
+			while ((entry = stream.getNextEntry()) != null) {
+				names.add(entry.getName());
+				assertThat(new String(stream.readAllBytes(), StandardCharsets.UTF_8))
+					.isEqualTo("Content of " + tempDir.resolve(entry.getName()));
+			}
+		}
+		assertThat(names).containsExactlyInAnyOrder("a/a1/aa1.txt", "a/a1/aa2.txt", "a/a2/aa1.txt", "b/b1.txt");
+	}
+
+	@Test
+	void shouldDeleteBundleIfFileCanNotBeRead(@TempDir Path tempDir) throws IOException {
+		FileSet files = createTestFiles(tempDir).plus(FileSet.of(tempDir.resolve("missing.txt")));
+		BundlerImpl bundler = new BundlerImpl(Options.defaults().withParallelism(2));
+		Set<Path> tempFiles = listTempFiles();
+		assertThatExceptionOfType(UncheckedIOException.class).isThrownBy(() -> bundler.createBundle(tempDir, files))
+			.withMessage("Failed to create bundle");
+		assertThat(listTempFiles()).isSubsetOf(tempFiles);
+	}
+
+	@Test
+	void shouldStoreAlreadyCompressedFiles(@TempDir Path tempDir) throws IOException {
+		Path jar = tempDir.resolve("artifact-1.0.0.jar");
+		Path pom = tempDir.resolve("artifact-1.0.0.pom");
+		createFile(jar);
+		createFile(pom);
+		BundlerImpl bundler = new BundlerImpl();
+		Bundle bundle = bundler.createBundle(tempDir, FileSet.of(jar, pom), FileSet.of(jar, pom));
+		try (ZipFile zipFile = new ZipFile(bundle.getFile().toFile(), StandardCharsets.UTF_8)) {
+			assertThat(zipFile.getEntry("artifact-1.0.0.jar").getMethod()).isEqualTo(ZipEntry.STORED);
+			assertThat(zipFile.getEntry("artifact-1.0.0.jar.sha1").getMethod()).isEqualTo(ZipEntry.DEFLATED);
+			assertThat(zipFile.getEntry("artifact-1.0.0.pom").getMethod()).isEqualTo(ZipEntry.DEFLATED);
+		}
+		assertThat(getBundleEntryContent(bundle, "artifact-1.0.0.jar")).isEqualTo("Content of " + jar);
+		BundleStatistics statistics = bundle.getStatistics();
+		assertThat(statistics.storedEntries()).isOne();
+		assertThat(statistics.deflatedEntries()).isEqualTo(5);
+		assertThat(statistics.entries()).isEqualTo(6);
+		assertThat(statistics.uncompressedSize().toBytes())
+			.isEqualTo(Files.size(jar) + Files.size(pom) + 2 * (32 + 40));
+	}
+
+	@Test
+	void shouldStoreLargeFilesSpilledToDisk(@TempDir Path tempDir) throws IOException {
+		Path jar = tempDir.resolve("artifact-1.0.0.jar");
+		byte[] content = new byte[3 * 1024 * 1024];
+		new Random(42).nextBytes(content);
+		Files.write(jar, content);
+		BundlerImpl bundler = new BundlerImpl();
+		Bundle bundle = bundler.createBundle(tempDir, FileSet.of(jar));
+		try (ZipFile zipFile = new ZipFile(bundle.getFile().toFile(), StandardCharsets.UTF_8)) {
+			ZipEntry entry = zipFile.getEntry("artifact-1.0.0.jar");
+			assertThat(entry.getMethod()).isEqualTo(ZipEntry.STORED);
+			try (InputStream stream = zipFile.getInputStream(entry)) {
+				assertThat(stream.readAllBytes()).isEqualTo(content);
+			}
+		}
+	}
+
+	@Test
+	void shouldDeflateAllFilesWithDeflateAllPolicy(@TempDir Path tempDir) throws IOException {
+		Path jar = tempDir.resolve("artifact-1.0.0.jar");
+		createFile(jar);
+		BundlerImpl bundler = new BundlerImpl(Options.defaults().withEntryMethodPolicy(EntryMethodPolicy.deflateAll()));
+		Bundle bundle = bundler.createBundle(tempDir, FileSet.of(jar));
+		try (ZipFile zipFile = new ZipFile(bundle.getFile().toFile(), StandardCharsets.UTF_8)) {
+			assertThat(zipFile.getEntry("artifact-1.0.0.jar").getMethod()).isEqualTo(ZipEntry.DEFLATED);
+		}
+		assertThat(bundle.getStatistics().storedEntries()).isZero();
+		assertThat(bundle.getStatistics().deflatedEntries()).isOne();
+	}
+
+	@Test
+	void shouldStoreAllEntriesWithCompressionLevelZero(@TempDir Path tempDir) throws IOException {
+		FileSet files = createTestFiles(tempDir);
+		BundlerImpl bundler = new BundlerImpl(deflateAll(0, CompressionStrategy.DEFAULT));
+		Bundle bundle = bundler.createBundle(tempDir, files);
+		try (ZipFile zipFile = new ZipFile(bundle.getFile().toFile(), StandardCharsets.UTF_8)) {
+			assertThat(zipFile.stream())
+				.allSatisfy((entry) -> assertThat(entry.getMethod()).isEqualTo(ZipEntry.STORED));
+		}
+		assertThat(getBundleEntryContent(bundle, "b/b1.txt")).isEqualTo("Content of " + tempDir.resolve("b/b1.txt"));
+		assertThat(bundle.getStatistics().storedEntries()).isEqualTo(4);
+	}
+
+	@Test
+	void shouldUseCompressionLevelAndStrategy(@TempDir Path tempDir) throws IOException {
+		Path file = tempDir.resolve("artifact-1.0.0.pom");
+		Random random = new Random(42);
+		String[] words = { "<dependency>", "<groupId>", "<artifactId>", "<version>", "com.example", "library", "1.0.0",
+				"</dependency>" };
+		StringBuilder content = new StringBuilder();
+		for (int i = 0; i < 20000; i++) {
+			content.append(words[random.nextInt(words.length)]).append(random.nextInt(100));
+		}
+		Files.writeString(file, content);
+		long fastest = new BundlerImpl(deflateAll(1, CompressionStrategy.DEFAULT))
+			.createBundle(tempDir, FileSet.of(file))
+			.getSize()
+			.toBytes();
+		long best = new BundlerImpl(deflateAll(9, CompressionStrategy.DEFAULT)).createBundle(tempDir, FileSet.of(file))
+			.getSize()
+			.toBytes();
+		Bundle huffmanOnly = new BundlerImpl(deflateAll(9, CompressionStrategy.HUFFMAN_ONLY)).createBundle(tempDir,
+				FileSet.of(file));
+		assertThat(best).isLessThan(fastest);
+		assertThat(huffmanOnly.getSize().toBytes()).isGreaterThan(best);
+		assertThat(getBundleEntryContent(huffmanOnly, "artifact-1.0.0.pom")).isEqualTo(content.toString());
+	}
+
+	@Test
+	void shouldFailOnInvalidCompressionLevel() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new BundlerImpl(deflateAll(10, CompressionStrategy.DEFAULT)))
+			.withMessage("'compressionLevel' must be -1 or between 0 and 9");
+	}
+
+	@Test
+	void shouldWriteBundleToOutputStream(@TempDir Path tempDir) throws IOException {
+		FileSet files = createTestFiles(tempDir);
+		BundlerImpl bundler = new BundlerImpl(Options.defaults().withParallelism(2));
+		AtomicBoolean closed = new AtomicBoolean();
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream() {
+
+			@Override
+			public void close() {
+				closed.set(true);
+			}
+
+		};
+		BundleStatistics statistics = bundler.writeBundle(tempDir, files, FileSet.of(tempDir.resolve("b/b1.txt")),
+				outputStream);
+		assertThat(closed).isFalse();
+		assertThat(statistics.size().toBytes()).isEqualTo(outputStream.size());
+		assertThat(statistics.entries()).isEqualTo(6);
+		Path bundleFile = tempDir.resolve("bundle.zip");
+		Files.write(bundleFile, outputStream.toByteArray());
+		Bundle bundle = Bundle.of(bundleFile);
+		assertThat(getBundleEntryNames(bundle)).containsExactlyInAnyOrder("a/a1/aa1.txt", "a/a1/aa2.txt",
+				"a/a2/aa1.txt", "b/b1.txt", "b/b1.txt.md5", "b/b1.txt.sha1");
+		assertThat(getBundleEntryContent(bundle, "a/a2/aa1.txt"))
+			.isEqualTo("Content of " + tempDir.resolve("a/a2/aa1.txt"));
+	}
+
+	@Test
+	void shouldNotFinishBundleIfWritingFails(@TempDir Path tempDir) throws IOException {
+		FileSet files = createTestFiles(tempDir).plus(FileSet.of(tempDir.resolve("missing.txt")));
+		BundlerImpl bundler = new BundlerImpl();
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		assertThatExceptionOfType(UncheckedIOException.class)
+			.isThrownBy(() -> bundler.writeBundle(tempDir, files, FileSet.empty(), outputStream))
+			.withMessage("Failed to write bundle");
+		Path bundleFile = tempDir.resolve("bundle.zip");
+		Files.write(bundleFile, outputStream.toByteArray());
+		assertThatExceptionOfType(ZipException.class).isThrownBy(() -> new ZipFile(bundleFile.toFile()).close());
+	}
+
+	@Test
+	void shouldStreamEntriesWithoutTemporaryFiles(@TempDir Path tempDir) throws IOException {
+		Path jar = tempDir.resolve("artifact-1.0.0.jar");
+		Path pom = tempDir.resolve("artifact-1.0.0.pom");
+		Random random = new Random(42);
+		byte[] jarContent = new byte[3 * 1024 * 1024];
+		random.nextBytes(jarContent);
+		Files.write(jar, jarContent);
+		byte[] pomContent = new byte[3 * 1024 * 1024];
+		random.nextBytes(pomContent);
+		Files.write(pom, pomContent);
+		BundlerImpl bundler = new BundlerImpl();
+		Set<Path> tempFiles = listTempFiles();
+		AtomicBoolean buffered = new AtomicBoolean();
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream() {
+
+			@Override
+			public void write(byte[] b, int off, int len) {
+				try {
+					if (!tempFiles.containsAll(listTempFiles())) {
+						buffered.set(true);
+					}
+				}
+				catch (IOException ex) {
+					throw new UncheckedIOException(ex);
+				}
+				super.write(b, off, len);
+			}
+
+		};
+		bundler.writeBundle(tempDir, FileSet.of(jar, pom), FileSet.of(jar), outputStream);
+		assertThat(buffered).isFalse();
+		Path bundleFile = tempDir.resolve("bundle.zip");
+		Files.write(bundleFile, outputStream.toByteArray());
+		Bundle bundle = Bundle.of(bundleFile);
+		try (ZipFile zipFile = new ZipFile(bundleFile.toFile(), StandardCharsets.UTF_8)) {
+			assertThat(zipFile.getEntry("artifact-1.0.0.jar").getMethod()).isEqualTo(ZipEntry.STORED);
+			assertThat(zipFile.getEntry("artifact-1.0.0.pom").getMethod()).isEqualTo(ZipEntry.DEFLATED);
+			try (InputStream stream = zipFile.getInputStream(zipFile.getEntry("artifact-1.0.0.pom"))) {
+				assertThat(stream.readAllBytes()).isEqualTo(pomContent);
+			}
+		}
+		ChecksumCreator checksumCreator = ChecksumCreator.create(Logger.noop(), ChecksumPolicy.FAIL_ON_EXISTING);
+		assertThat(getBundleEntryContent(bundle, "artifact-1.0.0.jar.sha1"))
+			.isEqualTo(checksumCreator.calculateChecksums(jar).get(ChecksumAlgorithm.SHA1));
+	}
+
+	private static Options deflateAll(int compressionLevel, CompressionStrategy compressionStrategy) {
+		return Options.defaults()
+			.withEntryMethodPolicy(EntryMethodPolicy.deflateAll())
+			.withCompressionLevel(compressionLevel)
+			.withCompressionStrategy(compressionStrategy);
+	}
+
+	private static Set<Path> listTempFiles() throws IOException {
+		try (Stream<Path> files = Files.list(Path.of(System.getProperty("java.io.tmpdir")))) {
+			return files.filter((file) -> file.getFileName().toString().startsWith("bundle"))
+				.collect(Collectors.toSet());
+		}
+	}
+
 	private FileSet createTestFiles(Path tempDir) throws IOException {
 		List<Path> files = List.of(tempDir.resolve("a/a1/aa1.txt"), tempDir.resolve("a/a1/aa2.txt"),
 				tempDir.resolve("a/a2/aa1.txt"), tempDir.resolve("b/b1.txt"));
@@ -70,4 +372,11 @@ class BundlerImplTests {
 		return result;
 	}
 
+	private String getBundleEntryContent(Bundle bundle, String name) throws IOException {
+		try (ZipFile zipFile = new ZipFile(bundle.getFile().toFile(), StandardCharsets.UTF_8);
+				InputStream stream = zipFile.getInputStream(zipFile.getEntry(name))) {
+			return StreamUtils.copyToString(stream, StandardCharsets.UTF_8);
+		}
+	}
+
 }
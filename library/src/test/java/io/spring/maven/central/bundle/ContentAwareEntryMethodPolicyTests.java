@@ -0,0 +1,47 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.bundle;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ContentAwareEntryMethodPolicy}.
+ *
+ * @author Moritz Halbritter
+ */
+class ContentAwareEntryMethodPolicyTests {
+
+	private final ContentAwareEntryMethodPolicy policy = new ContentAwareEntryMethodPolicy();
+
+	@ParameterizedTest
+	@ValueSource(strings = { "a/b/artifact-1.0.0.jar", "a/b/artifact-1.0.0-sources.jar",
+			"a/b/artifact-1.0.0-javadoc.jar", "a/b/dist-1.0.0.zip", "a/b/dist-1.0.0.tar.gz", "a/b/ARTIFACT.JAR" })
+	void shouldStoreCompressedFiles(String name) {
+		assertThat(this.policy.getMethod(name)).isEqualTo(EntryMethodPolicy.Method.STORED);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "a/b/artifact-1.0.0.pom", "a/b/artifact-1.0.0.module", "a/b/artifact-1.0.0.jar.asc",
+			"a/b/artifact-1.0.0.jar.sha1", "a/b/maven-metadata.xml", "a/b/LICENSE" })
+	void shouldDeflateOtherFiles(String name) {
+		assertThat(this.policy.getMethod(name)).isEqualTo(EntryMethodPolicy.Method.DEFLATED);
+	}
+
+}
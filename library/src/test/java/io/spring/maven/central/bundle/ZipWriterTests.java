@@ -0,0 +1,182 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.bundle;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link ZipWriter}.
+ *
+ * @author Moritz Halbritter
+ */
+class ZipWriterTests {
+
+	private static final LocalDateTime TIME = LocalDateTime.of(2025, 6, 1, 12, 30, 10);
+
+	@Test
+	void shouldWriteStoredAndDeflatedEntries(@TempDir Path tempDir) throws IOException {
+		Path file = tempDir.resolve("test.zip");
+		byte[] stored = "stored content".getBytes(StandardCharsets.UTF_8);
+		byte[] deflated = "deflated content, deflated content, deflated content".getBytes(StandardCharsets.UTF_8);
+		try (ZipWriter writer = new ZipWriter(Files.newOutputStream(file), TIME)) {
+			writer.writeEntry("a/stored.txt", ZipEntry.STORED, crc(stored), stored.length, stored.length,
+					(outputStream) -> outputStream.write(stored));
+			byte[] compressed = deflate(deflated);
+			writer.writeEntry("b/deflated-ä.txt", ZipEntry.DEFLATED, crc(deflated), deflated.length, compressed.length,
+					(outputStream) -> outputStream.write(compressed));
+			writer.finish();
+		}
+		try (ZipFile zipFile = new ZipFile(file.toFile(), StandardCharsets.UTF_8)) {
+			assertThat(zipFile.size()).isEqualTo(2);
+			ZipEntry storedEntry = zipFile.getEntry("a/stored.txt");
+			assertThat(storedEntry.getMethod()).isEqualTo(ZipEntry.STORED);
+			assertThat(storedEntry.getTimeLocal()).isEqualTo(TIME);
+			assertThat(read(zipFile, storedEntry)).isEqualTo(stored);
+			ZipEntry deflatedEntry = zipFile.getEntry("b/deflated-ä.txt");
+			assertThat(deflatedEntry.getMethod()).isEqualTo(ZipEntry.DEFLATED);
+			assertThat(read(zipFile, deflatedEntry)).isEqualTo(deflated);
+		}
+	}
+
+	@Test
+	void shouldFailIfContentDoesNotMatchCompressedSize() throws IOException {
+		try (ZipWriter writer = new ZipWriter(new ByteArrayOutputStream(), TIME)) {
+			assertThatIllegalStateException()
+				.isThrownBy(() -> writer.writeEntry("test.txt", ZipEntry.STORED, 0, 10, 10,
+						(outputStream) -> outputStream.write(new byte[5])))
+				.withMessage("Expected 10 bytes for entry 'test.txt', but got 5");
+		}
+	}
+
+	@Test
+	void shouldPatchHeadersOfStreamedEntriesInFile(@TempDir Path tempDir) throws IOException {
+		Path file = tempDir.resolve("test.zip");
+		try (ZipWriter writer = new ZipWriter(
+				FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE), TIME)) {
+			writeStreamedEntries(writer);
+			writer.finish();
+		}
+		assertStreamedEntries(file);
+		List<String> names = new ArrayList<>();
+		try (ZipInputStream stream = new ZipInputStream(Files.newInputStream(file))) {
+			ZipEntry entry;
+			while ((entry = stream.getNextEntry()) != null) {
+				names.add(entry.getName());
+				assertThat(entry.getCrc()).isNotZero();
+			}
+		}
+		assertThat(names).containsExactly("stored.txt", "deflated.txt");
+	}
+
+	@Test
+	void shouldWriteDataDescriptorsOfStreamedEntriesInStream(@TempDir Path tempDir) throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		try (ZipWriter writer = new ZipWriter(outputStream, TIME)) {
+			writeStreamedEntries(writer);
+			writer.finish();
+		}
+		Path file = tempDir.resolve("test.zip");
+		Files.write(file, outputStream.toByteArray());
+		assertStreamedEntries(file);
+	}
+
+	@Test
+	void shouldNotFinishZipOnClose() throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		byte[] content = "content".getBytes(StandardCharsets.UTF_8);
+		try (ZipWriter writer = new ZipWriter(outputStream, TIME)) {
+			writer.writeEntry("test.txt", ZipEntry.STORED, crc(content), content.length, content.length,
+					(stream) -> stream.write(content));
+		}
+		assertThat(outputStream.size()).isEqualTo(30 + "test.txt".length() + content.length);
+	}
+
+	private void writeStreamedEntries(ZipWriter writer) throws IOException {
+		byte[] stored = "stored content".getBytes(StandardCharsets.UTF_8);
+		byte[] deflated = "deflated content, deflated content, deflated content".getBytes(StandardCharsets.UTF_8);
+		writer.writeEntry("stored.txt", ZipEntry.STORED, (outputStream) -> {
+			outputStream.write(stored);
+			return new ZipWriter.UncompressedContent(crc(stored), stored.length);
+		});
+		writer.writeEntry("deflated.txt", ZipEntry.DEFLATED, (outputStream) -> {
+			outputStream.write(deflate(deflated));
+			return new ZipWriter.UncompressedContent(crc(deflated), deflated.length);
+		});
+	}
+
+	private void assertStreamedEntries(Path file) throws IOException {
+		try (ZipFile zipFile = new ZipFile(file.toFile(), StandardCharsets.UTF_8)) {
+			assertThat(zipFile.size()).isEqualTo(2);
+			assertThat(new String(read(zipFile, zipFile.getEntry("stored.txt")), StandardCharsets.UTF_8))
+				.isEqualTo("stored content");
+			assertThat(new String(read(zipFile, zipFile.getEntry("deflated.txt")), StandardCharsets.UTF_8))
+				.isEqualTo("deflated content, deflated content, deflated content");
+		}
+	}
+
+	private byte[] read(ZipFile zipFile, ZipEntry entry) throws IOException {
+		try (InputStream stream = zipFile.getInputStream(entry)) {
+			return stream.readAllBytes();
+		}
+	}
+
+	private long crc(byte[] content) {
+		CRC32 crc = new CRC32();
+		crc.update(content);
+		return crc.getValue();
+	}
+
+	private byte[] deflate(byte[] content) {
+		Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+		try {
+			deflater.setInput(content);
+			deflater.finish();
+			ByteArrayOutputStream result = new ByteArrayOutputStream();
+			byte[] buffer = new byte[1024];
+			while (!deflater.finished()) {
+				int length = deflater.deflate(buffer);
+				result.write(buffer, 0, length);
+			}
+			return result.toByteArray();
+		}
+		finally {
+			deflater.end();
+		}
+	}
+
+}
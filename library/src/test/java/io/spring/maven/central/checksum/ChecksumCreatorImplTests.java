@@ -20,14 +20,26 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
 
+import io.spring.maven.central.checksum.ChecksumCreator.Options;
 import io.spring.maven.central.file.FileSet;
 import io.spring.maven.central.log.Logger;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import org.springframework.util.StreamUtils;
+import org.springframework.util.unit.DataSize;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 
 /**
  * Tests for {@link ChecksumCreatorImpl}.
@@ -55,6 +67,126 @@ class ChecksumCreatorImplTests {
 			.isEqualTo("2b86942270efab26aa5a0582dc359b4fdec55105");
 	}
 
+	@Test
+	void shouldCreateSameChecksumsAsSeparateDigestsForLargeFiles(@TempDir Path tempDir) throws Exception {
+		Path file = tempDir.resolve("large.jar");
+		byte[] content = new byte[5 * 1024 * 1024 + 17];
+		new Random(42).nextBytes(content);
+		Files.write(file, content);
+		ChecksumCreatorImpl checksumCreator = new ChecksumCreatorImpl(Logger.noop(), ChecksumPolicy.FAIL_ON_EXISTING);
+		FileSet checksumFiles = checksumCreator.createChecksums(FileSet.of(file));
+		assertThat(checksumFiles).containsExactlyInAnyOrder(tempDir.resolve("large.jar.md5"),
+				tempDir.resolve("large.jar.sha1"));
+		assertThat(tempDir.resolve("large.jar.md5")).content(StandardCharsets.UTF_8)
+			.isEqualTo(digestSeparately("md5", file));
+		assertThat(tempDir.resolve("large.jar.sha1")).content(StandardCharsets.UTF_8)
+			.isEqualTo(digestSeparately("sha1", file));
+	}
+
+	@Test
+	void shouldCreateSameChecksumsForLargeFilesReadThroughFileChannel(@TempDir Path tempDir) throws Exception {
+		Path file = tempDir.resolve("large.jar");
+		byte[] content = new byte[5 * 1024 * 1024 + 17];
+		new Random(42).nextBytes(content);
+		Files.write(file, content);
+		ChecksumCreatorImpl checksumCreator = new ChecksumCreatorImpl(Logger.noop(), ChecksumPolicy.FAIL_ON_EXISTING,
+				Options.defaults().withLargeFiles(DataSize.ofBytes(0), DataSize.ofKilobytes(100)));
+		Map<ChecksumAlgorithm, String> checksums = checksumCreator.calculateChecksums(file);
+		assertThat(checksums.get(ChecksumAlgorithm.MD5)).isEqualTo(digestSeparately("md5", file));
+		assertThat(checksums.get(ChecksumAlgorithm.SHA1)).isEqualTo(digestSeparately("sha1", file));
+	}
+
+	@Test
+	void shouldReuseDirectBuffersForLargeFiles(@TempDir Path tempDir) throws IOException {
+		FileSet files = createTestFiles(tempDir, 20);
+		ChecksumCreatorImpl checksumCreator = new ChecksumCreatorImpl(Logger.noop(), ChecksumPolicy.FAIL_ON_EXISTING,
+				Options.defaults().withParallelism(4).withLargeFiles(DataSize.ofBytes(0), DataSize.ofKilobytes(100)));
+		checksumCreator.createChecksums(files);
+		assertThat(checksumCreator.getPooledLargeFileBuffers()).isBetween(1, 4);
+	}
+
+	@Test
+	void shouldCalculateChecksums(@TempDir Path tempDir) throws IOException {
+		Path file = tempDir.resolve("file1.txt");
+		Files.writeString(file, "Content of file1.txt");
+		ChecksumCreatorImpl checksumCreator = new ChecksumCreatorImpl(Logger.noop(), ChecksumPolicy.FAIL_ON_EXISTING);
+		Map<ChecksumAlgorithm, String> checksums = checksumCreator.calculateChecksums(file);
+		assertThat(checksums).containsOnly(Map.entry(ChecksumAlgorithm.MD5, "fedad3341c60a233922c47cbd6485643"),
+				Map.entry(ChecksumAlgorithm.SHA1, "49031614efd805062681b21a8b00884aebc8d953"));
+		assertThat(tempDir.resolve("file1.txt.md5")).doesNotExist();
+		assertThat(tempDir.resolve("file1.txt.sha1")).doesNotExist();
+	}
+
+	@Test
+	void shouldCreateChecksumFilesInParallel(@TempDir Path tempDir) throws IOException {
+		FileSet files = createTestFiles(tempDir, 20);
+		ChecksumCreatorImpl checksumCreator = new ChecksumCreatorImpl(Logger.noop(), ChecksumPolicy.FAIL_ON_EXISTING,
+				Options.defaults().withParallelism(4));
+		FileSet checksumFiles = checksumCreator.createChecksums(files);
+		assertThat(checksumFiles.size()).isEqualTo(40);
+		for (Path file : files) {
+			Map<ChecksumAlgorithm, String> checksums = checksumCreator.calculateChecksums(file);
+			assertThat(Path.of(file + ".md5")).content(StandardCharsets.UTF_8)
+				.isEqualTo(checksums.get(ChecksumAlgorithm.MD5));
+			assertThat(Path.of(file + ".sha1")).content(StandardCharsets.UTF_8)
+				.isEqualTo(checksums.get(ChecksumAlgorithm.SHA1));
+		}
+	}
+
+	@Test
+	void shouldFailDeterministicallyOnExistingChecksumsInParallel(@TempDir Path tempDir) throws IOException {
+		FileSet files = createTestFiles(tempDir, 20);
+		Files.writeString(tempDir.resolve("file-07.txt.sha1"), "existing");
+		Files.writeString(tempDir.resolve("file-13.txt.md5"), "existing");
+		ChecksumCreatorImpl checksumCreator = new ChecksumCreatorImpl(Logger.noop(), ChecksumPolicy.FAIL_ON_EXISTING,
+				Options.defaults().withParallelism(4));
+		assertThatIllegalStateException().isThrownBy(() -> checksumCreator.createChecksums(files))
+			.withMessageContaining("file-07.txt.sha1");
+		assertThat(tempDir.resolve("file-01.txt.md5")).doesNotExist();
+		assertThat(tempDir.resolve("file-07.txt.md5")).doesNotExist();
+		assertThat(tempDir.resolve("file-07.txt.sha1")).hasContent("existing");
+	}
+
+	@Test
+	void shouldOverwriteExistingChecksumsInParallel(@TempDir Path tempDir) throws IOException {
+		FileSet files = createTestFiles(tempDir, 20);
+		Files.writeString(tempDir.resolve("file-07.txt.sha1"), "existing");
+		ChecksumCreatorImpl checksumCreator = new ChecksumCreatorImpl(Logger.noop(), ChecksumPolicy.OVERWRITE_EXISTING,
+				Options.defaults().withParallelism(4));
+		checksumCreator.createChecksums(files);
+		assertThat(tempDir.resolve("file-07.txt.sha1")).content(StandardCharsets.UTF_8)
+			.isEqualTo(checksumCreator.calculateChecksums(tempDir.resolve("file-07.txt")).get(ChecksumAlgorithm.SHA1));
+	}
+
+	@Test
+	void shouldReturnChecksummedFilesWithoutCreatingChecksums(@TempDir Path tempDir) throws IOException {
+		FileSet files = createTestFiles(tempDir);
+		Path signature = tempDir.resolve("file1.txt.asc");
+		Files.writeString(signature, "signature");
+		ChecksumCreatorImpl checksumCreator = new ChecksumCreatorImpl(Logger.noop(), ChecksumPolicy.FAIL_ON_EXISTING);
+		FileSet checksummedFiles = checksumCreator.getChecksummedFiles(files.plus(FileSet.of(signature)));
+		assertThat(checksummedFiles).containsExactlyInAnyOrder(tempDir.resolve("file1.txt"),
+				tempDir.resolve("file2.txt"));
+		assertThat(tempDir.resolve("file1.txt.md5")).doesNotExist();
+	}
+
+	@Test
+	void shouldApplyChecksumPolicyWhenReturningChecksummedFiles(@TempDir Path tempDir) throws IOException {
+		FileSet files = createTestFiles(tempDir);
+		Files.writeString(tempDir.resolve("file2.txt.md5"), "existing");
+		ChecksumCreatorImpl checksumCreator = new ChecksumCreatorImpl(Logger.noop(), ChecksumPolicy.FAIL_ON_EXISTING);
+		assertThatIllegalStateException().isThrownBy(() -> checksumCreator.getChecksummedFiles(files))
+			.withMessageContaining("file2.txt.md5");
+	}
+
+	private String digestSeparately(String algorithm, Path file) throws IOException, NoSuchAlgorithmException {
+		try (DigestInputStream stream = new DigestInputStream(Files.newInputStream(file),
+				MessageDigest.getInstance(algorithm))) {
+			StreamUtils.drain(stream);
+			return HexFormat.of().formatHex(stream.getMessageDigest().digest());
+		}
+	}
+
 	private FileSet createTestFiles(Path tempDir) throws IOException {
 		Path file1 = tempDir.resolve("file1.txt");
 		Files.writeString(file1, "Content of file1.txt");
@@ -63,4 +195,14 @@ class ChecksumCreatorImplTests {
 		return FileSet.of(List.of(file1, file2));
 	}
 
+	private FileSet createTestFiles(Path tempDir, int count) throws IOException {
+		List<Path> files = new ArrayList<>();
+		for (int i = 1; i <= count; i++) {
+			Path file = tempDir.resolve("file-%02d.txt".formatted(i));
+			Files.writeString(file, "Content of file %d".formatted(i));
+			files.add(file);
+		}
+		return FileSet.of(files);
+	}
+
 }
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.deploy;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link ArtifactAwaitTask}.
+ *
+ * @author Moritz Halbritter
+ */
+class ArtifactAwaitTaskTests {
+
+	private static final List<Coordinates> COORDINATES = List.of(Coordinates.parse("com.example:artifact:1.0.0"));
+
+	@Test
+	void shouldAwaitArtifactOnlyOnce() {
+		AtomicInteger calls = new AtomicInteger();
+		ArtifactAwaitTask task = new ArtifactAwaitTask((coordinates, elapsed) -> calls.incrementAndGet(), COORDINATES,
+				Executors.defaultThreadFactory());
+		assertThat(task.isStarted()).isFalse();
+		assertThat(task.start()).isTrue();
+		assertThat(task.start()).isFalse();
+		assertThat(task.isStarted()).isTrue();
+		task.join();
+		assertThat(calls).hasValue(1);
+	}
+
+	@Test
+	void shouldRethrowFailure() {
+		ArtifactAwaitTask task = new ArtifactAwaitTask((coordinates, elapsed) -> {
+			throw new ArtifactAwaitException("Timeout");
+		}, COORDINATES, Executors.defaultThreadFactory());
+		task.start();
+		assertThatExceptionOfType(ArtifactAwaitException.class).isThrownBy(task::join).withMessage("Timeout");
+	}
+
+	@Test
+	void shouldInterruptOnCancel() throws InterruptedException {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch interrupted = new CountDownLatch(1);
+		ArtifactAwaitTask task = new ArtifactAwaitTask((coordinates, elapsed) -> {
+			started.countDown();
+			try {
+				Thread.sleep(10_000);
+			}
+			catch (InterruptedException ex) {
+				interrupted.countDown();
+			}
+		}, COORDINATES, Executors.defaultThreadFactory());
+		task.start();
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		task.cancel();
+		assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+}
@@ -0,0 +1,338 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.deploy;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.spring.maven.central.deploy.ArtifactAwaiter.Options;
+import io.spring.maven.central.log.Logger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.web.client.RestClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link ArtifactAwaiterImpl}.
+ *
+ * @author Moritz Halbritter
+ */
+class ArtifactAwaiterImplTests {
+
+	private static final Coordinates BOM = Coordinates.parse("com.example:bom:1.0.0");
+
+	private static final Coordinates LIB = Coordinates.parse("com.example:lib:1.0.0");
+
+	private final Queue<String> requests = new ConcurrentLinkedQueue<>();
+
+	private HttpServer server;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		this.server.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		this.server.stop(0);
+	}
+
+	@Test
+	void jarProbeShouldAwaitJar() {
+		AtomicInteger calls = new AtomicInteger();
+		this.server.createContext("/com/example/lib/1.0.0/lib-1.0.0.jar", (exchange) -> {
+			record(exchange);
+			respond(exchange, (calls.incrementAndGet() < 3) ? 404 : 200, null);
+		});
+		createAwaiter(ArtifactProbe.JAR, Duration.ofSeconds(10)).await(LIB);
+		assertThat(this.requests).containsExactly("HEAD", "HEAD", "HEAD");
+	}
+
+	@Test
+	void pomProbeShouldAwaitPom() {
+		this.server.createContext("/com/example/bom/1.0.0/bom-1.0.0.pom", (exchange) -> {
+			record(exchange);
+			respond(exchange, 200, null);
+		});
+		createAwaiter(ArtifactProbe.POM, Duration.ofSeconds(10)).await(BOM);
+		assertThat(this.requests).containsExactly("HEAD");
+	}
+
+	@Test
+	void metadataProbeShouldUseConditionalRequests() {
+		AtomicInteger calls = new AtomicInteger();
+		this.server.createContext("/com/example/bom/maven-metadata.xml", (exchange) -> {
+			record(exchange);
+			int call = calls.incrementAndGet();
+			if (call == 1) {
+				exchange.getResponseHeaders().set("ETag", "\"v1\"");
+				respond(exchange, 200, metadata("0.9.0"));
+			}
+			else if (call == 2) {
+				respond(exchange, 304, null);
+			}
+			else {
+				exchange.getResponseHeaders().set("ETag", "\"v2\"");
+				respond(exchange, 200, metadata("0.9.0", "1.0.0"));
+			}
+		});
+		createAwaiter(ArtifactProbe.METADATA, Duration.ofSeconds(10)).await(BOM);
+		assertThat(this.requests).containsExactly("GET", "GET If-None-Match: \"v1\"", "GET If-None-Match: \"v1\"");
+	}
+
+	@Test
+	void metadataProbeShouldFallBackToPom() {
+		this.server.createContext("/com/example/bom/maven-metadata.xml", (exchange) -> {
+			record(exchange);
+			respond(exchange, 200, metadata("0.9.0"));
+		});
+		this.server.createContext("/com/example/bom/1.0.0/bom-1.0.0.pom", (exchange) -> {
+			record(exchange);
+			respond(exchange, 200, null);
+		});
+		createAwaiter(ArtifactProbe.METADATA, Duration.ofSeconds(10)).await(BOM);
+		assertThat(this.requests).containsExactly("GET", "HEAD");
+	}
+
+	@Test
+	void metadataProbeShouldProbePomOnlyOccasionallyWhileMetadataIsUnchanged() {
+		this.server.createContext("/com/example/bom/maven-metadata.xml", (exchange) -> {
+			record(exchange);
+			if (exchange.getRequestHeaders().containsKey("If-None-Match")) {
+				respond(exchange, 304, null);
+				return;
+			}
+			exchange.getResponseHeaders().set("ETag", "\"v1\"");
+			respond(exchange, 200, metadata("0.9.0"));
+		});
+		AtomicInteger pomCalls = new AtomicInteger();
+		this.server.createContext("/com/example/bom/1.0.0/bom-1.0.0.pom", (exchange) -> {
+			record(exchange);
+			respond(exchange, (pomCalls.incrementAndGet() == 1) ? 404 : 200, null);
+		});
+		createAwaiter(ArtifactProbe.METADATA, Duration.ofSeconds(10)).await(BOM);
+		List<String> expected = new ArrayList<>(List.of("GET", "HEAD"));
+		expected.addAll(Collections.nCopies(9, "GET If-None-Match: \"v1\""));
+		expected.add("HEAD");
+		assertThat(this.requests).containsExactlyElementsOf(expected);
+	}
+
+	@Test
+	void metadataProbeShouldParseVersions() {
+		this.server.createContext("/com/example/bom/maven-metadata.xml", (exchange) -> respond(exchange, 200, """
+				<?xml version="1.0" encoding="UTF-8"?>
+				<metadata>
+				  <versioning>
+				    <versions>
+				      <version>
+				        1.0.0
+				      </version>
+				    </versions>
+				  </versioning>
+				</metadata>
+				"""));
+		createAwaiter(ArtifactProbe.METADATA, Duration.ofSeconds(10)).await(BOM);
+	}
+
+	@Test
+	void metadataProbeShouldIgnoreVersionsInComments() {
+		this.server.createContext("/com/example/bom/maven-metadata.xml",
+				(exchange) -> respond(exchange, 200,
+						"<metadata><!-- <version>1.0.0</version> --><versioning><versions><version>0.9.0</version>"
+								+ "</versions></versioning></metadata>"));
+		assertThatExceptionOfType(ArtifactAwaitException.class)
+			.isThrownBy(() -> createAwaiter(ArtifactProbe.METADATA, Duration.ofMillis(200)).await(BOM));
+	}
+
+	@Test
+	void metadataProbeShouldIgnoreVersionsOutsideVersioning() {
+		this.server.createContext("/com/example/bom/maven-metadata.xml",
+				(exchange) -> respond(exchange, 200,
+						"<metadata><version>1.0.0</version><versioning><versions><version>0.9.0</version>"
+								+ "</versions></versioning></metadata>"));
+		assertThatExceptionOfType(ArtifactAwaitException.class)
+			.isThrownBy(() -> createAwaiter(ArtifactProbe.METADATA, Duration.ofMillis(200)).await(BOM));
+	}
+
+	@Test
+	void shouldReportArtifactsWhichAreNotAvailable() {
+		this.server.createContext("/com/example/lib/1.0.0/lib-1.0.0.pom", (exchange) -> respond(exchange, 200, null));
+		this.server.createContext("/com/example/bom/1.0.0/bom-1.0.0.pom", (exchange) -> respond(exchange, 404, null));
+		ArtifactAwaiter awaiter = createAwaiter(ArtifactProbe.POM, Duration.ofMillis(500));
+		assertThatExceptionOfType(ArtifactAwaitException.class).isThrownBy(() -> awaiter.await(List.of(LIB, BOM)))
+			.withMessageContaining("- com.example:lib:1.0.0: available after")
+			.withMessageContaining("- com.example:bom:1.0.0: not available");
+	}
+
+	@Test
+	void shouldApplyTimeoutToAllArtifactsTogether() {
+		this.server.createContext("/", (exchange) -> {
+			record(exchange);
+			respond(exchange, 404, null);
+		});
+		// The time passes once the artifacts are awaited together
+		SteppingClock clock = new SteppingClock(Duration.ofSeconds(10));
+		Map<Coordinates, Duration> elapsed = new ConcurrentHashMap<>();
+		ArtifactAwaiter awaiter = new ArtifactAwaiterImpl(Logger.noop(), Duration.ofSeconds(5), Duration.ofMillis(10),
+				List.of(uri("/")), RestClient.builder(), Options.defaults().withProbe(ArtifactProbe.POM), clock) {
+
+			@Override
+			public void await(Coordinates coordinates, Duration elapsedSoFar) {
+				elapsed.put(coordinates, elapsedSoFar);
+				super.await(coordinates, elapsedSoFar);
+			}
+
+		};
+		Coordinates starter = Coordinates.parse("com.example:starter:1.0.0");
+		assertThatExceptionOfType(ArtifactAwaitException.class)
+			.isThrownBy(() -> awaiter.await(List.of(LIB, BOM, starter)))
+			.withMessageContaining("- com.example:lib:1.0.0: not available")
+			.withMessageContaining("- com.example:bom:1.0.0: not available")
+			.withMessageContaining("- com.example:starter:1.0.0: not available");
+		assertThat(elapsed).containsOnlyKeys(LIB, BOM, starter);
+		assertThat(elapsed.values()).containsOnly(Duration.ofSeconds(10));
+		assertThat(this.requests).isEmpty();
+	}
+
+	@Test
+	void shouldCountElapsedTimeAgainstTimeout() {
+		this.server.createContext("/com/example/lib/1.0.0/lib-1.0.0.pom", (exchange) -> {
+			record(exchange);
+			respond(exchange, 200, null);
+		});
+		ArtifactAwaiter awaiter = createAwaiter(ArtifactProbe.POM, Duration.ofMillis(500));
+		assertThatExceptionOfType(ArtifactAwaitException.class)
+			.isThrownBy(() -> awaiter.await(LIB, Duration.ofSeconds(1)));
+		assertThat(this.requests).isEmpty();
+	}
+
+	@Test
+	void shouldAwaitQuorumOfRepositories() {
+		this.server.createContext("/a/com/example/lib/1.0.0/lib-1.0.0.pom", (exchange) -> respond(exchange, 200, null));
+		this.server.createContext("/b/com/example/lib/1.0.0/lib-1.0.0.pom", (exchange) -> respond(exchange, 404, null));
+		this.server.createContext("/c/com/example/lib/1.0.0/lib-1.0.0.pom", (exchange) -> respond(exchange, 200, null));
+		createAwaiter(List.of(uri("/a/"), uri("/b/"), uri("/c/")), 2, Duration.ofSeconds(10)).await(LIB);
+	}
+
+	@Test
+	void shouldFailIfQuorumOfRepositoriesIsNotReached() {
+		this.server.createContext("/a/com/example/lib/1.0.0/lib-1.0.0.pom", (exchange) -> respond(exchange, 200, null));
+		this.server.createContext("/b/com/example/lib/1.0.0/lib-1.0.0.pom", (exchange) -> respond(exchange, 404, null));
+		ArtifactAwaiter awaiter = createAwaiter(List.of(uri("/a/"), uri("/b/")), 2, Duration.ofMillis(500));
+		assertThatExceptionOfType(ArtifactAwaitException.class).isThrownBy(() -> awaiter.await(LIB))
+			.withMessageContaining("to be available on 2 of 2 repositories, available on [%s]".formatted(uri("/a/")));
+	}
+
+	private ArtifactAwaiter createAwaiter(ArtifactProbe probe, Duration timeout) {
+		return new ArtifactAwaiterImpl(Logger.noop(), timeout, Duration.ofMillis(10), List.of(uri("/")),
+				RestClient.builder(), Options.defaults().withProbe(probe));
+	}
+
+	private ArtifactAwaiter createAwaiter(List<URI> baseUris, int quorum, Duration timeout) {
+		return new ArtifactAwaiterImpl(Logger.noop(), timeout, Duration.ofMillis(10), baseUris, RestClient.builder(),
+				Options.defaults().withQuorum(quorum).withProbe(ArtifactProbe.POM));
+	}
+
+	private URI uri(String path) {
+		return URI.create("http://localhost:%d%s".formatted(this.server.getAddress().getPort(), path));
+	}
+
+	private void record(HttpExchange exchange) {
+		String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+		this.requests
+			.add(exchange.getRequestMethod() + ((ifNoneMatch != null) ? " If-None-Match: " + ifNoneMatch : ""));
+	}
+
+	private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+		if (body == null || exchange.getRequestMethod().equals("HEAD")) {
+			exchange.sendResponseHeaders(status, -1);
+			exchange.close();
+			return;
+		}
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.sendResponseHeaders(status, bytes.length);
+		try (OutputStream stream = exchange.getResponseBody()) {
+			stream.write(bytes);
+		}
+	}
+
+	private static String metadata(String... versions) {
+		StringBuilder result = new StringBuilder("<metadata><versioning><versions>");
+		for (String version : versions) {
+			result.append("<version>").append(version).append("</version>");
+		}
+		return result.append("</versions></versioning></metadata>").toString();
+	}
+
+	/**
+	 * {@link Clock} which returns its start on the first call and the start plus the step
+	 * on every following call.
+	 */
+	private static final class SteppingClock extends Clock {
+
+		private final Instant start = Instant.parse("2025-01-01T00:00:00Z");
+
+		private final Duration step;
+
+		private final AtomicBoolean started = new AtomicBoolean();
+
+		SteppingClock(Duration step) {
+			this.step = step;
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Instant instant() {
+			return this.started.compareAndSet(false, true) ? this.start : this.start.plus(this.step);
+		}
+
+	}
+
+}
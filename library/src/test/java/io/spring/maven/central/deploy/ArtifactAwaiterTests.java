@@ -0,0 +1,60 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.deploy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.spring.maven.central.util.Concurrency;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ArtifactAwaiter}.
+ *
+ * @author Moritz Halbritter
+ */
+class ArtifactAwaiterTests {
+
+	private static final Coordinates BOM = Coordinates.parse("com.example:bom:1.0.0");
+
+	private static final Coordinates LIB = Coordinates.parse("com.example:lib:1.0.0");
+
+	@Test
+	void shouldAwaitSingleArtifactWithoutElapsedTime() {
+		List<Duration> elapsed = new ArrayList<>();
+		ArtifactAwaiter awaiter = (coordinates, duration) -> elapsed.add(duration);
+		awaiter.await(LIB);
+		assertThat(elapsed).containsExactly(Duration.ZERO);
+	}
+
+	@Test
+	void shouldCountTimeSpentOnPreviousArtifactsAgainstTimeout() {
+		Duration delay = Duration.ofMillis(50);
+		List<Duration> elapsed = new ArrayList<>();
+		ArtifactAwaiter awaiter = (coordinates, duration) -> {
+			elapsed.add(duration);
+			Concurrency.sleep(delay);
+		};
+		awaiter.await(List.of(LIB, BOM));
+		assertThat(elapsed).hasSize(2);
+		assertThat(elapsed.get(1)).isGreaterThanOrEqualTo(elapsed.get(0).plus(delay));
+	}
+
+}
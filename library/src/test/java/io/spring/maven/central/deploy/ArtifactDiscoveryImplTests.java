@@ -0,0 +1,106 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.deploy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.spring.maven.central.file.FileSet;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ArtifactDiscoveryImpl}.
+ *
+ * @author Moritz Halbritter
+ */
+class ArtifactDiscoveryImplTests {
+
+	@TempDir
+	private Path root;
+
+	@Test
+	void shouldDiscoverArtifactsFromLayout() throws IOException {
+		FileSet files = files("com/example/lib/1.0.0/lib-1.0.0.pom", "com/example/lib/1.0.0/lib-1.0.0.jar",
+				"com/example/lib/1.0.0/lib-1.0.0-sources.jar", "org/example/app/2.0.0/app-2.0.0.pom",
+				"org/example/app/2.0.0/app-2.0.0.jar");
+		List<Coordinates> artifacts = new ArtifactDiscoveryImpl(Integer.MAX_VALUE, true).discover(this.root, files);
+		assertThat(artifacts).containsExactly(Coordinates.parse("com.example:lib:1.0.0"),
+				Coordinates.parse("org.example:app:2.0.0"));
+	}
+
+	@Test
+	void shouldSkipArtifactsWithoutJar() throws IOException {
+		FileSet files = files("com/example/bom/1.0.0/bom-1.0.0.pom", "com/example/lib/1.0.0/lib-1.0.0.pom",
+				"com/example/lib/1.0.0/lib-1.0.0.jar");
+		List<Coordinates> artifacts = new ArtifactDiscoveryImpl(Integer.MAX_VALUE, true).discover(this.root, files);
+		assertThat(artifacts).containsExactly(Coordinates.parse("com.example:lib:1.0.0"));
+	}
+
+	@Test
+	void shouldDiscoverArtifactsWithoutJarIfJarIsNotRequired() throws IOException {
+		FileSet files = files("com/example/bom/1.0.0/bom-1.0.0.pom", "com/example/lib/1.0.0/lib-1.0.0.pom",
+				"com/example/lib/1.0.0/lib-1.0.0.jar");
+		List<Coordinates> artifacts = new ArtifactDiscoveryImpl(Integer.MAX_VALUE, false).discover(this.root, files);
+		assertThat(artifacts).containsExactly(Coordinates.parse("com.example:bom:1.0.0"),
+				Coordinates.parse("com.example:lib:1.0.0"));
+	}
+
+	@Test
+	void shouldSkipPomsNotFollowingTheLayout() throws IOException {
+		FileSet files = files("lib-1.0.0.pom", "lib-1.0.0.jar", "com/example/lib/1.0.0/other.pom",
+				"com/example/lib/1.0.0/other.jar");
+		List<Coordinates> artifacts = new ArtifactDiscoveryImpl(Integer.MAX_VALUE, true).discover(this.root, files);
+		assertThat(artifacts).isEmpty();
+	}
+
+	@Test
+	void shouldSampleEvenlySpacedArtifacts() throws IOException {
+		List<String> paths = new ArrayList<>();
+		for (int i = 0; i < 6; i++) {
+			paths.add("com/example/lib%d/1.0.0/lib%d-1.0.0.pom".formatted(i, i));
+			paths.add("com/example/lib%d/1.0.0/lib%d-1.0.0.jar".formatted(i, i));
+		}
+		FileSet files = files(paths.toArray(String[]::new));
+		List<Coordinates> artifacts = new ArtifactDiscoveryImpl(3, true).discover(this.root, files);
+		assertThat(artifacts).containsExactly(Coordinates.parse("com.example:lib0:1.0.0"),
+				Coordinates.parse("com.example:lib2:1.0.0"), Coordinates.parse("com.example:lib4:1.0.0"));
+	}
+
+	@Test
+	void noneShouldNotDiscoverArtifacts() throws IOException {
+		FileSet files = files("com/example/lib/1.0.0/lib-1.0.0.pom", "com/example/lib/1.0.0/lib-1.0.0.jar");
+		assertThat(ArtifactDiscovery.none().discover(this.root, files)).isEmpty();
+	}
+
+	private FileSet files(String... paths) throws IOException {
+		List<Path> files = new ArrayList<>();
+		for (String path : paths) {
+			Path file = this.root.resolve(path);
+			Files.createDirectories(file.getParent());
+			Files.createFile(file);
+			files.add(file);
+		}
+		return FileSet.of(files);
+	}
+
+}
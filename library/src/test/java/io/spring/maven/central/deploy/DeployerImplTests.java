@@ -0,0 +1,344 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.deploy;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import io.spring.maven.central.bundle.Bundle;
+import io.spring.maven.central.bundle.BundleSplitter;
+import io.spring.maven.central.bundle.Bundler;
+import io.spring.maven.central.checksum.ChecksumCreator;
+import io.spring.maven.central.checksum.ChecksumPolicy;
+import io.spring.maven.central.deploy.Deployer.Result;
+import io.spring.maven.central.deploy.DeploymentMetrics.Phase;
+import io.spring.maven.central.deploy.DeploymentMetrics.PhaseMetrics;
+import io.spring.maven.central.file.FileScanner;
+import io.spring.maven.central.log.Logger;
+import io.spring.maven.central.sonatype.CentralPortalApi;
+import io.spring.maven.central.sonatype.Deployment;
+import io.spring.maven.central.sonatype.Errors;
+import io.spring.maven.central.sonatype.PublishingType;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.util.unit.DataSize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link DeployerImpl}.
+ *
+ * @author Moritz Halbritter
+ */
+class DeployerImplTests {
+
+	private static final DataSize MAX_BUNDLE_SIZE = DataSize.ofKilobytes(16);
+
+	@TempDir
+	private Path root;
+
+	private final FakeCentralPortalApi centralPortalApi = new FakeCentralPortalApi();
+
+	@BeforeEach
+	void setUp() throws IOException {
+		Random random = new Random(0);
+		for (String artifact : List.of("a", "b", "c")) {
+			Path directory = this.root.resolve("com/example/%s/1.0.0".formatted(artifact));
+			Files.createDirectories(directory);
+			byte[] content = new byte[10 * 1024];
+			random.nextBytes(content);
+			Files.write(directory.resolve("%s-1.0.0.jar".formatted(artifact)), content);
+			Files.writeString(directory.resolve("%s-1.0.0.pom".formatted(artifact)), "<project/>");
+		}
+	}
+
+	@Test
+	void shouldDeploySingleBundleWithConfiguredPublishingType() {
+		DeployerImpl deployer = createDeployer(PublishingType.AUTOMATIC, BundleSplitter.none());
+		Result result = deployer.deploy(this.root, true, false, List.of(), "release");
+		assertThat(result.status()).isEqualTo(Result.Status.SUCCESS);
+		assertThat(this.centralPortalApi.deployments).singleElement().satisfies((deployment) -> {
+			assertThat(deployment.name).isEqualTo("release");
+			assertThat(deployment.publishingType).isEqualTo(PublishingType.AUTOMATIC);
+			assertThat(deployment.entries).hasSize(6);
+		});
+	}
+
+	@Test
+	void shouldGroupFilesOfArtifactVersionIntoOneBundle() {
+		DeployerImpl deployer = createDeployer(PublishingType.AUTOMATIC, BundleSplitter.create(MAX_BUNDLE_SIZE));
+		deployer.deploy(this.root, true, false, List.of(), "release");
+		assertThat(this.centralPortalApi.deployments).hasSize(3).allSatisfy((deployment) -> {
+			Set<String> directories = deployment.entries.stream()
+				.map((entry) -> entry.substring(0, entry.lastIndexOf('/')))
+				.collect(Collectors.toSet());
+			assertThat(directories).hasSize(1);
+			assertThat(deployment.entries).hasSize(2);
+		});
+		assertThat(this.centralPortalApi.deployments).extracting((deployment) -> deployment.name)
+			.containsExactlyInAnyOrder("release (1/3)", "release (2/3)", "release (3/3)");
+	}
+
+	@Test
+	void shouldPublishSplitDeploymentsOnceAllAreValidated() {
+		DeployerImpl deployer = createDeployer(PublishingType.AUTOMATIC, BundleSplitter.create(MAX_BUNDLE_SIZE));
+		Result result = deployer.deploy(this.root, true, false, List.of(), "release");
+		assertThat(result.status()).isEqualTo(Result.Status.SUCCESS);
+		assertThat(result.deployments()).hasSize(3)
+			.containsExactlyInAnyOrderElementsOf(this.centralPortalApi.deployments)
+			.allSatisfy((deployment) -> assertThat(deployment.getStatus()).isEqualTo(Deployment.Status.PUBLISHED));
+		assertThat(this.centralPortalApi.deployments).allSatisfy((deployment) -> {
+			assertThat(deployment.publishingType).isEqualTo(PublishingType.USER_MANAGED);
+			assertThat(deployment.published).isTrue();
+			assertThat(deployment.dropped).isFalse();
+		});
+	}
+
+	@Test
+	void shouldNotPublishSplitDeploymentsIfPublishingTypeIsUserManaged() {
+		DeployerImpl deployer = createDeployer(PublishingType.USER_MANAGED, BundleSplitter.create(MAX_BUNDLE_SIZE));
+		Result result = deployer.deploy(this.root, true, false, List.of(), "release");
+		assertThat(result.status()).isEqualTo(Result.Status.SUCCESS);
+		assertThat(result.deployments()).hasSize(3)
+			.allSatisfy((deployment) -> assertThat(deployment.getStatus()).isEqualTo(Deployment.Status.VALIDATED));
+		assertThat(this.centralPortalApi.deployments).noneMatch((deployment) -> deployment.published);
+	}
+
+	@Test
+	void shouldDropAllSplitDeploymentsIfOneFailsValidation() {
+		this.centralPortalApi.failValidationOf = "release (2/3)";
+		DeployerImpl deployer = createDeployer(PublishingType.AUTOMATIC, BundleSplitter.create(MAX_BUNDLE_SIZE));
+		Result result = deployer.deploy(this.root, false, false, List.of(), "release");
+		assertThat(result.status()).isEqualTo(Result.Status.FAILURE);
+		assertThat(result.deployments()).hasSize(3);
+		assertThat(this.centralPortalApi.deployments).hasSize(3).allSatisfy((deployment) -> {
+			assertThat(deployment.published).isFalse();
+			assertThat(deployment.dropped).isTrue();
+		});
+	}
+
+	@Test
+	void shouldDropUploadedDeploymentsIfUploadOfSplitBundleFails() {
+		this.centralPortalApi.failUploadOf = "release (3/3)";
+		DeployerImpl deployer = createDeployer(PublishingType.AUTOMATIC, BundleSplitter.create(MAX_BUNDLE_SIZE));
+		assertThatIllegalStateException()
+			.isThrownBy(() -> deployer.deploy(this.root, false, false, List.of(), "release"))
+			.withMessage("Upload of 'release (3/3)' failed");
+		assertThat(this.centralPortalApi.deployments).hasSize(2).allSatisfy((deployment) -> {
+			assertThat(deployment.published).isFalse();
+			assertThat(deployment.dropped).isTrue();
+		});
+	}
+
+	@Test
+	void shouldKeepMetricsIfDeploymentFails() {
+		this.centralPortalApi.failUploadOf = "release (3/3)";
+		DeployerImpl deployer = createDeployer(PublishingType.AUTOMATIC, BundleSplitter.create(MAX_BUNDLE_SIZE));
+		DeploymentMetrics metrics = new DeploymentMetrics();
+		assertThatIllegalStateException()
+			.isThrownBy(() -> deployer.deploy(this.root, false, false, List.of(), "release", metrics));
+		assertThat(metrics.getPhases()).containsKeys(Phase.SCAN, Phase.BUNDLE);
+		assertThat(metrics.getTotal()).isPositive();
+		assertThat(metrics.getDeployments()).hasSize(2)
+			.containsExactlyInAnyOrderElementsOf(this.centralPortalApi.deployments);
+	}
+
+	@Test
+	void shouldRecordValidationAndPublishingOfSplitDeploymentsSeparately() {
+		DeployerImpl deployer = createDeployer(PublishingType.AUTOMATIC, BundleSplitter.create(MAX_BUNDLE_SIZE));
+		Result result = deployer.deploy(this.root, true, false, List.of(), "release");
+		assertThat(result.metrics().getPhases()).containsKeys(Phase.VALIDATE, Phase.PUBLISH);
+	}
+
+	@Test
+	void shouldNotRecordPublishingIfPublishingTypeIsUserManaged() {
+		DeployerImpl deployer = createDeployer(PublishingType.USER_MANAGED, BundleSplitter.none());
+		Result result = deployer.deploy(this.root, true, false, List.of(), "release");
+		assertThat(result.metrics().getPhases()).containsKey(Phase.VALIDATE).doesNotContainKey(Phase.PUBLISH);
+	}
+
+	@Test
+	void shouldRecordChecksummedFiles() {
+		DeployerImpl deployer = createDeployer(PublishingType.AUTOMATIC,
+				Deployer.Options.defaults().withWriteChecksumFiles(true));
+		Result result = deployer.deploy(this.root, true, false, List.of(), "release");
+		PhaseMetrics checksum = result.metrics().get(Phase.CHECKSUM);
+		assertThat(checksum).isNotNull();
+		assertThat(checksum.files()).isEqualTo(6);
+		assertThat(checksum.bytes()).isEqualTo(3 * (10 * 1024 + "<project/>".length()));
+	}
+
+	private DeployerImpl createDeployer(PublishingType publishingType, BundleSplitter bundleSplitter) {
+		return createDeployer(publishingType,
+				Deployer.Options.defaults().withWriteChecksumFiles(false).withBundleSplitter(bundleSplitter));
+	}
+
+	private DeployerImpl createDeployer(PublishingType publishingType, Deployer.Options options) {
+		return new DeployerImpl(Logger.noop(), publishingType, FileScanner.create(),
+				ChecksumCreator.create(Logger.noop(), ChecksumPolicy.OVERWRITE_EXISTING), Bundler.create(),
+				this.centralPortalApi, ArtifactAwaiter.noop(), options);
+	}
+
+	private static final class FakeCentralPortalApi implements CentralPortalApi {
+
+		private final List<FakeDeployment> deployments = new CopyOnWriteArrayList<>();
+
+		private @Nullable String failUploadOf;
+
+		private @Nullable String failValidationOf;
+
+		@Override
+		public Deployment upload(Bundle bundle, PublishingType publishingType, @Nullable String deploymentName) {
+			if (deploymentName != null && deploymentName.equals(this.failUploadOf)) {
+				throw new IllegalStateException("Upload of '%s' failed".formatted(deploymentName));
+			}
+			List<String> entries = new ArrayList<>();
+			try (ZipFile zipFile = new ZipFile(bundle.getFile().toFile(), StandardCharsets.UTF_8)) {
+				zipFile.stream()
+					.map(ZipEntry::getName)
+					.filter((name) -> !name.endsWith(".md5") && !name.endsWith(".sha1"))
+					.forEach(entries::add);
+			}
+			catch (IOException ex) {
+				throw new IllegalStateException(ex);
+			}
+			boolean fail = deploymentName != null && deploymentName.equals(this.failValidationOf);
+			FakeDeployment deployment = new FakeDeployment("deployment-" + (this.deployments.size() + 1),
+					deploymentName, publishingType, entries, fail);
+			this.deployments.add(deployment);
+			return deployment;
+		}
+
+		@Override
+		public Deployment upload(BundleWriter bundleWriter, PublishingType publishingType,
+				@Nullable String deploymentName) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public CompletableFuture<Deployment> uploadAsync(Bundle bundle, PublishingType publishingType,
+				@Nullable String deploymentName) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public CompletableFuture<Deployment> uploadAsync(BundleWriter bundleWriter, PublishingType publishingType,
+				@Nullable String deploymentName) {
+			throw new UnsupportedOperationException();
+		}
+
+	}
+
+	private static final class FakeDeployment implements Deployment {
+
+		private final String id;
+
+		private final @Nullable String name;
+
+		private final PublishingType publishingType;
+
+		private final List<String> entries;
+
+		private final boolean failValidation;
+
+		private volatile @Nullable Status status;
+
+		private volatile boolean published;
+
+		private volatile boolean dropped;
+
+		FakeDeployment(String id, @Nullable String name, PublishingType publishingType, List<String> entries,
+				boolean failValidation) {
+			this.id = id;
+			this.name = name;
+			this.publishingType = publishingType;
+			this.entries = entries;
+			this.failValidation = failValidation;
+		}
+
+		@Override
+		public String getId() {
+			return this.id;
+		}
+
+		@Override
+		public Status getStatus() {
+			Status status = this.status;
+			assertThat(status).as("status").isNotNull();
+			return status;
+		}
+
+		@Override
+		public Errors getErrors() {
+			return Errors.empty();
+		}
+
+		@Override
+		public void awaitFinalStatus() {
+			pollStatus();
+		}
+
+		@Override
+		public @Nullable Duration pollStatus() {
+			if (this.failValidation) {
+				this.status = Status.FAILED;
+			}
+			else if (this.published || this.publishingType == PublishingType.AUTOMATIC) {
+				this.status = Status.PUBLISHED;
+			}
+			else {
+				this.status = Status.VALIDATED;
+			}
+			return null;
+		}
+
+		@Override
+		public @Nullable Status getPolledStatus() {
+			return this.status;
+		}
+
+		@Override
+		public void drop() {
+			assertThat(this.status).isIn(Status.VALIDATED, Status.FAILED);
+			this.dropped = true;
+		}
+
+		@Override
+		public void publish() {
+			assertThat(this.status).isEqualTo(Status.VALIDATED);
+			this.published = true;
+		}
+
+	}
+
+}
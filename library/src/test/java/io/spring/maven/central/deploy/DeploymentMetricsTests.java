@@ -0,0 +1,97 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.deploy;
+
+import java.time.Duration;
+
+import io.spring.maven.central.bundle.BundleStatistics;
+import io.spring.maven.central.deploy.DeploymentMetrics.Phase;
+import io.spring.maven.central.deploy.DeploymentMetrics.PhaseMetrics;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.util.unit.DataSize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link DeploymentMetrics}.
+ *
+ * @author Moritz Halbritter
+ */
+class DeploymentMetricsTests {
+
+	private static final long MEGABYTE = 1024 * 1024;
+
+	@Test
+	void shouldAddUpRunsOfTheSamePhase() {
+		DeploymentMetrics metrics = new DeploymentMetrics();
+		metrics.record(Phase.UPLOAD, Duration.ofSeconds(1), MEGABYTE, 2);
+		metrics.record(Phase.UPLOAD, Duration.ofSeconds(3), 3 * MEGABYTE, 4);
+		assertThat(metrics.get(Phase.UPLOAD)).isEqualTo(new PhaseMetrics(Duration.ofSeconds(4), 4 * MEGABYTE, 6));
+		assertThat(metrics.get(Phase.UPLOAD).megabytesPerSecond()).isEqualTo(1.0);
+		assertThat(metrics.get(Phase.BUNDLE)).isNull();
+	}
+
+	@Test
+	void shouldReturnPhasesInOrder() {
+		DeploymentMetrics metrics = new DeploymentMetrics();
+		metrics.record(Phase.VALIDATE, Duration.ofSeconds(1), 0, 0);
+		metrics.record(Phase.SCAN, Duration.ofSeconds(1), 0, 0);
+		assertThat(metrics.getPhases()).containsOnlyKeys(Phase.SCAN, Phase.VALIDATE);
+		assertThat(metrics.getPhases().keySet()).containsExactly(Phase.SCAN, Phase.VALIDATE);
+	}
+
+	@Test
+	void shouldUseSumOfPhasesIfTotalHasNotBeenRecorded() {
+		DeploymentMetrics metrics = new DeploymentMetrics();
+		metrics.record(Phase.SCAN, Duration.ofSeconds(1), 0, 0);
+		metrics.record(Phase.UPLOAD, Duration.ofSeconds(2), 0, 0);
+		assertThat(metrics.getTotal()).isEqualTo(Duration.ofSeconds(3));
+		metrics.recordTotal(Duration.ofSeconds(5));
+		assertThat(metrics.getTotal()).isEqualTo(Duration.ofSeconds(5));
+	}
+
+	@Test
+	void shouldCalculateCompressionRatio() {
+		DeploymentMetrics metrics = new DeploymentMetrics();
+		assertThat(metrics.getCompressionRatio()).isNull();
+		metrics
+			.recordBundle(new BundleStatistics(1, 1, DataSize.ofMegabytes(3), DataSize.ofMegabytes(1), Duration.ZERO));
+		metrics
+			.recordBundle(new BundleStatistics(1, 1, DataSize.ofMegabytes(1), DataSize.ofMegabytes(1), Duration.ZERO));
+		assertThat(metrics.getUncompressedBundleSize()).isEqualTo(4 * MEGABYTE);
+		assertThat(metrics.getBundleSize()).isEqualTo(2 * MEGABYTE);
+		assertThat(metrics.getCompressionRatio()).isEqualTo(0.5);
+	}
+
+	@Test
+	void shouldRenderTable() {
+		DeploymentMetrics metrics = new DeploymentMetrics();
+		metrics.record(Phase.SCAN, Duration.ofMillis(250), 4 * MEGABYTE, 12);
+		metrics.record(Phase.VALIDATE, Duration.ofSeconds(30), 0, 0);
+		metrics.record(Phase.PUBLISH, Duration.ofSeconds(20), 0, 0);
+		metrics.recordTotal(Duration.ofMillis(50500));
+		assertThat(metrics.toTable()).isEqualTo("""
+				| Phase | Duration | Files | Size | Throughput |
+				| :--- | ---: | ---: | ---: | ---: |
+				| Scan | 0.25 s | 12 | 4.00 MB | 16.00 MB/s |
+				| Validation | 30.00 s |  |  |  |
+				| Publishing | 20.00 s |  |  |  |
+				| Total | 50.50 s |  |  |  |""");
+	}
+
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.deploy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.spring.maven.central.sonatype.Deployment;
+import io.spring.maven.central.sonatype.Deployment.Status;
+import io.spring.maven.central.sonatype.Errors;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link DeploymentPoller}.
+ *
+ * @author Moritz Halbritter
+ */
+class DeploymentPollerTests {
+
+	private final DeploymentPoller poller = new DeploymentPoller();
+
+	@Test
+	void shouldAwaitSingleDeployment() {
+		PollingDeployment deployment = new PollingDeployment(3);
+		this.poller.awaitFinalStatus(List.of(deployment));
+		assertThat(deployment.getPolls()).isEqualTo(3);
+	}
+
+	@Test
+	void shouldAwaitAllDeployments() {
+		PollingDeployment deployment1 = new PollingDeployment(1);
+		PollingDeployment deployment2 = new PollingDeployment(5);
+		PollingDeployment deployment3 = new PollingDeployment(3);
+		this.poller.awaitFinalStatus(List.of(deployment1, deployment2, deployment3));
+		assertThat(deployment1.getPolls()).isEqualTo(1);
+		assertThat(deployment2.getPolls()).isEqualTo(5);
+		assertThat(deployment3.getPolls()).isEqualTo(3);
+	}
+
+	@Test
+	void shouldPollDeploymentsConcurrently() {
+		Queue<String> polledIds = new ConcurrentLinkedQueue<>();
+		List<Deployment> deployments = List.of(new PollingDeployment("a", 10, Duration.ofMillis(50), polledIds),
+				new PollingDeployment("b", 10, Duration.ofMillis(50), polledIds),
+				new PollingDeployment("c", 10, Duration.ofMillis(50), polledIds));
+		this.poller.awaitFinalStatus(deployments);
+		List<String> polls = List.copyOf(polledIds);
+		assertThat(polls).hasSize(30);
+		// Polling one after the other would only start with the next deployment once
+		// the previous one has reached its final status
+		assertThat(polls.indexOf("c")).isLessThan(polls.lastIndexOf("a"));
+		assertThat(polls.indexOf("a")).isLessThan(polls.lastIndexOf("c"));
+	}
+
+	@Test
+	void shouldNotifyStatusListenerWhenStatusChanges() {
+		PollingDeployment deployment = new PollingDeployment(3);
+		List<Status> statuses = new ArrayList<>();
+		this.poller.awaitFinalStatus(List.of(deployment), (polled, status) -> statuses.add(status));
+		assertThat(statuses).containsExactly(Status.VALIDATING, Status.PUBLISHED);
+	}
+
+	@Test
+	void shouldFailIfPollingFails() {
+		PollingDeployment deployment1 = new PollingDeployment(Integer.MAX_VALUE);
+		PollingDeployment deployment2 = new PollingDeployment(2, Duration.ofMillis(1), true);
+		assertThatIllegalStateException()
+			.isThrownBy(() -> this.poller.awaitFinalStatus(List.of(deployment1, deployment2)))
+			.withMessage("Polling failed");
+	}
+
+	private static final class PollingDeployment implements Deployment {
+
+		private final String id;
+
+		private final int pollsUntilFinal;
+
+		private final Duration delay;
+
+		private final boolean fail;
+
+		private final Queue<String> polledIds;
+
+		private final AtomicInteger polls = new AtomicInteger();
+
+		PollingDeployment(int pollsUntilFinal) {
+			this(pollsUntilFinal, Duration.ofMillis(1));
+		}
+
+		PollingDeployment(int pollsUntilFinal, Duration delay) {
+			this(pollsUntilFinal, delay, false);
+		}
+
+		PollingDeployment(int pollsUntilFinal, Duration delay, boolean fail) {
+			this("deployment-1", pollsUntilFinal, delay, fail, new ConcurrentLinkedQueue<>());
+		}
+
+		PollingDeployment(String id, int pollsUntilFinal, Duration delay, Queue<String> polledIds) {
+			this(id, pollsUntilFinal, delay, false, polledIds);
+		}
+
+		private PollingDeployment(String id, int pollsUntilFinal, Duration delay, boolean fail,
+				Queue<String> polledIds) {
+			this.id = id;
+			this.pollsUntilFinal = pollsUntilFinal;
+			this.delay = delay;
+			this.fail = fail;
+			this.polledIds = polledIds;
+		}
+
+		int getPolls() {
+			return this.polls.get();
+		}
+
+		@Override
+		public String getId() {
+			return this.id;
+		}
+
+		@Override
+		public Status getStatus() {
+			return Status.PUBLISHED;
+		}
+
+		@Override
+		public Errors getErrors() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void awaitFinalStatus() {
+			while (pollStatus() != null) {
+				// Poll again
+			}
+		}
+
+		@Override
+		public @Nullable Duration pollStatus() {
+			int polls = this.polls.incrementAndGet();
+			this.polledIds.add(this.id);
+			if (polls < this.pollsUntilFinal) {
+				return this.delay;
+			}
+			if (this.fail) {
+				throw new IllegalStateException("Polling failed");
+			}
+			return null;
+		}
+
+		@Override
+		public @Nullable Status getPolledStatus() {
+			return (this.polls.get() < this.pollsUntilFinal) ? Status.VALIDATING : Status.PUBLISHED;
+		}
+
+		@Override
+		public int getPollCount() {
+			return this.polls.get();
+		}
+
+		@Override
+		public void drop() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void publish() {
+			throw new UnsupportedOperationException();
+		}
+
+	}
+
+}
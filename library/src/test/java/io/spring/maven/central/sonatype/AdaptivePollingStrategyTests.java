@@ -0,0 +1,115 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.sonatype;
+
+import java.time.Duration;
+import java.util.Map;
+
+import io.spring.maven.central.sonatype.Deployment.Status;
+import io.spring.maven.central.sonatype.PollingStrategy.Backoff;
+import io.spring.maven.central.sonatype.PollingStrategy.Schedule;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link AdaptivePollingStrategy}.
+ *
+ * @author Moritz Halbritter
+ */
+class AdaptivePollingStrategyTests {
+
+	private static final Backoff BACKOFF = new Backoff(Duration.ofSeconds(1), Duration.ofSeconds(10), 2, 0);
+
+	@Test
+	void shouldBackOffExponentially() {
+		Schedule schedule = new AdaptivePollingStrategy(BACKOFF, Map.of()).start();
+		assertThat(schedule.next(Status.PENDING)).isEqualTo(Duration.ofSeconds(1));
+		assertThat(schedule.next(Status.PENDING)).isEqualTo(Duration.ofSeconds(2));
+		assertThat(schedule.next(Status.PENDING)).isEqualTo(Duration.ofSeconds(4));
+		assertThat(schedule.next(Status.PENDING)).isEqualTo(Duration.ofSeconds(8));
+	}
+
+	@Test
+	void shouldCapAtMaxInterval() {
+		Schedule schedule = new AdaptivePollingStrategy(BACKOFF, Map.of()).start();
+		for (int i = 0; i < 100; i++) {
+			schedule.next(Status.PENDING);
+		}
+		assertThat(schedule.next(Status.PENDING)).isEqualTo(Duration.ofSeconds(10));
+	}
+
+	@Test
+	void shouldStartOverWhenStatusChanges() {
+		Schedule schedule = new AdaptivePollingStrategy(BACKOFF, Map.of()).start();
+		schedule.next(Status.PENDING);
+		schedule.next(Status.PENDING);
+		assertThat(schedule.next(Status.PENDING)).isEqualTo(Duration.ofSeconds(4));
+		assertThat(schedule.next(Status.VALIDATING)).isEqualTo(Duration.ofSeconds(1));
+	}
+
+	@Test
+	void shouldKeepBackingOffIfStatusIsUnknown() {
+		Schedule schedule = new AdaptivePollingStrategy(BACKOFF, Map.of()).start();
+		assertThat(schedule.next(null)).isEqualTo(Duration.ofSeconds(1));
+		assertThat(schedule.next(Status.PENDING)).isEqualTo(Duration.ofSeconds(1));
+		assertThat(schedule.next(null)).isEqualTo(Duration.ofSeconds(2));
+		assertThat(schedule.next(Status.PENDING)).isEqualTo(Duration.ofSeconds(4));
+	}
+
+	@Test
+	void shouldUseStatusSpecificBackoff() {
+		Backoff publishing = new Backoff(Duration.ofSeconds(30), Duration.ofMinutes(5), 2, 0);
+		Schedule schedule = new AdaptivePollingStrategy(BACKOFF, Map.of(Status.PUBLISHING, publishing)).start();
+		assertThat(schedule.next(Status.VALIDATING)).isEqualTo(Duration.ofSeconds(1));
+		assertThat(schedule.next(Status.PUBLISHING)).isEqualTo(Duration.ofSeconds(30));
+		assertThat(schedule.next(Status.PUBLISHING)).isEqualTo(Duration.ofMinutes(1));
+	}
+
+	@Test
+	void shouldApplyJitter() {
+		Backoff backoff = new Backoff(Duration.ofSeconds(10), Duration.ofSeconds(20), 2, 0.5);
+		assertThat(new AdaptivePollingStrategy(backoff, Map.of(), () -> 0).start().next(Status.PENDING))
+			.isEqualTo(Duration.ofSeconds(5));
+		assertThat(new AdaptivePollingStrategy(backoff, Map.of(), () -> 0.5).start().next(Status.PENDING))
+			.isEqualTo(Duration.ofSeconds(10));
+		assertThat(new AdaptivePollingStrategy(backoff, Map.of(), () -> 1).start().next(Status.PENDING))
+			.isEqualTo(Duration.ofSeconds(15));
+	}
+
+	@Test
+	void shouldNotExceedMaxIntervalWithJitter() {
+		Backoff backoff = new Backoff(Duration.ofSeconds(10), Duration.ofSeconds(10), 2, 0.5);
+		Schedule schedule = new AdaptivePollingStrategy(backoff, Map.of(), () -> 1).start();
+		assertThat(schedule.next(Status.PENDING)).isEqualTo(Duration.ofSeconds(10));
+	}
+
+	@Test
+	void shouldValidateBackoff() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new Backoff(Duration.ofSeconds(10), Duration.ofSeconds(1), 2, 0))
+			.withMessage("'maxInterval' must be greater than or equal to 'initialInterval'");
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new Backoff(Duration.ofSeconds(1), Duration.ofSeconds(10), 0.5, 0))
+			.withMessage("'multiplier' must be greater than or equal to 1");
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new Backoff(Duration.ofSeconds(1), Duration.ofSeconds(10), 2, 2))
+			.withMessage("'jitter' must be between 0 and 1");
+	}
+
+}
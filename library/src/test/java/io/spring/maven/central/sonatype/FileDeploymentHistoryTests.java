@@ -0,0 +1,95 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.sonatype;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import io.spring.maven.central.log.Logger;
+import io.spring.maven.central.sonatype.Deployment.Status;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.util.unit.DataSize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link FileDeploymentHistory}.
+ *
+ * @author Moritz Halbritter
+ */
+class FileDeploymentHistoryTests {
+
+	@TempDir
+	private Path tempDir;
+
+	@Test
+	void shouldReturnNoDurationsIfFileDoesNotExist() {
+		DeploymentHistory history = createHistory();
+		assertThat(history.getExpectedDurations(DataSize.ofMegabytes(1), 10)).isEmpty();
+	}
+
+	@Test
+	void shouldReturnRecordedDurations() {
+		DeploymentHistory history = createHistory();
+		history.record(DataSize.ofMegabytes(1), 10,
+				Map.of(Status.PENDING, Duration.ofSeconds(2), Status.PUBLISHING, Duration.ofMinutes(5)));
+		assertThat(history.getExpectedDurations(DataSize.ofMegabytes(1), 10)).containsExactlyInAnyOrderEntriesOf(
+				Map.of(Status.PENDING, Duration.ofSeconds(2), Status.PUBLISHING, Duration.ofMinutes(5)));
+	}
+
+	@Test
+	void shouldPersistDurations() {
+		createHistory().record(DataSize.ofMegabytes(1), 10, Map.of(Status.VALIDATING, Duration.ofSeconds(20)));
+		assertThat(createHistory().getExpectedDurations(DataSize.ofMegabytes(1), 10)).containsEntry(Status.VALIDATING,
+				Duration.ofSeconds(20));
+	}
+
+	@Test
+	void shouldUseMedianOfSimilarDeployments() {
+		DeploymentHistory history = createHistory();
+		history.record(DataSize.ofKilobytes(1000), 10, Map.of(Status.VALIDATING, Duration.ofSeconds(10)));
+		history.record(DataSize.ofKilobytes(1010), 11, Map.of(Status.VALIDATING, Duration.ofSeconds(90)));
+		history.record(DataSize.ofKilobytes(1020), 12, Map.of(Status.VALIDATING, Duration.ofSeconds(20)));
+		assertThat(history.getExpectedDurations(DataSize.ofKilobytes(1005), 13)).containsEntry(Status.VALIDATING,
+				Duration.ofSeconds(20));
+	}
+
+	@Test
+	void shouldIgnoreDeploymentsOfDifferentSize() {
+		DeploymentHistory history = createHistory();
+		history.record(DataSize.ofMegabytes(100), 10, Map.of(Status.VALIDATING, Duration.ofMinutes(10)));
+		history.record(DataSize.ofMegabytes(1), 1000, Map.of(Status.VALIDATING, Duration.ofMinutes(10)));
+		assertThat(history.getExpectedDurations(DataSize.ofMegabytes(1), 10)).isEmpty();
+	}
+
+	@Test
+	void shouldIgnoreMalformedLines() throws IOException {
+		Files.writeString(this.tempDir.resolve("history.csv"), "garbage\n1,2,UNKNOWN,3\n1048576,10,PENDING,1500\n");
+		assertThat(createHistory().getExpectedDurations(DataSize.ofMegabytes(1), 10))
+			.containsExactlyEntriesOf(Map.of(Status.PENDING, Duration.ofMillis(1500)));
+	}
+
+	private DeploymentHistory createHistory() {
+		return new FileDeploymentHistory(Logger.noop(), this.tempDir.resolve("history.csv"));
+	}
+
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.sonatype;
+
+import java.time.Duration;
+
+import io.spring.maven.central.sonatype.Deployment.Status;
+import io.spring.maven.central.sonatype.PollingStrategy.Schedule;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link FixedPollingStrategy}.
+ *
+ * @author Moritz Halbritter
+ */
+class FixedPollingStrategyTests {
+
+	@Test
+	void shouldAlwaysReturnInterval() {
+		Schedule schedule = new FixedPollingStrategy(Duration.ofSeconds(5)).start();
+		assertThat(schedule.next(Status.PENDING)).isEqualTo(Duration.ofSeconds(5));
+		assertThat(schedule.next(Status.PENDING)).isEqualTo(Duration.ofSeconds(5));
+		assertThat(schedule.next(null)).isEqualTo(Duration.ofSeconds(5));
+		assertThat(schedule.next(Status.PUBLISHING)).isEqualTo(Duration.ofSeconds(5));
+	}
+
+}
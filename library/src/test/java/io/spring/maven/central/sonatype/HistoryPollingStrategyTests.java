@@ -0,0 +1,200 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.sonatype;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import io.spring.maven.central.sonatype.Deployment.Status;
+import io.spring.maven.central.sonatype.PollingStrategy.Schedule;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.util.unit.DataSize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link HistoryPollingStrategy}.
+ *
+ * @author Moritz Halbritter
+ */
+class HistoryPollingStrategyTests {
+
+	private static final Duration FALLBACK_INTERVAL = Duration.ofMinutes(1);
+
+	private static final DataSize BUNDLE_SIZE = DataSize.ofMegabytes(1);
+
+	private final InMemoryHistory history = new InMemoryHistory();
+
+	private final MutableClock clock = new MutableClock();
+
+	@Test
+	void shouldUseFallbackWithoutHistory() {
+		Schedule schedule = start();
+		assertThat(schedule.next(Status.PENDING)).isEqualTo(FALLBACK_INTERVAL);
+	}
+
+	@Test
+	void shouldUseFallbackIfSizeIsUnknown() {
+		this.history.expectedDurations.put(Status.PENDING, Duration.ofSeconds(5));
+		Schedule schedule = new HistoryPollingStrategy(this.history, PollingStrategy.fixed(FALLBACK_INTERVAL),
+				this.clock)
+			.start();
+		assertThat(schedule.next(Status.PENDING)).isEqualTo(FALLBACK_INTERVAL);
+	}
+
+	@Test
+	void shouldPollNearExpectedTransition() {
+		this.history.expectedDurations.put(Status.VALIDATING, Duration.ofSeconds(20));
+		Schedule schedule = start();
+		assertThat(schedule.next(Status.PENDING)).isEqualTo(FALLBACK_INTERVAL);
+		this.clock.advance(Duration.ofSeconds(4));
+		assertThat(schedule.next(Status.VALIDATING)).isEqualTo(Duration.ofSeconds(18));
+		this.clock.advance(Duration.ofSeconds(5));
+		assertThat(schedule.next(Status.VALIDATING)).isEqualTo(Duration.ofSeconds(13));
+	}
+
+	@Test
+	void shouldNotWaitLongerThanFallback() {
+		this.history.expectedDurations.put(Status.PUBLISHING, Duration.ofMinutes(5));
+		Schedule schedule = start();
+		assertThat(schedule.next(Status.PUBLISHING)).isEqualTo(FALLBACK_INTERVAL);
+		this.clock.advance(Duration.ofMinutes(4).plusSeconds(30));
+		assertThat(schedule.next(Status.PUBLISHING)).isEqualTo(Duration.ofSeconds(30));
+	}
+
+	@Test
+	void shouldUseFallbackIfPhaseTakesLongerThanExpected() {
+		this.history.expectedDurations.put(Status.VALIDATING, Duration.ofSeconds(20));
+		Schedule schedule = start();
+		assertThat(schedule.next(Status.VALIDATING)).isEqualTo(Duration.ofSeconds(20));
+		this.clock.advance(Duration.ofSeconds(20));
+		assertThat(schedule.next(Status.VALIDATING)).isEqualTo(FALLBACK_INTERVAL);
+	}
+
+	@Test
+	void shouldRecordPhaseDurationsOfSuccessfulDeployment() {
+		Schedule schedule = start();
+		schedule.next(Status.PENDING);
+		this.clock.advance(Duration.ofSeconds(2));
+		schedule.next(Status.VALIDATING);
+		this.clock.advance(Duration.ofSeconds(30));
+		schedule.next(Status.VALIDATING);
+		this.clock.advance(Duration.ofSeconds(2));
+		schedule.next(Status.PUBLISHING);
+		this.clock.advance(Duration.ofMinutes(4));
+		schedule.next(Status.PUBLISHING);
+		this.clock.advance(Duration.ofSeconds(2));
+		schedule.finished(Status.PUBLISHED);
+		assertThat(this.history.recorded).containsExactly(Map.of(Status.PENDING, Duration.ofSeconds(1),
+				Status.VALIDATING, Duration.ofSeconds(32), Status.PUBLISHING, Duration.ofSeconds(242)));
+	}
+
+	@Test
+	void shouldEstimateTransitionBetweenPolls() {
+		Schedule schedule = start();
+		schedule.next(Status.VALIDATING);
+		this.clock.advance(Duration.ofSeconds(10));
+		schedule.next(Status.VALIDATING);
+		// The status changed at some point in the 60 seconds between these polls
+		this.clock.advance(Duration.ofSeconds(60));
+		schedule.next(Status.PUBLISHING);
+		this.clock.advance(Duration.ofSeconds(10));
+		schedule.finished(Status.PUBLISHED);
+		assertThat(this.history.recorded).containsExactly(
+				Map.of(Status.VALIDATING, Duration.ofSeconds(40), Status.PUBLISHING, Duration.ofSeconds(35)));
+	}
+
+	@Test
+	void shouldNotRecordFailedDeployment() {
+		Schedule schedule = start();
+		schedule.next(Status.VALIDATING);
+		this.clock.advance(Duration.ofSeconds(30));
+		schedule.finished(Status.FAILED);
+		assertThat(this.history.recorded).isEmpty();
+	}
+
+	@Test
+	void shouldRecordPhasesAfterPublishingValidatedDeploymentSeparately() {
+		Schedule schedule = start();
+		schedule.next(Status.VALIDATING);
+		this.clock.advance(Duration.ofSeconds(30));
+		schedule.finished(Status.VALIDATED);
+		this.clock.advance(Duration.ofMinutes(10));
+		schedule.next(Status.PUBLISHING);
+		this.clock.advance(Duration.ofMinutes(4));
+		schedule.finished(Status.PUBLISHED);
+		assertThat(this.history.recorded).containsExactly(Map.of(Status.VALIDATING, Duration.ofSeconds(15)),
+				Map.of(Status.PUBLISHING, Duration.ofMinutes(2)));
+	}
+
+	private Schedule start() {
+		return new HistoryPollingStrategy(this.history, PollingStrategy.fixed(FALLBACK_INTERVAL), this.clock)
+			.start(BUNDLE_SIZE, 10);
+	}
+
+	private static final class InMemoryHistory implements DeploymentHistory {
+
+		private final Map<Status, Duration> expectedDurations = new EnumMap<>(Status.class);
+
+		private final List<Map<Status, Duration>> recorded = new ArrayList<>();
+
+		@Override
+		public Map<Status, Duration> getExpectedDurations(DataSize bundleSize, int fileCount) {
+			return this.expectedDurations;
+		}
+
+		@Override
+		public void record(DataSize bundleSize, int fileCount, Map<Status, Duration> durations) {
+			this.recorded.add(Map.copyOf(durations));
+		}
+
+	}
+
+	private static final class MutableClock extends Clock {
+
+		private Instant instant = Instant.parse("2025-01-01T00:00:00Z");
+
+		void advance(Duration duration) {
+			this.instant = this.instant.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Instant instant() {
+			return this.instant;
+		}
+
+	}
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.sonatype;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link TokenBucket}.
+ *
+ * @author Moritz Halbritter
+ */
+class TokenBucketTests {
+
+	private final AtomicLong nanoTime = new AtomicLong();
+
+	private final AtomicLong slept = new AtomicLong();
+
+	@Test
+	void shouldAllowBurstUpToCapacity() throws InterruptedException {
+		TokenBucket bucket = createBucket(1000, 5000);
+		bucket.acquire(5000);
+		assertThat(this.slept).hasValue(0);
+	}
+
+	@Test
+	void shouldWaitIfBucketIsEmpty() throws InterruptedException {
+		TokenBucket bucket = createBucket(1000, 1000);
+		bucket.acquire(1000);
+		bucket.acquire(500);
+		assertThat(Duration.ofNanos(this.slept.get())).isEqualTo(Duration.ofMillis(500));
+	}
+
+	@Test
+	void shouldRefillOverTime() throws InterruptedException {
+		TokenBucket bucket = createBucket(1000, 1000);
+		bucket.acquire(1000);
+		this.nanoTime.addAndGet(Duration.ofSeconds(1).toNanos());
+		bucket.acquire(1000);
+		assertThat(this.slept).hasValue(0);
+	}
+
+	@Test
+	void shouldNotRefillBeyondCapacity() throws InterruptedException {
+		TokenBucket bucket = createBucket(1000, 1000);
+		this.nanoTime.addAndGet(Duration.ofSeconds(10).toNanos());
+		bucket.acquire(3000);
+		assertThat(Duration.ofNanos(this.slept.get())).isEqualTo(Duration.ofSeconds(2));
+	}
+
+	@Test
+	void shouldHoldRateOverManySmallAcquires() throws InterruptedException {
+		TokenBucket bucket = createBucket(1000, 1000);
+		for (int i = 0; i < 110; i++) {
+			bucket.acquire(100);
+		}
+		// 1000 bytes burst, the remaining 10000 bytes take 10 seconds
+		assertThat(Duration.ofNanos(this.slept.get())).isEqualTo(Duration.ofSeconds(10));
+	}
+
+	@Test
+	void shouldNotHoldLockWhileSleeping() throws Exception {
+		List<Duration> sleeps = new CopyOnWriteArrayList<>();
+		CountDownLatch firstSleeping = new CountDownLatch(1);
+		CountDownLatch releaseFirst = new CountDownLatch(1);
+		TokenBucket bucket = new TokenBucket(1000, 1000, this.nanoTime::get, (duration) -> {
+			sleeps.add(duration);
+			if (sleeps.size() == 1) {
+				firstSleeping.countDown();
+				releaseFirst.await();
+			}
+		});
+		bucket.acquire(1000);
+		CompletableFuture<Void> first = CompletableFuture.runAsync(() -> acquire(bucket, 500));
+		assertThat(firstSleeping.await(5, TimeUnit.SECONDS)).isTrue();
+		// The second caller queues up behind the first caller's reservation
+		assertThat(CompletableFuture.runAsync(() -> acquire(bucket, 500))).succeedsWithin(Duration.ofSeconds(5));
+		releaseFirst.countDown();
+		assertThat(first).succeedsWithin(Duration.ofSeconds(5));
+		assertThat(sleeps).containsExactly(Duration.ofMillis(500), Duration.ofSeconds(1));
+	}
+
+	@Test
+	void shouldUseClock() throws InterruptedException {
+		Instant start = Instant.parse("2026-01-01T00:00:00Z");
+		TokenBucket bucket = new TokenBucket(1000, Clock.fixed(start, ZoneOffset.UTC),
+				(duration) -> this.slept.addAndGet(duration.toNanos()));
+		bucket.acquire(1500);
+		assertThat(Duration.ofNanos(this.slept.get())).isEqualTo(Duration.ofMillis(500));
+	}
+
+	@Test
+	void shouldRejectNonPositiveRate() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new TokenBucket(0, Clock.systemUTC(), CentralPortalApi.Sleeper.thread()))
+			.withMessage("'bytesPerSecond' must be greater than 0");
+	}
+
+	private static void acquire(TokenBucket bucket, long count) {
+		try {
+			bucket.acquire(count);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private TokenBucket createBucket(long bytesPerSecond, long capacity) {
+		return new TokenBucket(bytesPerSecond, capacity, this.nanoTime::get, (duration) -> {
+			this.slept.addAndGet(duration.toNanos());
+			this.nanoTime.addAndGet(duration.toNanos());
+		});
+	}
+
+}
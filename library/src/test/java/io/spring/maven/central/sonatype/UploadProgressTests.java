@@ -0,0 +1,110 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.sonatype;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.spring.maven.central.log.Logger;
+import org.junit.jupiter.api.Test;
+import org.slf4j.helpers.MessageFormatter;
+
+import org.springframework.util.unit.DataSize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link UploadProgress}.
+ *
+ * @author Moritz Halbritter
+ */
+class UploadProgressTests {
+
+	private static final long MEGABYTE = 1024 * 1024;
+
+	private final AtomicLong nanoTime = new AtomicLong();
+
+	private final RecordingLogger logger = new RecordingLogger();
+
+	@Test
+	void shouldReportProgressWithEta() {
+		UploadProgress progress = new UploadProgress(this.logger, DataSize.ofMegabytes(10), Duration.ofSeconds(1),
+				this.nanoTime::get);
+		this.nanoTime.set(Duration.ofSeconds(2).toNanos());
+		progress.sent(4 * MEGABYTE);
+		assertThat(this.logger.messages).containsExactly("Uploaded 4194304B of 10485760B, 40% (2.00 MB/s, ETA 3s) ...");
+	}
+
+	@Test
+	void shouldReportProgressWithoutTotal() {
+		UploadProgress progress = new UploadProgress(this.logger, null, Duration.ofSeconds(1), this.nanoTime::get);
+		this.nanoTime.set(Duration.ofSeconds(2).toNanos());
+		progress.sent(MEGABYTE);
+		assertThat(this.logger.messages).containsExactly("Uploaded 1048576B (0.50 MB/s) ...");
+	}
+
+	@Test
+	void shouldThrottleReports() {
+		UploadProgress progress = new UploadProgress(this.logger, null, Duration.ofSeconds(10), this.nanoTime::get);
+		for (int i = 1; i <= 25; i++) {
+			this.nanoTime.set(Duration.ofSeconds(i).toNanos());
+			progress.sent(MEGABYTE);
+		}
+		assertThat(this.logger.messages).hasSize(2);
+	}
+
+	@Test
+	void startShouldResetMeasurement() {
+		UploadProgress progress = new UploadProgress(this.logger, null, Duration.ofMinutes(1), this.nanoTime::get);
+		progress.sent(MEGABYTE);
+		this.nanoTime.set(Duration.ofSeconds(10).toNanos());
+		progress.start();
+		this.nanoTime.set(Duration.ofSeconds(12).toNanos());
+		progress.sent(2 * MEGABYTE);
+		progress.finish();
+		assertThat(this.logger.summaries).containsExactly("Uploaded 2097152B in 2000 ms (1.00 MB/s)");
+	}
+
+	private static final class RecordingLogger implements Logger {
+
+		private final List<String> messages = new ArrayList<>();
+
+		private final List<String> summaries = new ArrayList<>();
+
+		@Override
+		public void log(String message, Object... args) {
+			this.messages.add(MessageFormatter.arrayFormat(message, args).getMessage());
+		}
+
+		@Override
+		public void error(String message, Object... args) {
+		}
+
+		@Override
+		public void debug(String message, Object... args) {
+		}
+
+		@Override
+		public void summary(String message, Object... args) {
+			this.summaries.add(MessageFormatter.arrayFormat(message, args).getMessage());
+		}
+
+	}
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.util;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link Concurrency}.
+ *
+ * @author Moritz Halbritter
+ */
+class ConcurrencyTests {
+
+	@Test
+	void shouldReturnRuntimeExceptions() {
+		IllegalArgumentException ex = new IllegalArgumentException("boom");
+		assertThat(Concurrency.rethrow(ex, "Failed")).isSameAs(ex);
+	}
+
+	@Test
+	void shouldThrowErrors() {
+		assertThatExceptionOfType(OutOfMemoryError.class)
+			.isThrownBy(() -> Concurrency.rethrow(new OutOfMemoryError("boom"), "Failed"));
+	}
+
+	@Test
+	void shouldWrapCheckedExceptions() {
+		IOException ex = new IOException("boom");
+		assertThat(Concurrency.rethrow(ex, "Failed")).isInstanceOf(IllegalStateException.class)
+			.hasMessage("Failed")
+			.hasCause(ex);
+	}
+
+	@Test
+	void shouldThrowCheckedExceptionsOfGivenType() {
+		assertThatIOException()
+			.isThrownBy(() -> Concurrency.rethrow(new IOException("boom"), IOException.class, "Failed"))
+			.withMessage("boom");
+	}
+
+	@Test
+	void shouldBoundConcurrentTasksByPermits() throws Exception {
+		Semaphore permits = new Semaphore(2);
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			List<Future<Integer>> futures = new ArrayList<>();
+			for (int i = 0; i < 10; i++) {
+				int task = i;
+				futures.add(executor.submit(() -> Concurrency.callWithPermit(permits, () -> {
+					maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+					Concurrency.sleep(Duration.ofMillis(10));
+					running.decrementAndGet();
+					return task;
+				})));
+			}
+			for (int i = 0; i < futures.size(); i++) {
+				assertThat(futures.get(i).get()).isEqualTo(i);
+			}
+		}
+		assertThat(maxRunning).hasValueBetween(1, 2);
+		assertThat(permits.availablePermits()).isEqualTo(2);
+	}
+
+	@Test
+	void shouldReleasePermitIfTaskFails() {
+		Semaphore permits = new Semaphore(1);
+		assertThatIOException().isThrownBy(() -> Concurrency.callWithPermit(permits, () -> {
+			throw new IOException("boom");
+		}));
+		assertThat(permits.availablePermits()).isEqualTo(1);
+	}
+
+	@Test
+	void shouldRestoreInterruptFlagWhenInterruptedWhileSleeping() {
+		Thread.currentThread().interrupt();
+		try {
+			assertThatIllegalStateException().isThrownBy(() -> Concurrency.sleep(Duration.ofSeconds(1)))
+				.withMessage("Got interrupted while sleeping");
+			assertThat(Thread.currentThread().isInterrupted()).isTrue();
+		}
+		finally {
+			Thread.interrupted();
+		}
+	}
+
+}
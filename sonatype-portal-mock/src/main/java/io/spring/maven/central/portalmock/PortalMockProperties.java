@@ -19,6 +19,8 @@ package io.spring.maven.central.portalmock;
 import java.time.Duration;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
@@ -54,6 +56,10 @@ public class PortalMockProperties {
 		@NotNull
 		private Duration delayBetweenSteps = Duration.ZERO;
 
+		@Min(0)
+		@Max(1)
+		private double uploadFailureRate;
+
 		public Duration getDelayBetweenSteps() {
 			return this.delayBetweenSteps;
 		}
@@ -62,6 +68,14 @@ public class PortalMockProperties {
 			this.delayBetweenSteps = delayBetweenSteps;
 		}
 
+		public double getUploadFailureRate() {
+			return this.uploadFailureRate;
+		}
+
+		public void setUploadFailureRate(double uploadFailureRate) {
+			this.uploadFailureRate = uploadFailureRate;
+		}
+
 	}
 
 	@Validated
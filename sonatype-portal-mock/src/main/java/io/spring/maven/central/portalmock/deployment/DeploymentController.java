@@ -17,10 +17,14 @@
 package io.spring.maven.central.portalmock.deployment;
 
 import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
 
+import io.spring.maven.central.portalmock.PortalMockProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -42,8 +46,19 @@ class DeploymentController {
 
 	private final Deployments deployments;
 
-	DeploymentController(Deployments deployments) {
+	private final double uploadFailureRate;
+
+	private final DoubleSupplier random;
+
+	@Autowired
+	DeploymentController(Deployments deployments, PortalMockProperties properties) {
+		this(deployments, properties, () -> ThreadLocalRandom.current().nextDouble());
+	}
+
+	DeploymentController(Deployments deployments, PortalMockProperties properties, DoubleSupplier random) {
 		this.deployments = deployments;
+		this.uploadFailureRate = properties.getDeployment().getUploadFailureRate();
+		this.random = random;
 	}
 
 	@PostMapping(path = "/api/v1/publisher/upload")
@@ -52,6 +67,10 @@ class DeploymentController {
 			@RequestParam("bundle") MultipartFile file) {
 		LOGGER.info("Received upload request for name {} and publishingType {}, {} bytes", name, publishingType,
 				file.getSize());
+		if (this.random.getAsDouble() < this.uploadFailureRate) {
+			LOGGER.info("Injecting failure for upload request for name {}", name);
+			return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("Injected failure");
+		}
 		String id = this.deployments.create(name, Deployment.PublishingType.parse(publishingType), file.getResource());
 		LOGGER.info("Created deployment {}", id);
 		return ResponseEntity.status(HttpStatus.CREATED).body(id);
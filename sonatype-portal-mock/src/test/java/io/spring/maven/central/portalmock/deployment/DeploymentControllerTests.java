@@ -0,0 +1,85 @@
+/*
+ * Copyright 2025 - present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.maven.central.portalmock.deployment;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import io.spring.maven.central.portalmock.PortalMockProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockMultipartFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link DeploymentController}.
+ *
+ * @author Moritz Halbritter
+ */
+class DeploymentControllerTests {
+
+	@TempDir
+	private Path tempDir;
+
+	@Test
+	void shouldFailUploadIfRandomIsBelowFailureRate() {
+		DeploymentController controller = createController(0.5, 0.49);
+		ResponseEntity<String> response = controller.upload("deployment", "AUTOMATIC", bundle());
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+		assertThat(response.getBody()).isEqualTo("Injected failure");
+	}
+
+	@Test
+	void shouldAcceptUploadIfRandomIsAtFailureRate() {
+		DeploymentController controller = createController(0.5, 0.5);
+		ResponseEntity<String> response = controller.upload("deployment", "AUTOMATIC", bundle());
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+		assertThat(response.getBody()).isEqualTo("1");
+	}
+
+	@Test
+	void shouldNeverFailUploadIfFailureRateIsZero() {
+		DeploymentController controller = createController(0, 0);
+		ResponseEntity<String> response = controller.upload("deployment", "AUTOMATIC", bundle());
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+	}
+
+	@Test
+	void shouldAlwaysFailUploadIfFailureRateIsOne() {
+		DeploymentController controller = createController(1, 0.99);
+		ResponseEntity<String> response = controller.upload("deployment", "AUTOMATIC", bundle());
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+	}
+
+	private DeploymentController createController(double uploadFailureRate, double random) {
+		Deployments deployments = new Deployments(this.tempDir, () -> "1", new SimpleAsyncTaskExecutor(),
+				new BundleValidator(), new PublishedDeployments(), Duration.ZERO);
+		PortalMockProperties properties = new PortalMockProperties();
+		properties.getDeployment().setUploadFailureRate(uploadFailureRate);
+		return new DeploymentController(deployments, properties, () -> random);
+	}
+
+	private static MockMultipartFile bundle() {
+		return new MockMultipartFile("bundle", "bundle.zip", "application/zip", new byte[] { 1, 2, 3 });
+	}
+
+}